@@ -0,0 +1,187 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.comm;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking http requests in the background for the asynchronous methods
+ * of {@link HttpClient}. Requests to each host are limited to a maximum number
+ * running at once and any more are queued, in order, until one finishes. The
+ * thread that finishes a request runs the next request queued for the same
+ * host so the number of threads never exceeds the number of requests running.
+ * When the queue of a host is full new requests fail immediately so callers
+ * cannot queue an unbounded amount of work.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+class AsyncRequestDispatcher {
+
+    private static class HostQueue {
+
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+
+        private int running = 0;
+    }
+
+    private final int maxRunning;
+
+    private final int maxPending;
+
+    private final ExecutorService executor;
+
+    private final Map<String, HostQueue> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxRunning
+     *            the maximum number of requests to run at once for each host
+     * @param maxPending
+     *            the maximum number of requests to queue for each host
+     */
+    public AsyncRequestDispatcher(int maxRunning, int maxPending) {
+        this.maxRunning = Math.max(1, maxRunning);
+        this.maxPending = Math.max(0, maxPending);
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread thread = new Thread(r,
+                    "HttpClient-async-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60,
+                TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                threadFactory);
+    }
+
+    /**
+     * Run a request in the background.
+     *
+     * @param host
+     *            the host the request is sent to
+     * @param request
+     *            performs the request and returns the result
+     * @return a future that completes with the result of the request. If the
+     *         future is cancelled before the request starts the request is
+     *         skipped.
+     */
+    public <T> CompletableFuture<T> submit(String host, Callable<T> request) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(request.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        HostQueue queue = hosts.computeIfAbsent(host, k -> new HostQueue());
+        synchronized (queue) {
+            if (queue.running >= maxRunning) {
+                if (queue.pending.size() >= maxPending) {
+                    future.completeExceptionally(new CommunicationException(
+                            "Too many requests queued for " + host + ": "
+                                    + queue.pending.size()
+                                    + " waiting and " + queue.running
+                                    + " running"));
+                } else {
+                    queue.pending.add(task);
+                }
+                return future;
+            }
+            queue.running += 1;
+        }
+        try {
+            executor.execute(() -> drain(queue, task));
+        } catch (RejectedExecutionException e) {
+            synchronized (queue) {
+                queue.running -= 1;
+            }
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Run a task and then every task queued for the same host until the queue
+     * is empty.
+     */
+    private void drain(HostQueue queue, Runnable task) {
+        while (task != null) {
+            task.run();
+            synchronized (queue) {
+                task = queue.pending.poll();
+                if (task == null) {
+                    queue.running -= 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of requests waiting to run, for all hosts
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (HostQueue queue : hosts.values()) {
+            synchronized (queue) {
+                count += queue.pending.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of requests running, for all hosts
+     */
+    public int getRunningCount() {
+        int count = 0;
+        for (HostQueue queue : hosts.values()) {
+            synchronized (queue) {
+                count += queue.running;
+            }
+        }
+        return count;
+    }
+
+}
@@ -24,14 +24,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.lang.management.ManagementFactory;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPOutputStream;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import javax.net.ssl.SSLPeerUnverifiedException;
 
 import org.apache.http.Header;
@@ -44,6 +51,7 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.AuthCache;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.config.AuthSchemes;
+import org.apache.http.client.methods.AbstractExecutionAwareRequest;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
@@ -56,6 +64,7 @@ import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.BasicAuthCache;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.execchain.RequestAbortedException;
 import org.apache.http.util.EntityUtils;
 
 import com.raytheon.uf.common.comm.stream.DynamicSerializeEntity;
@@ -110,6 +119,13 @@ import com.raytheon.uf.common.util.rate.TokenBucket;
  * Feb 22, 2016  5306        njensen     Get new HttpClientContext if host or port change
  * Nov 29, 2016  5937        tgurney     Add optional rate limiting to postDynamicSerialize
  * Mar 24, 2017  DR 19830    D. Friedman Retry with delay on connection or 503 errors.
+ * Oct 16, 2026              agent       Accept dictionary encoded dynamic
+ *                                        serialize responses
+ * Oct 17, 2026              agent       Added asynchronous postBinary and
+ *                                        postDynamicSerialize
+ * Oct 17, 2026              agent       Record latency, retries, timeouts and
+ *                                        failures in the network statistics
+ * Oct 17, 2026              agent       Do not retry requests that were aborted
  *
  * </pre>
  *
@@ -150,6 +166,17 @@ public class HttpClient {
 
     private static final String WWW_AUTHENTICATE = "WWW-Authenticate";
 
+    /**
+     * Accept header for dynamic serialize responses. Servers that support it
+     * respond with struct names encoded in a dictionary, older servers ignore
+     * it and respond with the original encoding. Both are readable.
+     */
+    private static final String DYNAMIC_SERIALIZE_ACCEPT = "application/dynamic-serialize-v2, application/dynamic-serialize";
+
+    private static final boolean ACCEPT_STRUCT_DICTIONARY = Boolean
+            .parseBoolean(System.getProperty("thrift.struct.dictionary",
+                    "true"));
+
     private boolean previousConnectionFailed;
 
     private static volatile HttpClient instance;
@@ -178,6 +205,8 @@ public class HttpClient {
 
     private volatile CloseableHttpClient client;
 
+    private volatile AsyncRequestDispatcher asyncDispatcher;
+
     private final HttpClientConfig config;
 
     /**
@@ -262,6 +291,28 @@ public class HttpClient {
         return client;
     }
 
+    /**
+     * @return the dispatcher for asynchronous requests
+     */
+    private AsyncRequestDispatcher getAsyncDispatcher() {
+        if (asyncDispatcher == null) {
+            synchronized (this) {
+                if (asyncDispatcher == null) {
+                    /*
+                     * Never run more requests at once than the connection pool
+                     * allows so asynchronous requests wait in the queue instead
+                     * of timing out waiting for a connection.
+                     */
+                    int maxRequests = Math.min(config.getMaxAsyncRequests(),
+                            config.getMaxConnections());
+                    asyncDispatcher = new AsyncRequestDispatcher(maxRequests,
+                            config.getMaxQueuedAsyncRequests());
+                }
+            }
+        }
+        return asyncDispatcher;
+    }
+
     /**
      * Sets whether or not to compress the outgoing requests to reduce bandwidth
      * sent by the client.
@@ -284,6 +335,7 @@ public class HttpClient {
                     HttpClientConfig config = HttpClientConfigBuilder
                             .defaultConfig();
                     instance = new HttpClient(config);
+                    registerGlobalStats(instance);
                 }
             }
         }
@@ -312,10 +364,32 @@ public class HttpClient {
                         + " used before global configuration was set.");
             }
             instance = new HttpClient(config);
+            registerGlobalStats(instance);
         }
         return instance;
     }
 
+    /**
+     * Make the network statistics of the global instance available through
+     * JMX, replacing the statistics of any previous global instance.
+     *
+     * @param client
+     */
+    private static void registerGlobalStats(HttpClient client) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(
+                    "com.raytheon.uf.common.comm:type=NetworkStatistics");
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(client.stats, name);
+        } catch (JMException e) {
+            statusHandler.debug(
+                    "Unable to register network statistics with JMX", e);
+        }
+    }
+
     /**
      * Post a message to an http address, and return the result as a string.
      *
@@ -446,6 +520,7 @@ public class HttpClient {
         boolean retry = true;
         HttpResponse resp = null;
         AtomicInteger ongoing = null;
+        long startTime = System.nanoTime();
 
         try {
             String host = put.getURI().getHost();
@@ -490,20 +565,41 @@ public class HttpClient {
                          * may just go to the same server again.
                          */
                         put.abort();
+                        /*
+                         * Clear the abort so the retry can be sent, only an
+                         * abort from cancelling the request stops retries.
+                         */
+                        if (put instanceof AbstractExecutionAwareRequest) {
+                            ((AbstractExecutionAwareRequest) put).reset();
+                        }
                         wantRetryDelay = true;
                         errorMsg = "Service unavailable";
                         exc = new CommunicationException(errorMsg);
                     }
                 } catch (ConnectionPoolTimeoutException e) {
+                    stats.logTimeout();
                     errorMsg = "Timed out waiting for http connection from pool: "
                             + e.getMessage();
                     errorMsg += ".  Currently " + ongoing.get()
                             + " requests ongoing";
                     exc = e;
                 } catch (SSLPeerUnverifiedException e) {
+                    stats.logFailure();
                     errorMsg = "Problem with security certificates.\nCannot make a secure connection.\nContact server administrator";
                     throw new CommunicationException(errorMsg, e);
                 } catch (IOException e) {
+                    if (put.isAborted()
+                            || e instanceof RequestAbortedException) {
+                        /*
+                         * The request was cancelled, retrying it would only
+                         * hold the connection until the retries run out.
+                         */
+                        throw new CommunicationException("Request aborted",
+                                e);
+                    }
+                    if (e instanceof SocketTimeoutException) {
+                        stats.logTimeout();
+                    }
                     errorMsg = "Error occurred communicating with server: "
                             + e.getMessage();
                     exc = e;
@@ -512,6 +608,7 @@ public class HttpClient {
 
                 if (errorMsg != null && exc != null) {
                     if (tries > retryCount) {
+                        stats.logFailure();
                         previousConnectionFailed = true;
                         // close/abort connection
                         if (put != null) {
@@ -521,6 +618,7 @@ public class HttpClient {
                         throw new CommunicationException(errorMsg, exc);
                     } else {
                         errorMsg += ".  Retrying...";
+                        stats.logRetry();
                         statusHandler.handle(Priority.INFO, errorMsg);
                         if (wantRetryDelay) {
                             try {
@@ -551,6 +649,7 @@ public class HttpClient {
             }
 
             processResponse(resp, handlerCallback);
+            stats.logLatency(System.nanoTime() - startTime);
             byte[] byteResult = null;
             if (handlerCallback instanceof DefaultInternalStreamHandler) {
                 byteResult = ((DefaultInternalStreamHandler) handlerCallback).byteResult;
@@ -638,7 +737,36 @@ public class HttpClient {
      */
     public byte[] postBinary(String address, byte[] message)
             throws CommunicationException, Exception {
+        return executePostMethod(createBinaryPost(address, message));
+    }
+
+    /**
+     * Post a message to an http address without waiting for the response. The
+     * request is sent in the background, at most
+     * {@link HttpClientConfig#getMaxAsyncRequests()} requests are sent to a
+     * host at once and the rest are queued.
+     *
+     * @param address
+     * @param message
+     * @return a future that completes with the response, or completes
+     *         exceptionally if the request fails or too many requests are
+     *         already queued. Cancelling the future aborts the request.
+     */
+    public CompletableFuture<byte[]> postBinaryAsync(String address,
+            byte[] message) {
+        HttpPost put;
+        try {
+            put = createBinaryPost(address, message);
+        } catch (Exception e) {
+            CompletableFuture<byte[]> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return executeAsync(put, () -> executePostMethod(put));
+    }
 
+    private HttpPost createBinaryPost(String address, byte[] message)
+            throws IOException {
         HttpPost put = new HttpPost(address);
         if (gzipRequests) {
             PooledByteArrayOutputStream byteStream = ByteArrayOutputStreamPool
@@ -656,8 +784,7 @@ public class HttpClient {
         }
 
         put.setEntity(new ByteArrayEntity(message));
-
-        return executePostMethod(put);
+        return put;
     }
 
     /**
@@ -682,6 +809,48 @@ public class HttpClient {
     public Object postDynamicSerialize(String address, Object obj,
             boolean stream, TokenBucket rateLimiter)
             throws CommunicationException, Exception {
+        return executeDynamicSerialize(
+                createDynamicSerializePost(address, obj, stream, rateLimiter));
+    }
+
+    /**
+     * Transforms the object into bytes and posts it to the server at the
+     * address without waiting for the response. The request is sent in the
+     * background, at most {@link HttpClientConfig#getMaxAsyncRequests()}
+     * requests are sent to a host at once and the rest are queued. This allows
+     * many requests to be made at once without a thread for each one.
+     *
+     * @param address
+     *            the address to post to
+     * @param obj
+     *            the object to transform and send
+     * @param stream
+     *            if the request should be streamed if possible
+     * @param rateLimiter
+     *            if not null, will be used to limit the output rate by
+     *            consuming one token per byte sent.
+     * @return a future that completes with the deserialized object response,
+     *         or completes exceptionally if the request fails or too many
+     *         requests are already queued. Cancelling the future aborts the
+     *         request.
+     */
+    public CompletableFuture<Object> postDynamicSerializeAsync(String address,
+            Object obj, boolean stream, TokenBucket rateLimiter) {
+        HttpPost put = createDynamicSerializePost(address, obj, stream,
+                rateLimiter);
+        return executeAsync(put, () -> executeDynamicSerialize(put));
+    }
+
+    /**
+     * @see #postDynamicSerializeAsync(String, Object, boolean, TokenBucket)
+     */
+    public CompletableFuture<Object> postDynamicSerializeAsync(String address,
+            Object obj, boolean stream) {
+        return postDynamicSerializeAsync(address, obj, stream, null);
+    }
+
+    private HttpPost createDynamicSerializePost(String address, Object obj,
+            boolean stream, TokenBucket rateLimiter) {
         HttpPost put = new HttpPost(address);
         DynamicSerializeEntity dse = new DynamicSerializeEntity(obj, stream,
                 gzipRequests);
@@ -692,6 +861,14 @@ public class HttpClient {
         if (gzipRequests) {
             put.setHeader("Content-Encoding", "gzip");
         }
+        if (ACCEPT_STRUCT_DICTIONARY) {
+            put.setHeader("Accept", DYNAMIC_SERIALIZE_ACCEPT);
+        }
+        return put;
+    }
+
+    private Object executeDynamicSerialize(HttpPost put)
+            throws CommunicationException {
         // always stream the response for memory efficiency
         DynamicSerializeStreamHandler handlerCallback = new DynamicSerializeStreamHandler();
         HttpClientResponse resp = this.process(put, handlerCallback);
@@ -700,6 +877,36 @@ public class HttpClient {
         return handlerCallback.getResponseObject();
     }
 
+    /**
+     * Execute a request in the background with the async dispatcher.
+     *
+     * @param request
+     *            the request, aborted if the returned future is cancelled
+     * @param execute
+     *            executes the request and returns the result
+     * @return a future for the result
+     */
+    private <T> CompletableFuture<T> executeAsync(HttpUriRequest request,
+            Callable<T> execute) {
+        String host = request.getURI().getHost();
+        CompletableFuture<T> future = getAsyncDispatcher()
+                .submit(host == null ? "" : host, execute);
+        future.whenComplete((result, t) -> {
+            if (future.isCancelled()) {
+                request.abort();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * @return the number of asynchronous requests waiting to be sent
+     */
+    public int getQueuedAsyncRequests() {
+        AsyncRequestDispatcher dispatcher = asyncDispatcher;
+        return dispatcher == null ? 0 : dispatcher.getPendingCount();
+    }
+
     /**
      * Transforms the object into bytes and posts it to the server at the
      * address. If gzip requests are enabled the object will be transformed into
@@ -35,6 +35,8 @@ package com.raytheon.uf.common.comm;
  * Jul 06, 2015 4614       njensen      Add gzipEnabled
  * Dec 07, 2015 4834       njensen      Changes for rename of IHttpsHandler to HttpAuthHandler
  * Mar 24, 2017  DR 19830  D. Friedman  Add retryDelay
+ * Oct 17, 2026            agent        Add maxAsyncRequests and
+ *                                      maxQueuedAsyncRequests
  * 
  * </pre>
  * 
@@ -59,6 +61,10 @@ public class HttpClientConfig {
 
     private int retryDelay;
 
+    private final int maxAsyncRequests;
+
+    private final int maxQueuedAsyncRequests;
+
     /**
      * Protected constructor used by builder.
      * 
@@ -69,12 +75,16 @@ public class HttpClientConfig {
      * @param tcpNoDelay
      * @param expectContinueEnabled
      * @param gzipEnabled
+     * @param retryDelay
+     * @param maxAsyncRequests
+     * @param maxQueuedAsyncRequests
      * 
      */
     protected HttpClientConfig(int socketTimeout, int connectionTimeout,
             int maxConnections, HttpAuthHandler handler, boolean tcpNoDelay,
             boolean expectContinueEnabled, boolean gzipEnabled,
-            int retryDelay) {
+            int retryDelay, int maxAsyncRequests,
+            int maxQueuedAsyncRequests) {
         /*
          * This is protected to limit required changes if the arguments change
          * in the future. Callers should use the builder to construct configs.
@@ -87,6 +97,8 @@ public class HttpClientConfig {
         this.expectContinueEnabled = expectContinueEnabled;
         this.gzipEnabled = gzipEnabled;
         this.retryDelay = retryDelay;
+        this.maxAsyncRequests = maxAsyncRequests;
+        this.maxQueuedAsyncRequests = maxQueuedAsyncRequests;
     }
 
     /**
@@ -139,4 +151,20 @@ public class HttpClientConfig {
         return retryDelay;
     }
 
+    /**
+     * @return the maximum number of asynchronous requests sent to a host at
+     *         once
+     */
+    public int getMaxAsyncRequests() {
+        return maxAsyncRequests;
+    }
+
+    /**
+     * @return the maximum number of asynchronous requests waiting to be sent
+     *         to a host
+     */
+    public int getMaxQueuedAsyncRequests() {
+        return maxQueuedAsyncRequests;
+    }
+
 }
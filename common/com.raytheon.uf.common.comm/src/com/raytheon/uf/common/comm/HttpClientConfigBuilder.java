@@ -36,6 +36,8 @@ package com.raytheon.uf.common.comm;
  * Dec 07, 2015  4834      njensen      Changed for rename of IHttpsHandler to HttpAuthHandler
  * Mar 24, 2017  DR 19830  D. Friedman  Add retryDelay
  * Jan 1, 2022		   tiffanym@ucar.edu	increase maxConnections from 10 to 1000
+ * Oct 17, 2026            agent        Add maxAsyncRequests and
+ *                                      maxQueuedAsyncRequests
  * 
  * </pre>
  * 
@@ -60,6 +62,10 @@ public class HttpClientConfigBuilder {
 
     private int retryDelay = 6000;
 
+    private int maxAsyncRequests = 32;
+
+    private int maxQueuedAsyncRequests = 1024;
+
     /**
      * 
      */
@@ -79,6 +85,8 @@ public class HttpClientConfigBuilder {
         this.setTcpNoDelay(config.isTcpNoDelay());
         this.setExpectContinueEnabled(config.isExpectContinueEnabled());
         this.setRetryDelay(config.getRetryDelay());
+        this.setMaxAsyncRequests(config.getMaxAsyncRequests());
+        this.setMaxQueuedAsyncRequests(config.getMaxQueuedAsyncRequests());
     }
 
     public static HttpClientConfig defaultConfig() {
@@ -91,7 +99,8 @@ public class HttpClientConfigBuilder {
     public HttpClientConfig build() {
         return new HttpClientConfig(socketTimeout, connectionTimeout,
                 maxConnections, httpAuthHandler, tcpNoDelay,
-                expectContinueEnabled, gzipEnabled, retryDelay);
+                expectContinueEnabled, gzipEnabled, retryDelay,
+                maxAsyncRequests, maxQueuedAsyncRequests);
     }
 
     /**
@@ -149,6 +158,25 @@ public class HttpClientConfigBuilder {
         return this;
     }
 
+    /**
+     * @param maxAsyncRequests
+     *            the maxAsyncRequests to set
+     */
+    public HttpClientConfigBuilder withMaxAsyncRequests(int maxAsyncRequests) {
+        this.maxAsyncRequests = maxAsyncRequests;
+        return this;
+    }
+
+    /**
+     * @param maxQueuedAsyncRequests
+     *            the maxQueuedAsyncRequests to set
+     */
+    public HttpClientConfigBuilder withMaxQueuedAsyncRequests(
+            int maxQueuedAsyncRequests) {
+        this.maxQueuedAsyncRequests = maxQueuedAsyncRequests;
+        return this;
+    }
+
     /**
      * @return the socketTimeout
      */
@@ -255,4 +283,20 @@ public class HttpClientConfigBuilder {
         this.retryDelay = retryDelay;
     }
 
+    public int getMaxAsyncRequests() {
+        return maxAsyncRequests;
+    }
+
+    public void setMaxAsyncRequests(int maxAsyncRequests) {
+        this.maxAsyncRequests = maxAsyncRequests;
+    }
+
+    public int getMaxQueuedAsyncRequests() {
+        return maxQueuedAsyncRequests;
+    }
+
+    public void setMaxQueuedAsyncRequests(int maxQueuedAsyncRequests) {
+        this.maxQueuedAsyncRequests = maxQueuedAsyncRequests;
+    }
+
 }
@@ -19,13 +19,26 @@
  **/
 package com.raytheon.uf.common.comm;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.raytheon.uf.common.util.stats.LogLinearHistogram;
+import com.raytheon.uf.common.util.stats.SlidingWindowCounter;
 
 /**
  * Class for logging network sent/received amounts for various types
  * 
+ * Statistics are recorded without locking so many threads can complete
+ * requests at once. Along with the message and byte counts each type records
+ * the round trip latency of its requests and the rate bytes are sent and
+ * received over the last {@value #WINDOW_SECONDS} seconds. The total traffic
+ * also counts the retries, timeouts and failures of every http request.
+ * 
  * <pre>
  * 
  * SOFTWARE HISTORY
@@ -35,6 +48,8 @@ import java.util.Map;
  * Nov 1, 2011             mschenke    Initial creation
  * Jan 27, 2016 5170       tjensen     Improve network statistic to track messages,
  *                                      byte tracking only performed when configured
+ * Oct 17, 2026            agent       Lock free, added latency, byte rates,
+ *                                      retries, timeouts and failures
  * 
  * </pre>
  * 
@@ -42,17 +57,33 @@ import java.util.Map;
  * @version 1.0
  */
 
-public class NetworkStatistics {
+public class NetworkStatistics implements NetworkStatisticsMXBean {
+
+    /** The longest window that byte rates can be calculated over */
+    public static final int WINDOW_SECONDS = 300;
 
     public static class NetworkTraffic {
 
-        private String identifier;
+        private final String identifier;
+
+        private final LongAdder bytesSent;
+
+        private final LongAdder bytesReceived;
+
+        private final LongAdder requestCount;
+
+        private final LongAdder retryCount;
+
+        private final LongAdder timeoutCount;
+
+        private final LongAdder failureCount;
 
-        private long bytesSent;
+        /** in microseconds */
+        private final LogLinearHistogram latency;
 
-        private long bytesReceived;
+        private final SlidingWindowCounter sentWindow;
 
-        private long requestCount;
+        private final SlidingWindowCounter receivedWindow;
 
         /**
          * Stores the value of the System Property used to configure if
@@ -68,18 +99,70 @@ public class NetworkStatistics {
 
         private NetworkTraffic(String identifier) {
             this.identifier = identifier;
+            this.bytesSent = new LongAdder();
+            this.bytesReceived = new LongAdder();
+            this.requestCount = new LongAdder();
+            this.retryCount = new LongAdder();
+            this.timeoutCount = new LongAdder();
+            this.failureCount = new LongAdder();
+            this.latency = new LogLinearHistogram();
+            this.sentWindow = new SlidingWindowCounter(WINDOW_SECONDS);
+            this.receivedWindow = new SlidingWindowCounter(WINDOW_SECONDS);
+        }
+
+        private NetworkTraffic(NetworkTraffic other) {
+            this.identifier = other.identifier;
+            this.bytesSent = copy(other.bytesSent);
+            this.bytesReceived = copy(other.bytesReceived);
+            this.requestCount = copy(other.requestCount);
+            this.retryCount = copy(other.retryCount);
+            this.timeoutCount = copy(other.timeoutCount);
+            this.failureCount = copy(other.failureCount);
+            this.latency = other.latency.copy();
+            this.sentWindow = other.sentWindow.copy();
+            this.receivedWindow = other.receivedWindow.copy();
+        }
+
+        private static LongAdder copy(LongAdder adder) {
+            LongAdder copy = new LongAdder();
+            copy.add(adder.sum());
+            return copy;
         }
 
         private void addBytesSent(long sent) {
-            bytesSent += sent;
+            bytesSent.add(sent);
+            sentWindow.add(sent);
         }
 
         private void addBytesReceived(long received) {
-            bytesReceived += received;
+            bytesReceived.add(received);
+            receivedWindow.add(received);
         }
 
         private void incrementRequestCount() {
-            requestCount += 1;
+            requestCount.increment();
+        }
+
+        /**
+         * Only log bytes if byte stats are enabled and if the number
+         * sent/received is greater than 1. Byte counts for compressed messages
+         * or messages of unknown length may return -1. Requests known to be
+         * compressed may also pass a bytes size of '1' to trigger the
+         * incrementing of the request count. Any sizes greater than 1 can be
+         * assumed to be 'real' sizes.
+         */
+        private void log(long bytesSent, long bytesReceived) {
+            if (doByteStats) {
+                if (bytesSent > 1) {
+                    addBytesSent(bytesSent);
+                }
+                if (bytesReceived > 1) {
+                    addBytesReceived(bytesReceived);
+                }
+            }
+            if (bytesSent > 0) {
+                incrementRequestCount();
+            }
         }
 
         public boolean isDoByteStats() {
@@ -87,15 +170,84 @@ public class NetworkStatistics {
         }
 
         public long getBytesSent() {
-            return bytesSent;
+            return bytesSent.sum();
         }
 
         public long getBytesReceived() {
-            return bytesReceived;
+            return bytesReceived.sum();
         }
 
         public long getRequestCount() {
-            return requestCount;
+            return requestCount.sum();
+        }
+
+        /**
+         * @return the number of times a request was retried, only recorded in
+         *         the total traffic.
+         */
+        public long getRetryCount() {
+            return retryCount.sum();
+        }
+
+        /**
+         * @return the number of times a request timed out, only recorded in
+         *         the total traffic.
+         */
+        public long getTimeoutCount() {
+            return timeoutCount.sum();
+        }
+
+        /**
+         * @return the number of requests that failed after all retries, only
+         *         recorded in the total traffic.
+         */
+        public long getFailureCount() {
+            return failureCount.sum();
+        }
+
+        /**
+         * @return the number of requests that a latency was recorded for
+         */
+        public long getLatencyCount() {
+            return latency.getCount();
+        }
+
+        public double getLatencyMeanMs() {
+            return latency.getMean() / 1000.0;
+        }
+
+        /**
+         * @param percentile
+         *            between 0 and 100
+         * @return the round trip latency that the given percentage of requests
+         *         completed within
+         */
+        public double getLatencyMs(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double getLatencyMaxMs() {
+            return latency.getMax() / 1000.0;
+        }
+
+        /**
+         * @param windowSeconds
+         *            at most {@link NetworkStatistics#WINDOW_SECONDS}
+         * @return the average bytes sent per second over the window, always 0
+         *         unless byte stats are enabled.
+         */
+        public double getBytesSentPerSecond(int windowSeconds) {
+            return sentWindow.getRate(windowSeconds);
+        }
+
+        /**
+         * @param windowSeconds
+         *            at most {@link NetworkStatistics#WINDOW_SECONDS}
+         * @return the average bytes received per second over the window,
+         *         always 0 unless byte stats are enabled.
+         */
+        public double getBytesReceivedPerSecond(int windowSeconds) {
+            return receivedWindow.getRate(windowSeconds);
         }
 
         public String getIdentifier() {
@@ -104,32 +256,36 @@ public class NetworkStatistics {
 
         @Override
         public NetworkTraffic clone() {
-            NetworkTraffic newTraffic = new NetworkTraffic(identifier);
-            newTraffic.identifier = identifier;
-            newTraffic.bytesReceived = bytesReceived;
-            newTraffic.bytesSent = bytesSent;
-            newTraffic.requestCount = requestCount;
-
-            return newTraffic;
+            return new NetworkTraffic(this);
         }
 
         @Override
         public String toString() {
-            String sentString = NetworkStatistics.toString(bytesSent), receivedString = NetworkStatistics
-                    .toString(bytesReceived), bytesStatsMsg = "";
+            String sentString = NetworkStatistics.toString(getBytesSent()), receivedString = NetworkStatistics
+                    .toString(getBytesReceived()), bytesStatsMsg = "";
             if (doByteStats) {
                 bytesStatsMsg = ", sent " + sentString + ", received "
                         + receivedString;
             }
+            String latencyMsg = "";
+            if (latency.getCount() > 0) {
+                latencyMsg = String.format(
+                        ", latency mean %.1fms p50 %.1fms p95 %.1fms p99 %.1fms max %.1fms",
+                        getLatencyMeanMs(), getLatencyMs(50),
+                        getLatencyMs(95), getLatencyMs(99),
+                        getLatencyMaxMs());
+            }
 
             return "Network Traffic Stats for '" + identifier + "' : "
-                    + requestCount + " messages" + bytesStatsMsg;
+                    + getRequestCount() + " messages" + bytesStatsMsg
+                    + latencyMsg;
         }
     }
 
-    private NetworkTraffic totalTraffic = new NetworkTraffic(null);
+    private final NetworkTraffic totalTraffic = new NetworkTraffic(
+            (String) null);
 
-    private Map<String, NetworkTraffic> mappedTraffic = new LinkedHashMap<String, NetworkTraffic>();
+    private final ConcurrentMap<String, NetworkTraffic> mappedTraffic = new ConcurrentHashMap<>();
 
     public NetworkStatistics() {
 
@@ -145,27 +301,38 @@ public class NetworkStatistics {
      * @param bytesRecieved
      */
     void log(long bytesSent, long bytesReceived) {
-        synchronized (totalTraffic) {
-            /**
-             * Only log bytes if byte stats are enabled and if the number
-             * sent/received is greater than 1. Byte counts for compressed
-             * messages or messages of unknown length may return -1. Requests
-             * known to be compressed may also pass a bytes size of '1' to
-             * trigger the incrementing of the request count. Any sizes greater
-             * than 1 can be assumed to be 'real' sizes.
-             */
-            if (NetworkTraffic.doByteStats) {
-                if (bytesSent > 1) {
-                    totalTraffic.addBytesSent(bytesSent);
-                }
-                if (bytesReceived > 1) {
-                    totalTraffic.addBytesReceived(bytesReceived);
-                }
-            }
-            if (bytesSent > 0) {
-                totalTraffic.incrementRequestCount();
-            }
+        totalTraffic.log(bytesSent, bytesReceived);
+    }
+
+    /**
+     * Record the round trip time of a single http request in the total
+     * traffic.
+     * 
+     * @param nanos
+     */
+    void logLatency(long nanos) {
+        totalTraffic.latency.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    void logRetry() {
+        totalTraffic.retryCount.increment();
+    }
+
+    void logTimeout() {
+        totalTraffic.timeoutCount.increment();
+    }
+
+    void logFailure() {
+        totalTraffic.failureCount.increment();
+    }
+
+    private NetworkTraffic getTraffic(String typeIdentifier) {
+        NetworkTraffic traffic = mappedTraffic.get(typeIdentifier);
+        if (traffic == null) {
+            traffic = mappedTraffic.computeIfAbsent(typeIdentifier,
+                    NetworkTraffic::new);
         }
+        return traffic;
     }
 
     /**
@@ -176,33 +343,27 @@ public class NetworkStatistics {
      * @param bytesSent
      * @param bytesRecieved
      */
-    public synchronized void log(String typeIdentifier, long bytesSent,
+    public void log(String typeIdentifier, long bytesSent,
             long bytesReceived) {
-        NetworkTraffic traffic = mappedTraffic.get(typeIdentifier);
-        if (traffic == null) {
-            traffic = new NetworkTraffic(typeIdentifier);
-            mappedTraffic.put(typeIdentifier, traffic);
-        }
+        getTraffic(typeIdentifier).log(bytesSent, bytesReceived);
+        this.log(bytesSent, bytesReceived);
+    }
 
-        /**
-         * Only log bytes if byte stats are enabled and if the number
-         * sent/received is greater than 1. Byte counts for compressed messages
-         * or messages of unknown length may return -1. Requests known to be
-         * compressed may also pass a bytes size of '1' to trigger the
-         * incrementing of the request count. Any sizes greater than 1 can be
-         * assumed to be 'real' sizes.
-         */
-        if (NetworkTraffic.doByteStats) {
-            if (bytesSent > 1) {
-                traffic.addBytesSent(bytesSent);
-            }
-            if (bytesReceived > 1) {
-                traffic.addBytesReceived(bytesReceived);
-            }
-        }
-        if (bytesSent > 0) {
-            traffic.incrementRequestCount();
-        }
+    /**
+     * Add to the log of bytes sent/received for the traffic tracked by the type
+     * identifier passed in, and record the time the request took.
+     * 
+     * @param typeIdentifier
+     * @param bytesSent
+     * @param bytesReceived
+     * @param latencyNanos
+     *            the round trip time of the request
+     */
+    public void log(String typeIdentifier, long bytesSent,
+            long bytesReceived, long latencyNanos) {
+        NetworkTraffic traffic = getTraffic(typeIdentifier);
+        traffic.log(bytesSent, bytesReceived);
+        traffic.latency.record(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
         this.log(bytesSent, bytesReceived);
     }
 
@@ -212,9 +373,7 @@ public class NetworkStatistics {
      * @return
      */
     public NetworkTraffic getTotalTrafficStats() {
-        synchronized (totalTraffic) {
-            return totalTraffic.clone();
-        }
+        return totalTraffic.clone();
     }
 
     /**
@@ -225,12 +384,81 @@ public class NetworkStatistics {
      */
     public NetworkTraffic[] getMappedTrafficStats() {
         Collection<NetworkTraffic> trafficStats = mappedTraffic.values();
-        NetworkTraffic[] traffic = trafficStats.toArray(
-                new NetworkTraffic[trafficStats.size()]).clone();
-        for (int i = 0; i < traffic.length; ++i) {
-            traffic[i] = traffic[i].clone();
+        List<NetworkTraffic> traffic = new ArrayList<>(trafficStats.size());
+        for (NetworkTraffic t : trafficStats) {
+            traffic.add(t.clone());
         }
-        return traffic;
+        return traffic.toArray(new NetworkTraffic[traffic.size()]);
+    }
+
+    @Override
+    public long getRequestCount() {
+        return totalTraffic.getRequestCount();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return totalTraffic.getRetryCount();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return totalTraffic.getTimeoutCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return totalTraffic.getFailureCount();
+    }
+
+    @Override
+    public double getLatency50thPercentileMs() {
+        return totalTraffic.getLatencyMs(50);
+    }
+
+    @Override
+    public double getLatency95thPercentileMs() {
+        return totalTraffic.getLatencyMs(95);
+    }
+
+    @Override
+    public double getLatency99thPercentileMs() {
+        return totalTraffic.getLatencyMs(99);
+    }
+
+    @Override
+    public double getBytesSentPerSecond() {
+        return totalTraffic.getBytesSentPerSecond(60);
+    }
+
+    @Override
+    public double getBytesReceivedPerSecond() {
+        return totalTraffic.getBytesReceivedPerSecond(60);
+    }
+
+    /**
+     * Create a plain text report of the total traffic and the traffic of each
+     * type.
+     */
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        NetworkTraffic total = getTotalTrafficStats();
+        report.append(total).append('\n');
+        report.append("  retries ").append(total.getRetryCount())
+                .append(", timeouts ").append(total.getTimeoutCount())
+                .append(", failures ").append(total.getFailureCount());
+        if (total.isDoByteStats()) {
+            report.append(String.format(
+                    ", last minute sent %s/s received %s/s",
+                    toString((long) total.getBytesSentPerSecond(60)),
+                    toString((long) total.getBytesReceivedPerSecond(60))));
+        }
+        report.append('\n');
+        for (NetworkTraffic traffic : getMappedTrafficStats()) {
+            report.append(traffic).append('\n');
+        }
+        return report.toString();
     }
 
     private static final long[] divisions = new long[] { 1, 1024, 1024 * 1024,
@@ -0,0 +1,72 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.comm;
+
+/**
+ * JMX view of the {@link NetworkStatistics} of the global {@link HttpClient}.
+ * Times are in milliseconds.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public interface NetworkStatisticsMXBean {
+
+    long getRequestCount();
+
+    long getRetryCount();
+
+    long getTimeoutCount();
+
+    long getFailureCount();
+
+    double getLatency50thPercentileMs();
+
+    double getLatency95thPercentileMs();
+
+    double getLatency99thPercentileMs();
+
+    /**
+     * @return the average over the last minute, always 0 unless byte stats
+     *         are enabled.
+     */
+    double getBytesSentPerSecond();
+
+    /**
+     * @return the average over the last minute, always 0 unless byte stats
+     *         are enabled.
+     */
+    double getBytesReceivedPerSecond();
+
+    /**
+     * @return a plain text report of the total traffic and the traffic of each
+     *         type.
+     */
+    String getReport();
+
+}
@@ -0,0 +1,124 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.dataplugin.annotations;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A read only map of the dataURI fields of an object, containing the same
+ * entries as {@link DataURIUtil#createDataURIMap(Object)}. The keys are shared
+ * by every map of the same class so only the values are stored for each
+ * object, and the map can be refilled with the values of another object of the
+ * same class using {@link DataURIUtil#createDataURIFieldMap(Object,
+ * DataURIFieldMap)}.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class DataURIFieldMap extends AbstractMap<String, Object> {
+
+    private final Class<?> type;
+
+    private final String[] keys;
+
+    private final Map<String, Integer> index;
+
+    final Object[] values;
+
+    DataURIFieldMap(Class<?> type, String[] keys, Map<String, Integer> index) {
+        this.type = type;
+        this.keys = keys;
+        this.index = index;
+        this.values = new Object[keys.length];
+    }
+
+    /**
+     * @return the class of the object the values were read from.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Integer i = index.get(key);
+        return i == null ? null : values[i];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(
+                                keys[next], values[next]);
+                        next += 1;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+}
@@ -27,6 +27,7 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -62,6 +63,7 @@ import com.raytheon.uf.common.time.util.TimeUtil;
  * Mar 11, 2016 5454       tgurney     Handle dataURI with trailing slash
  * Jul 27, 2016 2416       tgurney     Add getDataURIFields(Class<?>)
  * Sep 23, 2021 8608       mapeters    Add {@link #getPluginName(String)}
+ * Oct 17, 2026            agent       Add {@link #createDataURIFieldMap(Object)}
  *
  * </pre>
  *
@@ -255,6 +257,49 @@ public class DataURIUtil {
         return dataMap;
     }
 
+    /**
+     * Create a read only map containing the same entries as
+     * {@link #createDataURIMap(Object)}. This is cheaper to create than a
+     * HashMap because the keys are shared by every object of the same class.
+     *
+     * @param object
+     * @return
+     * @throws PluginException
+     */
+    public static DataURIFieldMap createDataURIFieldMap(Object object)
+            throws PluginException {
+        return createDataURIFieldMap(object, null);
+    }
+
+    /**
+     * Fill a read only map with the dataURI fields of an object, reusing the
+     * provided map if it was created for the same class of object.
+     *
+     * @param object
+     * @param reuse
+     *            a map to refill, may be null. This map should not be in use
+     *            elsewhere since the values are replaced.
+     * @return reuse if it was refilled, otherwise a new map.
+     * @throws PluginException
+     */
+    public static DataURIFieldMap createDataURIFieldMap(Object object,
+            DataURIFieldMap reuse) throws PluginException {
+        DataURIFieldAccessCache cache = getAccessCache(object.getClass());
+        DataURIFieldMap map = reuse;
+        if (map == null || map.getType() != object.getClass()) {
+            map = cache.createFieldMap();
+        }
+        DataURIFieldAccess[] mapFields = cache.getMapFields();
+        for (int i = 0; i < mapFields.length; i += 1) {
+            if (mapFields[i] == null) {
+                map.values[i] = ((PluginDataObject) object).getPluginName();
+            } else {
+                map.values[i] = mapFields[i].getFieldValue(object);
+            }
+        }
+        return map;
+    }
+
     /**
      * Create a new PluginDataObject based off the dataURI. THe class of the
      * result object is based off the pluginName in the dataURI and all fields
@@ -439,18 +484,56 @@ public class DataURIUtil {
 
         private Map<String, DataURIFieldAccess> fieldMap;
 
+        private final Class<?> type;
+
+        /** The keys of a {@link DataURIFieldMap} for this type */
+        private final String[] mapKeys;
+
+        private final Map<String, Integer> mapIndex;
+
+        /** The field for each map key, null for the plugin name */
+        private final DataURIFieldAccess[] mapFields;
+
         public DataURIFieldAccessCache(Class<?> type) throws PluginException {
+            this.type = type;
             this.fieldMap = new HashMap<>();
             this.dataURIFields = getDataURIAccessFields(type);
             for (DataURIFieldAccess access : dataURIFields) {
                 fieldMap.put(access.getFieldName(), access);
             }
+
+            /*
+             * Same keys as createDataURIMap, a field with the same name as the
+             * plugin name replaces it.
+             */
+            Map<String, DataURIFieldAccess> mapAccess = new LinkedHashMap<>();
+            if (PluginDataObject.class.isAssignableFrom(type)) {
+                mapAccess.put(PLUGIN_NAME_KEY, null);
+            }
+            for (DataURIFieldAccess access : dataURIFields) {
+                mapAccess.put(access.getFieldName(), access);
+            }
+            this.mapKeys = mapAccess.keySet().toArray(new String[0]);
+            this.mapFields = mapAccess.values()
+                    .toArray(new DataURIFieldAccess[0]);
+            this.mapIndex = new HashMap<>(mapKeys.length * 2);
+            for (int i = 0; i < mapKeys.length; i += 1) {
+                mapIndex.put(mapKeys[i], i);
+            }
         }
 
         public DataURIFieldAccess[] getDataURIFields() {
             return dataURIFields;
         }
 
+        public DataURIFieldAccess[] getMapFields() {
+            return mapFields;
+        }
+
+        public DataURIFieldMap createFieldMap() {
+            return new DataURIFieldMap(type, mapKeys, mapIndex);
+        }
+
         public DataURIFieldAccess getFieldAccess(String fieldName,
                 Object object) {
             DataURIFieldAccess access = fieldMap.get(fieldName);
@@ -22,14 +22,16 @@ package com.raytheon.uf.common.dataquery;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.raytheon.uf.common.dataquery.requests.RequestConstraint;
 import com.raytheon.uf.common.dataquery.requests.RequestConstraint.ConstraintType;
@@ -43,6 +45,14 @@ import com.raytheon.uf.common.dataquery.requests.RequestConstraint.ConstraintTyp
  * The algorithm is based on the idea that searches must be as fast as possible,
  * work on wildcarded attributes, and inserts are relatively infrequent.
  * 
+ * Nodes are never modified once they are reachable from the head of the tree.
+ * Changes copy the nodes on the path to the change and then replace the head
+ * so searches never wait for an insert, remove or rebuild. Inserts and removes
+ * only patch the affected subtrees; a call to {@link #rebuildTree()} rebuilds
+ * the whole tree using the entropy of all the criteria. Setting the system
+ * property decisiontree.incremental to false rebuilds the whole tree on every
+ * change.
+ * 
  * <pre>
  * SOFTWARE HISTORY
  * Date          Ticket#  Engineer    Description
@@ -54,6 +64,8 @@ import com.raytheon.uf.common.dataquery.requests.RequestConstraint.ConstraintTyp
  *                                    {@link ConstraintType#ISNULL}
  * Dec 18, 2013  2579     bsteffen    Replace synchronization with a
  *                                    read/write lock.
+ * Oct 17, 2026           agent       Copy on write nodes so searches are not
+ *                                    locked, incremental insert and remove.
  * 
  * </pre>
  * 
@@ -80,6 +92,9 @@ public class DecisionTree<T> {
 
         public RequestConstraint decision;
 
+        /** The examples of a leaf, kept so the leaf can be split on insert */
+        public List<DataPair> examples;
+
         public void rebuildTree(List<DataPair> examples,
                 List<String> usedAttribs, int lvl) {
             EntropyPair[] entropyPair = null;
@@ -219,11 +234,136 @@ public class DecisionTree<T> {
 
         private void makeLeaf(List<DataPair> leafExamples) {
             this.type = NodeType.LEAF;
-            this.values = new ArrayList<T>();
+            this.examples = new ArrayList<DataPair>(leafExamples);
+            this.values = new ArrayList<T>(leafExamples.size());
             for (DataPair e : leafExamples) {
                 this.values.add(e.data);
             }
         }
+
+        /**
+         * Create a new node with the same decision as this node, the new node
+         * is not initialized beyond that.
+         */
+        private Node copyDecision() {
+            Node copy = new Node();
+            copy.type = NodeType.DECISION;
+            copy.decision = this.decision;
+            return copy;
+        }
+
+        /**
+         * Add an example to the subtree under this node. This node is not
+         * modified, a copy of the nodes on the path to the example is
+         * returned.
+         * 
+         * @param example
+         *            the example to add
+         * @param usedAttribs
+         *            the attributes that decided the path to this node
+         * @param lvl
+         *            the level of this node in the tree
+         * @return the node to replace this node with
+         */
+        public Node insert(DataPair example, List<String> usedAttribs,
+                int lvl) {
+            Node copy = copyDecision();
+            if (this.type == NodeType.LEAF) {
+                List<DataPair> leafExamples = new ArrayList<DataPair>(
+                        examples.size() + 1);
+                leafExamples.addAll(examples);
+                leafExamples.add(example);
+                if (usedAttribs.containsAll(example.metadata.keySet())) {
+                    copy.decisionAttribute = this.decisionAttribute;
+                    copy.makeLeaf(leafExamples);
+                } else {
+                    // the example needs more decisions, split the leaf
+                    copy.rebuildTree(leafExamples, usedAttribs, lvl);
+                }
+                return copy;
+            }
+
+            copy.decisionAttribute = this.decisionAttribute;
+            copy.nodeChildren = new ArrayList<Node>(nodeChildren.size() + 1);
+            List<String> usedAttribsNew = new ArrayList<String>(usedAttribs);
+            usedAttribsNew.add(decisionAttribute);
+            RequestConstraint value = example.metadata.get(decisionAttribute);
+            boolean inserted = false;
+            for (Node n : nodeChildren) {
+                if (!inserted && Objects.equals(n.decision, value)) {
+                    copy.nodeChildren
+                            .add(n.insert(example, usedAttribsNew, lvl + 1));
+                    inserted = true;
+                } else {
+                    copy.nodeChildren.add(n);
+                }
+            }
+            if (!inserted) {
+                Node dn = new Node();
+                dn.type = NodeType.DECISION;
+                dn.decision = value;
+                dn.rebuildTree(Collections.singletonList(example),
+                        usedAttribsNew, lvl + 1);
+                copy.nodeChildren.add(dn);
+            }
+            return copy;
+        }
+
+        /**
+         * Remove an example from the subtree under this node. This node is
+         * not modified, a copy of the nodes on the path to the example is
+         * returned.
+         * 
+         * @param example
+         *            the exact example to remove
+         * @return the node to replace this node with, this node if the example
+         *         is not in the subtree or null if the subtree is now empty.
+         */
+        public Node remove(DataPair example) {
+            if (this.type == NodeType.LEAF) {
+                List<DataPair> leafExamples = new ArrayList<DataPair>(
+                        examples.size());
+                for (DataPair e : examples) {
+                    if (e != example) {
+                        leafExamples.add(e);
+                    }
+                }
+                if (leafExamples.size() == examples.size()) {
+                    return this;
+                } else if (leafExamples.isEmpty()) {
+                    return null;
+                }
+                Node copy = copyDecision();
+                copy.decisionAttribute = this.decisionAttribute;
+                copy.makeLeaf(leafExamples);
+                return copy;
+            }
+
+            RequestConstraint value = example.metadata.get(decisionAttribute);
+            for (int i = 0; i < nodeChildren.size(); i += 1) {
+                Node n = nodeChildren.get(i);
+                if (!Objects.equals(n.decision, value)) {
+                    continue;
+                }
+                Node replacement = n.remove(example);
+                if (replacement == n) {
+                    return this;
+                }
+                Node copy = copyDecision();
+                copy.decisionAttribute = this.decisionAttribute;
+                copy.nodeChildren = new ArrayList<Node>(nodeChildren);
+                if (replacement == null) {
+                    copy.nodeChildren.remove(i);
+                    if (copy.nodeChildren.isEmpty()) {
+                        return null;
+                    }
+                } else {
+                    copy.nodeChildren.set(i, replacement);
+                }
+                return copy;
+            }
+            return this;
+        }
     }
 
     protected class DataPair {
@@ -238,11 +378,18 @@ public class DecisionTree<T> {
 
     }
 
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final boolean INCREMENTAL = Boolean.parseBoolean(
+            System.getProperty("decisiontree.incremental", "true"));
+
+    /** Held while modifying dataPairs or replacing head */
+    private final Lock lock = new ReentrantLock();
 
     private final List<DataPair> dataPairs;
 
-    private Node head;
+    private volatile Node head;
+
+    /** True if dataPairs has changed since the tree was last built */
+    private boolean stale = false;
 
     public DecisionTree() {
         dataPairs = new ArrayList<DataPair>();
@@ -256,29 +403,36 @@ public class DecisionTree<T> {
 
         DataPair e = new DataPair(searchCriteria, item);
 
-        lock.writeLock().lock();
+        lock.lock();
         try {
             this.dataPairs.add(e);
-            if (rebuild) {
+            if (!rebuild) {
+                stale = true;
+            } else if (INCREMENTAL && !stale && head != null) {
+                this.head = head.insert(e, Collections.<String> emptyList(),
+                        0);
+            } else {
                 rebuildTree();
             }
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     public void rebuildTree() {
-        lock.writeLock().lock();
+        lock.lock();
         try {
+            stale = false;
             if (this.dataPairs.size() == 0) {
                 this.head = null;
                 return;
             }
 
-            this.head = new Node();
-            this.head.rebuildTree(dataPairs, new ArrayList<String>(), 0);
+            Node newHead = new Node();
+            newHead.rebuildTree(dataPairs, new ArrayList<String>(), 0);
+            this.head = newHead;
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
@@ -322,20 +476,14 @@ public class DecisionTree<T> {
      */
     private List<T> searchTree(Map<String, ?> searchCriteria,
             boolean evaluateConstraints) {
-        lock.readLock().lock();
-        try {
-            List<T> lst = new ArrayList<T>();
-            if (head == null) {
-                return lst;
-            }
-
-            Node curNode = head;
-
-            searchTree(curNode, searchCriteria, lst, 0, evaluateConstraints);
+        List<T> lst = new ArrayList<T>();
+        Node curNode = head;
+        if (curNode == null) {
             return lst;
-        } finally {
-            lock.readLock().unlock();
         }
+
+        searchTree(curNode, searchCriteria, lst, 0, evaluateConstraints);
+        return lst;
     }
 
     private void searchTree(Node curNode, Map<String, ?> searchCriteria,
@@ -398,11 +546,10 @@ public class DecisionTree<T> {
      * @param item
      */
     public void remove(T item) {
-        lock.writeLock().lock();
+        lock.lock();
         try {
-            boolean itemRemoved = false;
+            List<DataPair> removed = new ArrayList<DataPair>(1);
 
-            // This could be optimized but removes are a very uncommon operation
             Iterator<DataPair> exampleIterator = dataPairs.iterator();
             while (exampleIterator.hasNext()) {
                 DataPair example = exampleIterator.next();
@@ -410,28 +557,39 @@ public class DecisionTree<T> {
                 // equivalent item
                 if (example.data == item) {
                     exampleIterator.remove();
-                    itemRemoved = true;
+                    removed.add(example);
                 }
             }
-            if (itemRemoved) {
+            if (removed.isEmpty()) {
+                return;
+            } else if (INCREMENTAL && !stale && head != null) {
+                Node newHead = head;
+                for (DataPair example : removed) {
+                    newHead = newHead.remove(example);
+                    if (newHead == null) {
+                        break;
+                    }
+                }
+                this.head = newHead;
+            } else {
                 rebuildTree();
             }
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     protected List<DataPair> getDataPairs() {
         /*
          * Copy dataPairs to avoid external iterators getting concurrent
-         * modification. Must get read lock because copying iterates over
+         * modification. Must get lock because copying iterates over
          * dataPairs.
          */
-        lock.readLock().lock();
+        lock.lock();
         try {
             return new ArrayList<DataPair>(dataPairs);
         } finally {
-            lock.readLock().unlock();
+            lock.unlock();
         }
     }
 
@@ -24,9 +24,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.raytheon.uf.common.dataplugin.PluginDataObject;
+import com.raytheon.uf.common.dataquery.requests.RequestConstraint.ConstraintType;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
-import com.raytheon.uf.common.serialization.comm.IServerRequest;
+import com.raytheon.uf.common.serialization.comm.ICacheableRequest;
 
 /**
  * Request to query a database
@@ -39,13 +41,14 @@ import com.raytheon.uf.common.serialization.comm.IServerRequest;
  * Jan 21, 2010            mschenke    Initial creation
  * Mar 19, 2013 1807       rferrel     Added orderBy to the toString.
  * Feb 25, 2015 3353       rjpeter     Remove duplicate fields.
+ * Oct 17, 2026            agent       Implement ICacheableRequest
  * </pre>
  * 
  * @author mschenke
  * @version 1.0
  */
 @DynamicSerialize
-public class DbQueryRequest implements IServerRequest {
+public class DbQueryRequest implements ICacheableRequest {
 
     @DynamicSerialize
     public static enum OrderMode {
@@ -309,6 +312,31 @@ public class DbQueryRequest implements IServerRequest {
         this.limit = limit;
     }
 
+    /**
+     * @return the value of the pluginName constraint if it is an equals
+     *         constraint, otherwise null.
+     */
+    @Override
+    public String getCachePluginName() {
+        RequestConstraint plugin = constraints == null ? null
+                : constraints.get(PluginDataObject.PLUGIN_NAME_ID);
+        if (plugin != null
+                && plugin.getConstraintType() == ConstraintType.EQUALS) {
+            return plugin.getConstraintValue();
+        }
+        return null;
+    }
+
+    /**
+     * @return true only if the query is constrained to a single plugin, any
+     *         other query may read data that is ingested without invalidating
+     *         the cached response.
+     */
+    @Override
+    public boolean isCacheable() {
+        return getCachePluginName() != null;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -28,9 +28,12 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -68,6 +71,8 @@ import com.raytheon.uf.common.time.util.TimeUtil;
  * Jul 05, 2016  5728     mapeters    Add RequestConstraint(String[], boolean)
  * Jul 07, 2016  5728     mapeters    Add more String & Date support in evaluate()
  * Nov 15, 2019  71273    ksunil      Added fromOperand
+ * Oct 17, 2026           agent       Evaluate using a compiled form of the
+ *                                    constraint with all operands parsed.
  *
  *
  * </pre>
@@ -139,7 +144,7 @@ public class RequestConstraint implements Cloneable {
     @DynamicSerializeElement
     protected String constraintValue;
 
-    protected transient Map<Class<?>, Object> asMap = new HashMap<>(2);
+    private transient volatile CompiledConstraint compiled;
 
     /**
      * Constructor
@@ -279,7 +284,6 @@ public class RequestConstraint implements Cloneable {
      *            the constraintValue to set
      */
     public void setConstraintValue(String constraintValue) {
-        asMap.clear();
         this.constraintValue = constraintValue;
     }
 
@@ -354,226 +358,29 @@ public class RequestConstraint implements Cloneable {
         if (this == WILDCARD) {
             return true;
         }
-
-        if (constraintType == ConstraintType.ISNULL) {
-            return value == null || "null".equals(value);
-        } else if (constraintType == ConstraintType.ISNOTNULL) {
-            return value != null && "null".equals(value) == false;
-        }
-
-        if (value == null) {
-            return false;
-        } else if (constraintType == ConstraintType.EQUALS) {
-            return constraintCompare(value);
-        } else if (constraintType == ConstraintType.NOT_EQUALS) {
-            return !constraintCompare(value);
-        } else if (constraintType == ConstraintType.IN) {
-            return isIn(value);
-        } else if (constraintType == ConstraintType.NOT_IN) {
-            return !isIn(value);
-        } else if (constraintType == ConstraintType.LIKE) {
-            String regex = constraintValue.replace("%", ".*");
-            if (value.toString().matches(regex)) {
-                return true;
-            }
-            return false;
-        }
-
-        if (value instanceof Date) {
-            Date valueDate = (Date) value;
-
-            if (constraintType == ConstraintType.BETWEEN) {
-                String[] list = BETWEEN_PATTERN.split(constraintValue);
-                if (list.length != 2) {
-                    throw new IllegalArgumentException(
-                            "Invalid between constraint: " + constraintValue);
-                }
-
-                Date first = parseDate(list[0]);
-                Date last = parseDate(list[1]);
-                return valueDate.equals(first) || valueDate.equals(last)
-                        || valueDate.after(first) && valueDate.before(last);
-            }
-
-            Date constraintValueDate = (Date) asMap.get(Date.class);
-            if (constraintValueDate == null) {
-                constraintValueDate = parseDate(constraintValue);
-                asMap.put(Date.class, constraintValueDate);
-            }
-
-            if (constraintType == ConstraintType.GREATER_THAN) {
-                return valueDate.after(constraintValueDate);
-            } else if (constraintType == ConstraintType.GREATER_THAN_EQUALS) {
-                return valueDate.after(constraintValueDate)
-                        || constraintValue.equals(value);
-            } else if (constraintType == ConstraintType.LESS_THAN) {
-                return valueDate.before(constraintValueDate);
-            } else if (constraintType == ConstraintType.LESS_THAN_EQUALS) {
-                return valueDate.before(constraintValueDate)
-                        || constraintValue.equals(value);
-            }
-        } else if (value instanceof Number) {
-            double valueDouble = ((Number) value).doubleValue();
-
-            if (constraintType == ConstraintType.BETWEEN) {
-                String[] list = BETWEEN_PATTERN.split(constraintValue);
-                if (list.length != 2) {
-                    throw new IllegalArgumentException(
-                            "Invalid between constraint: " + constraintValue);
-                }
-                double lower = Double.valueOf(list[0]);
-                double upper = Double.valueOf(list[1]);
-                return valueDouble >= lower && valueDouble <= upper;
-
-            }
-
-            double constraintValueDouble;
-
-            try {
-                constraintValueDouble = Double.parseDouble(constraintValue);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException(
-                        "Constraint does not appear to be a number: "
-                                + constraintValue);
-            }
-
-            if (constraintType == ConstraintType.GREATER_THAN) {
-                return valueDouble > constraintValueDouble;
-            } else if (constraintType == ConstraintType.GREATER_THAN_EQUALS) {
-                return valueDouble >= constraintValueDouble;
-            } else if (constraintType == ConstraintType.LESS_THAN) {
-                return valueDouble < constraintValueDouble;
-            } else if (constraintType == ConstraintType.LESS_THAN_EQUALS) {
-                return valueDouble <= constraintValueDouble;
-            }
-        } else if (value instanceof String) {
-            String strValue = (String) value;
-
-            if (constraintType == ConstraintType.BETWEEN) {
-                String[] list = BETWEEN_PATTERN.split(constraintValue);
-                if (list.length != 2) {
-                    throw new IllegalArgumentException(
-                            "Invalid between constraint: " + constraintValue);
-                }
-                String lower = list[0];
-                String upper = list[1];
-                return strValue.compareTo(lower) >= 0
-                        && strValue.compareTo(upper) <= 0;
-            }
-
-            int compareResult = strValue.compareTo(constraintValue);
-            if (constraintType == ConstraintType.GREATER_THAN) {
-                return compareResult > 0;
-            } else if (constraintType == ConstraintType.GREATER_THAN_EQUALS) {
-                return compareResult >= 0;
-            } else if (constraintType == ConstraintType.LESS_THAN) {
-                return compareResult < 0;
-            } else if (constraintType == ConstraintType.LESS_THAN_EQUALS) {
-                return compareResult <= 0;
-            }
-        }
-
-        return false;
-    }
-
-    private boolean isIn(Object value) {
-        if (value instanceof Number) {
-            Double[] doubles = (Double[]) asMap.get(Double[].class);
-            if (doubles == null) {
-                String[] list = IN_PATTERN.split(constraintValue);
-                doubles = new Double[list.length];
-                for (int i = 0; i < list.length; i++) {
-                    try {
-                        doubles[i] = Double.valueOf(list[i]);
-                    } catch (NumberFormatException e) {
-                        continue;
-                    }
-                }
-                asMap.put(Double[].class, doubles);
-            }
-
-            double valueDouble = ((Number) value).doubleValue();
-            for (Double d : doubles) {
-                if (d == null) {
-                    continue;
-                }
-                if (Math.abs(
-                        d.doubleValue() - valueDouble) < EQUALITY_TOLERANCE) {
-                    return true;
-                }
-            }
-            return false;
-        } else if (value instanceof Date) {
-            Date[] dates = (Date[]) asMap.get(Date[].class);
-            if (dates == null) {
-                String[] list = IN_PATTERN.split(constraintValue);
-                dates = new Date[list.length];
-                for (int i = 0; i < list.length; i++) {
-                    try {
-                        dates[i] = parseDate(list[i]);
-                    } catch (IllegalArgumentException e) {
-                        continue;
-                    }
-                }
-                asMap.put(Date[].class, dates);
-            }
-            Date valueDate = (Date) value;
-            for (Date constraintDate : dates) {
-                if (valueDate.equals(constraintDate)) {
-                    return true;
-                }
-            }
-            return false;
-        } else {
-            String[] strs = (String[]) asMap.get(String[].class);
-            if (strs == null) {
-                strs = IN_PATTERN.split(constraintValue);
-                Arrays.sort(strs);
-                asMap.put(String[].class, strs);
-            }
-            String searchValue = String.valueOf(value);
-            if (Arrays.binarySearch(strs, searchValue) > -1) {
-                return true;
-            } else {
-                return false;
-            }
-        }
+        return getCompiled().evaluate(value);
     }
 
     /**
-     * @param value
+     * @return the compiled form of this constraint, compiling it if the type or
+     *         value has changed since it was last compiled.
      */
-    private boolean constraintCompare(Object value) {
-        if (value instanceof Number) {
-            try {
-                Double d = (Double) asMap.get(Double.class);
-                if (d == null) {
-                    d = Double.valueOf(constraintValue);
-                    asMap.put(Double.class, d);
-                }
-                if (Math.abs(d.doubleValue() - ((Number) value)
-                        .doubleValue()) < EQUALITY_TOLERANCE) {
-                    return true;
-                }
-            } catch (NumberFormatException e) {
-                return false;
-            }
-        } else if (value instanceof Date) {
-            Date constraintValueDate = (Date) asMap.get(Date.class);
-            if (constraintValueDate == null) {
-                constraintValueDate = parseDate(constraintValue);
-                asMap.put(Date.class, constraintValueDate);
-            }
-            return constraintValueDate.equals(value);
-        } else {
-            if (value != null) {
-                return constraintValue.equals(value.toString());
-            }
+    private CompiledConstraint getCompiled() {
+        CompiledConstraint compiled = this.compiled;
+        /*
+         * The fields can be set directly by jaxb so compare them rather than
+         * relying on the setters to clear the cache.
+         */
+        if (compiled == null || compiled.type != constraintType
+                || compiled.value != constraintValue) {
+            compiled = new CompiledConstraint(constraintType,
+                    constraintValue);
+            this.compiled = compiled;
         }
-        return false;
+        return compiled;
     }
 
-    private Date parseDate(String dateStr) {
+    private static Date parseDate(String dateStr) {
         try {
             return TimeUtil.parseSqlTimestamp(dateStr);
         } catch (ParseException e) {
@@ -764,4 +571,277 @@ public class RequestConstraint implements Cloneable {
         sqlResult.append(") ");
         return sqlResult.toString();
     }
+
+    /**
+     * An immutable form of a constraint with the operands parsed ahead of time
+     * for each type of value that can be evaluated. When an operand cannot be
+     * parsed it is parsed again during evaluation so that the same exception
+     * is thrown as when nothing is cached.
+     */
+    private static final class CompiledConstraint {
+
+        private final ConstraintType type;
+
+        private final String value;
+
+        private Double number;
+
+        private Date date;
+
+        private Pattern like;
+
+        private String[] bounds;
+
+        private Double lowerNumber;
+
+        private Double upperNumber;
+
+        private Date lowerDate;
+
+        private Date upperDate;
+
+        /** Sorted, without NaN */
+        private double[] inNumbers;
+
+        private Set<Date> inDates;
+
+        private Set<String> inStrings;
+
+        public CompiledConstraint(ConstraintType type, String value) {
+            this.type = type;
+            this.value = value;
+            if (type == null || value == null) {
+                return;
+            }
+            switch (type) {
+            case ISNULL:
+            case ISNOTNULL:
+                break;
+            case IN:
+            case NOT_IN:
+                compileIn();
+                break;
+            case LIKE:
+                try {
+                    like = Pattern.compile(value.replace("%", ".*"));
+                } catch (PatternSyntaxException e) {
+                    // thrown again on evaluation
+                }
+                break;
+            case BETWEEN:
+                bounds = BETWEEN_PATTERN.split(value);
+                if (bounds.length == 2) {
+                    lowerNumber = tryParseDouble(bounds[0]);
+                    upperNumber = tryParseDouble(bounds[1]);
+                    lowerDate = tryParseDate(bounds[0]);
+                    upperDate = tryParseDate(bounds[1]);
+                }
+                break;
+            default:
+                number = tryParseDouble(value);
+                date = tryParseDate(value);
+            }
+        }
+
+        private void compileIn() {
+            String[] list = IN_PATTERN.split(value);
+            double[] doubles = new double[list.length];
+            int numDoubles = 0;
+            inDates = new HashSet<>(list.length, 1.0f);
+            for (String item : list) {
+                Double d = tryParseDouble(item);
+                if (d != null && !d.isNaN()) {
+                    doubles[numDoubles++] = d;
+                }
+                Date itemDate = tryParseDate(item);
+                if (itemDate != null) {
+                    inDates.add(itemDate);
+                }
+            }
+            inNumbers = Arrays.copyOf(doubles, numDoubles);
+            Arrays.sort(inNumbers);
+            inStrings = new HashSet<>(Arrays.asList(list));
+        }
+
+        private static Double tryParseDouble(String str) {
+            try {
+                return Double.valueOf(str);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static Date tryParseDate(String str) {
+            try {
+                return TimeUtil.parseSqlTimestamp(str);
+            } catch (ParseException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        private Date getDate() {
+            return date != null ? date : parseDate(value);
+        }
+
+        private String[] getBounds() {
+            String[] list = bounds != null ? bounds
+                    : BETWEEN_PATTERN.split(value);
+            if (list.length != 2) {
+                throw new IllegalArgumentException(
+                        "Invalid between constraint: " + value);
+            }
+            return list;
+        }
+
+        public boolean evaluate(Object value) {
+            if (type == ConstraintType.ISNULL) {
+                return value == null || "null".equals(value);
+            } else if (type == ConstraintType.ISNOTNULL) {
+                return value != null && "null".equals(value) == false;
+            }
+
+            if (value == null) {
+                return false;
+            } else if (type == ConstraintType.EQUALS) {
+                return constraintCompare(value);
+            } else if (type == ConstraintType.NOT_EQUALS) {
+                return !constraintCompare(value);
+            } else if (type == ConstraintType.IN) {
+                return isIn(value);
+            } else if (type == ConstraintType.NOT_IN) {
+                return !isIn(value);
+            } else if (type == ConstraintType.LIKE) {
+                Pattern regex = like;
+                if (regex == null) {
+                    regex = Pattern.compile(this.value.replace("%", ".*"));
+                }
+                return regex.matcher(value.toString()).matches();
+            }
+
+            if (value instanceof Date) {
+                Date valueDate = (Date) value;
+
+                if (type == ConstraintType.BETWEEN) {
+                    String[] list = getBounds();
+                    Date first = lowerDate != null ? lowerDate
+                            : parseDate(list[0]);
+                    Date last = upperDate != null ? upperDate
+                            : parseDate(list[1]);
+                    return valueDate.equals(first) || valueDate.equals(last)
+                            || valueDate.after(first) && valueDate.before(last);
+                }
+
+                Date constraintValueDate = getDate();
+                if (type == ConstraintType.GREATER_THAN) {
+                    return valueDate.after(constraintValueDate);
+                } else if (type == ConstraintType.GREATER_THAN_EQUALS) {
+                    return valueDate.after(constraintValueDate)
+                            || this.value.equals(value);
+                } else if (type == ConstraintType.LESS_THAN) {
+                    return valueDate.before(constraintValueDate);
+                } else if (type == ConstraintType.LESS_THAN_EQUALS) {
+                    return valueDate.before(constraintValueDate)
+                            || this.value.equals(value);
+                }
+            } else if (value instanceof Number) {
+                double valueDouble = ((Number) value).doubleValue();
+
+                if (type == ConstraintType.BETWEEN) {
+                    String[] list = getBounds();
+                    double lower = lowerNumber != null ? lowerNumber
+                            : Double.valueOf(list[0]);
+                    double upper = upperNumber != null ? upperNumber
+                            : Double.valueOf(list[1]);
+                    return valueDouble >= lower && valueDouble <= upper;
+                }
+
+                double constraintValueDouble;
+                if (number != null) {
+                    constraintValueDouble = number;
+                } else {
+                    try {
+                        constraintValueDouble = Double.parseDouble(this.value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException(
+                                "Constraint does not appear to be a number: "
+                                        + this.value);
+                    }
+                }
+
+                if (type == ConstraintType.GREATER_THAN) {
+                    return valueDouble > constraintValueDouble;
+                } else if (type == ConstraintType.GREATER_THAN_EQUALS) {
+                    return valueDouble >= constraintValueDouble;
+                } else if (type == ConstraintType.LESS_THAN) {
+                    return valueDouble < constraintValueDouble;
+                } else if (type == ConstraintType.LESS_THAN_EQUALS) {
+                    return valueDouble <= constraintValueDouble;
+                }
+            } else if (value instanceof String) {
+                String strValue = (String) value;
+
+                if (type == ConstraintType.BETWEEN) {
+                    String[] list = getBounds();
+                    return strValue.compareTo(list[0]) >= 0
+                            && strValue.compareTo(list[1]) <= 0;
+                }
+
+                int compareResult = strValue.compareTo(this.value);
+                if (type == ConstraintType.GREATER_THAN) {
+                    return compareResult > 0;
+                } else if (type == ConstraintType.GREATER_THAN_EQUALS) {
+                    return compareResult >= 0;
+                } else if (type == ConstraintType.LESS_THAN) {
+                    return compareResult < 0;
+                } else if (type == ConstraintType.LESS_THAN_EQUALS) {
+                    return compareResult <= 0;
+                }
+            }
+
+            return false;
+        }
+
+        private boolean isIn(Object value) {
+            if (inStrings == null) {
+                /* Only happens for a null value, fail like split would. */
+                IN_PATTERN.split(this.value);
+            }
+            if (value instanceof Number) {
+                double valueDouble = ((Number) value).doubleValue();
+                int index = Arrays.binarySearch(inNumbers, valueDouble);
+                if (index < 0) {
+                    index = -index - 1;
+                    if (index > 0 && Math.abs(inNumbers[index - 1]
+                            - valueDouble) < EQUALITY_TOLERANCE) {
+                        return true;
+                    }
+                }
+                return index < inNumbers.length && Math.abs(
+                        inNumbers[index] - valueDouble) < EQUALITY_TOLERANCE;
+            } else if (value instanceof Date) {
+                return inDates.contains(value);
+            } else {
+                return inStrings.contains(String.valueOf(value));
+            }
+        }
+
+        private boolean constraintCompare(Object value) {
+            if (value instanceof Number) {
+                Double d = number;
+                if (d == null) {
+                    try {
+                        d = Double.valueOf(this.value);
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+                return Math.abs(d.doubleValue()
+                        - ((Number) value).doubleValue()) < EQUALITY_TOLERANCE;
+            } else if (value instanceof Date) {
+                return getDate().equals(value);
+            } else {
+                return this.value.equals(value.toString());
+            }
+        }
+    }
 }
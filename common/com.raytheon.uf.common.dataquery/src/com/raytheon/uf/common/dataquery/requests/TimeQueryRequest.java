@@ -24,7 +24,7 @@ import java.util.Map;
 
 import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
-import com.raytheon.uf.common.serialization.comm.IServerRequest;
+import com.raytheon.uf.common.serialization.comm.ICacheableRequest;
 import com.raytheon.uf.common.time.BinOffset;
 import com.raytheon.uf.common.time.SimulatedTime;
 
@@ -39,6 +39,7 @@ import com.raytheon.uf.common.time.SimulatedTime;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Apr 5, 2011            njensen     Initial creation
+ * Oct 17, 2026           agent       Implement ICacheableRequest
  * 
  * </pre>
  * 
@@ -47,7 +48,7 @@ import com.raytheon.uf.common.time.SimulatedTime;
  */
 
 @DynamicSerialize
-public class TimeQueryRequest implements IServerRequest {
+public class TimeQueryRequest implements ICacheableRequest {
 
     public TimeQueryRequest() {
         if (!SimulatedTime.getSystemTime().isRealTime()) {
@@ -74,6 +75,11 @@ public class TimeQueryRequest implements IServerRequest {
         return pluginName;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return pluginName != null;
+    }
+
     public void setPluginName(String pluginName) {
         this.pluginName = pluginName;
     }
@@ -110,6 +116,11 @@ public class TimeQueryRequest implements IServerRequest {
         return simDate;
     }
 
+    @Override
+    public String getCachePluginName() {
+        return pluginName;
+    }
+
     @Override
     public String toString() {
         return "TimeQueryRequest [pluginName=" + pluginName + ", maxQuery="
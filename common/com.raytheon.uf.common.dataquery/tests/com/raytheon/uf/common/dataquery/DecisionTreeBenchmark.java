@@ -0,0 +1,169 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.dataquery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.raytheon.uf.common.dataquery.requests.RequestConstraint;
+
+/**
+ * Measures {@link DecisionTree} lookups per second with a large number of
+ * subscriptions, while another thread continually inserts and removes
+ * subscriptions the way product loading and unloading does. Run once as-is and
+ * once with -Ddecisiontree.incremental=false to compare against rebuilding the
+ * whole tree on every change. Correctness of the tree is covered by
+ * {@link TestDecisionTree}, this only measures performance.
+ *
+ * Usage: DecisionTreeBenchmark [subscriptions] [threads] [seconds]
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer    Description
+ * ------------- -------- ----------- --------------------------
+ * Oct 17, 2026           agent       Initial creation
+ * Oct 17, 2026           agent       Moved to the tests folder
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class DecisionTreeBenchmark {
+
+    private static final String[] PLUGINS = { "grid", "radar", "satellite",
+            "obs", "sfcobs", "bufrua", "warning", "text" };
+
+    protected static Map<String, RequestConstraint> createCriteria(
+            Random random) {
+        Map<String, RequestConstraint> criteria = new HashMap<>();
+        String plugin = PLUGINS[random.nextInt(PLUGINS.length)];
+        criteria.put("pluginName", new RequestConstraint(plugin));
+        criteria.put("source",
+                new RequestConstraint(plugin + random.nextInt(50)));
+        criteria.put("parameter",
+                new RequestConstraint("P" + random.nextInt(200)));
+        if (random.nextBoolean()) {
+            criteria.put("level", new RequestConstraint(
+                    Integer.toString(random.nextInt(40) * 25)));
+        }
+        return criteria;
+    }
+
+    protected static Map<String, Object> createSearch(Random random) {
+        Map<String, Object> search = new HashMap<>();
+        String plugin = PLUGINS[random.nextInt(PLUGINS.length)];
+        search.put("pluginName", plugin);
+        search.put("source", plugin + random.nextInt(50));
+        search.put("parameter", "P" + random.nextInt(200));
+        search.put("level", Integer.toString(random.nextInt(40) * 25));
+        return search;
+    }
+
+    /**
+     * Search the tree until the deadline
+     *
+     * @return the number of searches completed
+     */
+    protected static long search(DecisionTree<Integer> tree, long seed,
+            long deadline) {
+        Random random = new Random(seed);
+        List<Map<String, Object>> searches = new ArrayList<>(1024);
+        for (int i = 0; i < 1024; i++) {
+            searches.add(createSearch(random));
+        }
+        long count = 0;
+        while (System.currentTimeMillis() < deadline) {
+            tree.searchTree(searches.get((int) (count & 1023)));
+            count++;
+        }
+        return count;
+    }
+
+    protected static void run(DecisionTree<Integer> tree, int size,
+            int threads, int seconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean done = new AtomicBoolean(false);
+        try {
+            long deadline = System.currentTimeMillis() + seconds * 1000L;
+            Future<Long> updates = executor.submit(() -> {
+                Random random = new Random(size);
+                long count = 0;
+                while (!done.get()) {
+                    Integer item = size + (int) count;
+                    tree.insertCriteria(createCriteria(random), item);
+                    tree.remove(item);
+                    count++;
+                }
+                return count;
+            });
+            List<Future<Long>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                long seed = i;
+                futures.add(
+                        executor.submit(() -> search(tree, seed, deadline)));
+            }
+            long total = 0;
+            for (Future<Long> future : futures) {
+                total += future.get();
+            }
+            done.set(true);
+            System.out.println(threads + " thread(s): "
+                    + (total / (double) seconds) + " lookups/s, "
+                    + (updates.get() / (double) seconds)
+                    + " insert and removes/s");
+        } finally {
+            done.set(true);
+            executor.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        DecisionTree<Integer> tree = new DecisionTree<>();
+        Random random = new Random(0);
+        for (int i = 0; i < size; i++) {
+            tree.insertCriteria(createCriteria(random), i, false);
+        }
+        long t0 = System.currentTimeMillis();
+        tree.rebuildTree();
+        System.out.println(size + " subscriptions, full rebuild: "
+                + (System.currentTimeMillis() - t0) + "ms");
+
+        // warm up
+        run(tree, size, 1, seconds);
+
+        run(tree, size, 1, seconds);
+        run(tree, size, threads, seconds);
+    }
+
+}
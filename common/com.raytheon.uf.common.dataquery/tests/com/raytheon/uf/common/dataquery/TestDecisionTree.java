@@ -0,0 +1,290 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.dataquery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.raytheon.uf.common.dataquery.requests.RequestConstraint;
+import com.raytheon.uf.common.dataquery.requests.RequestConstraint.ConstraintType;
+
+/**
+ * Unit tests for {@link DecisionTree}. Trees that are changed with incremental
+ * inserts and removes are searched and the results are checked against both a
+ * tree rebuilt from the same criteria and a direct evaluation of every
+ * criteria.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class TestDecisionTree {
+
+    private static final String[] PLUGINS = { "grid", "radar", "satellite",
+            "obs" };
+
+    private Random random;
+
+    /** Every item currently in the tree under test, with its criteria. */
+    private Map<Integer, Map<String, RequestConstraint>> items;
+
+    private List<Map<String, Object>> searches;
+
+    @Before
+    public void setUp() {
+        random = new Random(0);
+        items = new HashMap<>();
+        searches = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            searches.add(createSearch());
+        }
+    }
+
+    private Map<String, RequestConstraint> createCriteria() {
+        Map<String, RequestConstraint> criteria = new HashMap<>();
+        String plugin = PLUGINS[random.nextInt(PLUGINS.length)];
+        criteria.put("pluginName", new RequestConstraint(plugin));
+        switch (random.nextInt(4)) {
+        case 0:
+            criteria.put("source", RequestConstraint.WILDCARD);
+            break;
+        case 1:
+            criteria.put("source", new RequestConstraint(
+                    new String[] { plugin + random.nextInt(4),
+                            plugin + random.nextInt(4) }));
+            break;
+        default:
+            criteria.put("source",
+                    new RequestConstraint(plugin + random.nextInt(4)));
+        }
+        if (random.nextBoolean()) {
+            int low = random.nextInt(5) * 100;
+            criteria.put("level", new RequestConstraint(
+                    Integer.toString(low), Integer.toString(low + 200)));
+        }
+        if (random.nextInt(4) == 0) {
+            criteria.put("parameter",
+                    new RequestConstraint("P" + random.nextInt(3)));
+        }
+        if (random.nextInt(8) == 0) {
+            criteria.put("ensemble",
+                    new RequestConstraint(null, ConstraintType.ISNULL));
+        }
+        return criteria;
+    }
+
+    private Map<String, Object> createSearch() {
+        Map<String, Object> search = new HashMap<>();
+        String plugin = PLUGINS[random.nextInt(PLUGINS.length)];
+        search.put("pluginName", plugin);
+        search.put("source", plugin + random.nextInt(4));
+        if (random.nextInt(4) != 0) {
+            search.put("level", random.nextInt(8) * 100);
+        }
+        if (random.nextBoolean()) {
+            search.put("parameter", "P" + random.nextInt(3));
+        }
+        if (random.nextInt(4) == 0) {
+            search.put("ensemble", random.nextBoolean() ? null : "ctl1");
+        }
+        return search;
+    }
+
+    /**
+     * @return the items whose criteria are all satisfied by the search,
+     *         criteria for attributes that are not in the search are ignored.
+     */
+    private List<Integer> getExpectedResults(Map<String, Object> search) {
+        List<Integer> expected = new ArrayList<>();
+        for (Entry<Integer, Map<String, RequestConstraint>> item : items
+                .entrySet()) {
+            boolean matches = true;
+            for (Entry<String, RequestConstraint> criteria : item.getValue()
+                    .entrySet()) {
+                if (search.containsKey(criteria.getKey()) && !criteria
+                        .getValue().evaluate(search.get(criteria.getKey()))) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                expected.add(item.getKey());
+            }
+        }
+        Collections.sort(expected);
+        return expected;
+    }
+
+    private static List<Integer> sorted(List<Integer> list) {
+        List<Integer> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private DecisionTree<Integer> createRebuiltTree() {
+        DecisionTree<Integer> tree = new DecisionTree<>();
+        for (Entry<Integer, Map<String, RequestConstraint>> item : items
+                .entrySet()) {
+            tree.insertCriteria(item.getValue(), item.getKey(), false);
+        }
+        tree.rebuildTree();
+        return tree;
+    }
+
+    private void assertSearchResults(DecisionTree<Integer> tree) {
+        DecisionTree<Integer> rebuilt = createRebuiltTree();
+        for (Map<String, Object> search : searches) {
+            List<Integer> expected = getExpectedResults(search);
+            assertEquals("Search for " + search, expected,
+                    sorted(tree.searchTree(search)));
+            assertEquals("Rebuilt search for " + search, expected,
+                    sorted(rebuilt.searchTree(search)));
+        }
+    }
+
+    /**
+     * Insert a new item with random criteria.
+     * 
+     * @return the inserted item, {@link DecisionTree#remove(Object)} requires
+     *         this exact instance.
+     */
+    private Integer insert(DecisionTree<Integer> tree, int i) {
+        Integer item = Integer.valueOf(i);
+        Map<String, RequestConstraint> criteria = createCriteria();
+        items.put(item, criteria);
+        tree.insertCriteria(criteria, item);
+        return item;
+    }
+
+    @Test
+    public void testIncrementalInsert() {
+        DecisionTree<Integer> tree = new DecisionTree<>();
+        for (int i = 0; i < 300; i++) {
+            insert(tree, i);
+            if (i % 50 == 0) {
+                assertSearchResults(tree);
+            }
+        }
+        assertSearchResults(tree);
+    }
+
+    @Test
+    public void testIncrementalRemove() {
+        DecisionTree<Integer> tree = new DecisionTree<>();
+        List<Integer> inserted = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            inserted.add(insert(tree, i));
+        }
+        Collections.shuffle(inserted, random);
+        for (int i = 0; i < inserted.size(); i++) {
+            Integer item = inserted.get(i);
+            items.remove(item);
+            tree.remove(item);
+            if (i % 50 == 0) {
+                assertSearchResults(tree);
+            }
+        }
+        assertSearchResults(tree);
+        assertTrue(tree.searchTree(searches.get(0)).isEmpty());
+    }
+
+    @Test
+    public void testInterleavedInsertAndRemove() {
+        DecisionTree<Integer> tree = new DecisionTree<>();
+        List<Integer> inserted = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            if (inserted.isEmpty() || random.nextInt(3) != 0) {
+                inserted.add(insert(tree, i));
+            } else {
+                Integer item = inserted
+                        .remove(random.nextInt(inserted.size()));
+                items.remove(item);
+                tree.remove(item);
+            }
+            if (i % 100 == 0) {
+                assertSearchResults(tree);
+            }
+        }
+        assertSearchResults(tree);
+    }
+
+    @Test
+    public void testInsertAfterRebuild() {
+        DecisionTree<Integer> tree = new DecisionTree<>();
+        for (int i = 0; i < 100; i++) {
+            Map<String, RequestConstraint> criteria = createCriteria();
+            items.put(i, criteria);
+            tree.insertCriteria(criteria, i, false);
+        }
+        tree.rebuildTree();
+        for (int i = 100; i < 200; i++) {
+            insert(tree, i);
+        }
+        assertSearchResults(tree);
+    }
+
+    @Test
+    public void testRemoveRequiresSameInstance() {
+        DecisionTree<String> tree = new DecisionTree<>();
+        Map<String, RequestConstraint> criteria = new HashMap<>();
+        criteria.put("pluginName", new RequestConstraint("grid"));
+        String item = new String("item");
+        tree.insertCriteria(criteria, item);
+        Map<String, Object> search = new HashMap<>();
+        search.put("pluginName", "grid");
+
+        tree.remove(new String("item"));
+        assertEquals(1, tree.searchTree(search).size());
+        tree.remove(item);
+        assertTrue(tree.searchTree(search).isEmpty());
+    }
+
+    @Test
+    public void testSearchUsingConstraints() {
+        DecisionTree<Integer> tree = new DecisionTree<>();
+        for (int i = 0; i < 100; i++) {
+            insert(tree, i);
+        }
+        for (Entry<Integer, Map<String, RequestConstraint>> item : items
+                .entrySet()) {
+            assertTrue(tree.searchTreeUsingContraints(item.getValue())
+                    .contains(item.getKey()));
+        }
+    }
+}
@@ -0,0 +1,423 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.dataquery.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import com.raytheon.uf.common.dataquery.requests.RequestConstraint.ConstraintType;
+import com.raytheon.uf.common.time.util.TimeUtil;
+
+/**
+ * Unit tests for {@link RequestConstraint#evaluate(Object)}. Every constraint
+ * type is evaluated for numbers, strings, dates and nulls and the result, or
+ * the type of exception thrown, is checked against {@link LegacyEvaluator}, a
+ * copy of the evaluation used before constraints were compiled.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class TestRequestConstraint {
+
+    private static final String[] CONSTRAINT_VALUES = { "5", "5.00001", "-2.5",
+            "1e3", "NaN", "Infinity", "abc", "ABC", "", "null",
+            "2026-10-17 12:00:00.0", "2026-10-17 12:00:00", "1, 2, 3",
+            "3,1,2", "1.00005, 7", "abc, def, 5", "x,y, z",
+            "2026-10-17 12:00:00.0, 2026-10-18 00:00:00.0", "1--10",
+            "-5--5", "abc--def", "1--2--3", "--",
+            "2026-10-17 00:00:00.0--2026-10-18 00:00:00.0", "a%", "%b%",
+            "%", "KOAX%", "[", "a.c", null };
+
+    private static final Object[] VALUES = { null, "null", "", "abc", "ABC",
+            "abd", "def", "a.c", "axc", "KOAX", "5", "x", " y", "z", 5, 5L,
+            5.0f, 5.00001, 4.99995, 5.0002, 1, 2, 3, 7, 1000, -2.5, -5, 10,
+            10.00001, Double.NaN, Double.POSITIVE_INFINITY,
+            date("2026-10-17 12:00:00.0"), date("2026-10-17 00:00:00.0"),
+            date("2026-10-18 00:00:00.0"), date("2026-10-19 00:00:00.0"),
+            new Timestamp(date("2026-10-17 12:00:00.0").getTime()),
+            Arrays.asList("abc") };
+
+    private static Date date(String str) {
+        try {
+            return TimeUtil.parseSqlTimestamp(str);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * @return the result of the evaluation or the class of the exception
+     *         thrown.
+     */
+    private static Object outcome(RequestConstraint constraint,
+            Object value) {
+        try {
+            return constraint.evaluate(value);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static Object legacyOutcome(ConstraintType type,
+            String constraintValue, Object value) {
+        try {
+            return new LegacyEvaluator(type, constraintValue).evaluate(value);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static void assertSameAsLegacy(ConstraintType type) {
+        for (String constraintValue : CONSTRAINT_VALUES) {
+            RequestConstraint constraint = new RequestConstraint(
+                    constraintValue, type);
+            /* Evaluate twice to check the compiled constraint is reused. */
+            for (int i = 0; i < 2; i++) {
+                for (Object value : VALUES) {
+                    assertEquals(
+                            type + " '" + constraintValue + "' with " + value,
+                            legacyOutcome(type, constraintValue, value),
+                            outcome(constraint, value));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEqualsMatchesLegacy() {
+        assertSameAsLegacy(ConstraintType.EQUALS);
+        assertSameAsLegacy(ConstraintType.NOT_EQUALS);
+    }
+
+    @Test
+    public void testComparisonsMatchLegacy() {
+        assertSameAsLegacy(ConstraintType.GREATER_THAN);
+        assertSameAsLegacy(ConstraintType.GREATER_THAN_EQUALS);
+        assertSameAsLegacy(ConstraintType.LESS_THAN);
+        assertSameAsLegacy(ConstraintType.LESS_THAN_EQUALS);
+    }
+
+    @Test
+    public void testInMatchesLegacy() {
+        assertSameAsLegacy(ConstraintType.IN);
+        assertSameAsLegacy(ConstraintType.NOT_IN);
+    }
+
+    @Test
+    public void testBetweenMatchesLegacy() {
+        assertSameAsLegacy(ConstraintType.BETWEEN);
+    }
+
+    @Test
+    public void testLikeMatchesLegacy() {
+        assertSameAsLegacy(ConstraintType.LIKE);
+        assertSameAsLegacy(ConstraintType.ILIKE);
+    }
+
+    @Test
+    public void testNullChecksMatchLegacy() {
+        assertSameAsLegacy(ConstraintType.ISNULL);
+        assertSameAsLegacy(ConstraintType.ISNOTNULL);
+    }
+
+    @Test
+    public void testIn() {
+        RequestConstraint numbers = new RequestConstraint(
+                new String[] { "850", "500", "250.5" });
+        assertTrue(numbers.evaluate(500));
+        assertTrue(numbers.evaluate(250.50001));
+        assertFalse(numbers.evaluate(250.6));
+        assertFalse(numbers.evaluate(700));
+        RequestConstraint strings = new RequestConstraint(
+                Arrays.asList("KOAX", "KOKX"));
+        assertTrue(strings.evaluate("KOKX"));
+        assertFalse(strings.evaluate("KOK"));
+        RequestConstraint notIn = new RequestConstraint(
+                new String[] { "KOAX", "KOKX" }, false);
+        assertFalse(notIn.evaluate("KOAX"));
+        assertTrue(notIn.evaluate("KBOX"));
+    }
+
+    @Test
+    public void testBetween() {
+        RequestConstraint between = new RequestConstraint("100", "200");
+        assertTrue(between.evaluate(100));
+        assertTrue(between.evaluate(200.0));
+        assertFalse(between.evaluate(200.1));
+        RequestConstraint dates = new RequestConstraint(
+                "2026-10-17 00:00:00.0", "2026-10-18 00:00:00.0");
+        assertTrue(dates.evaluate(date("2026-10-17 00:00:00.0")));
+        assertTrue(dates.evaluate(date("2026-10-17 12:00:00.0")));
+        assertFalse(dates.evaluate(date("2026-10-18 00:00:00.1")));
+    }
+
+    @Test
+    public void testLike() {
+        RequestConstraint like = new RequestConstraint("SDUS%",
+                ConstraintType.LIKE);
+        assertTrue(like.evaluate("SDUS54"));
+        assertTrue(like.evaluate("SDUS"));
+        assertFalse(like.evaluate("XSDUS"));
+    }
+
+    @Test
+    public void testIsNull() {
+        RequestConstraint isNull = new RequestConstraint(
+                ConstraintType.ISNULL);
+        assertTrue(isNull.evaluate(null));
+        assertTrue(isNull.evaluate("null"));
+        assertFalse(isNull.evaluate(""));
+        RequestConstraint isNotNull = new RequestConstraint(
+                ConstraintType.ISNOTNULL);
+        assertFalse(isNotNull.evaluate(null));
+        assertTrue(isNotNull.evaluate(0));
+    }
+
+    @Test
+    public void testChangedValueIsRecompiled() {
+        RequestConstraint constraint = new RequestConstraint("5");
+        assertTrue(constraint.evaluate(5));
+        constraint.setConstraintValue("6");
+        assertFalse(constraint.evaluate(5));
+        assertTrue(constraint.evaluate(6));
+        constraint.setConstraintType(ConstraintType.GREATER_THAN);
+        assertTrue(constraint.evaluate(7));
+        assertFalse(constraint.evaluate(6));
+        constraint.addToConstraintValueList("8");
+        constraint.setConstraintType(ConstraintType.IN);
+        assertTrue(constraint.evaluate(8));
+        assertFalse(constraint.evaluate(7));
+    }
+
+    @Test
+    public void testWildcard() {
+        for (Object value : VALUES) {
+            assertTrue(RequestConstraint.WILDCARD.evaluate(value));
+        }
+    }
+
+    /**
+     * The evaluation done by RequestConstraint before constraints were
+     * compiled, without the caching of parsed operands.
+     */
+    private static class LegacyEvaluator {
+
+        private static final Pattern BETWEEN_PATTERN = Pattern.compile("--");
+
+        private static final Pattern IN_PATTERN = Pattern.compile(",\\s?");
+
+        private static final float EQUALITY_TOLERANCE = 0.0001f;
+
+        private final ConstraintType constraintType;
+
+        private final String constraintValue;
+
+        public LegacyEvaluator(ConstraintType constraintType,
+                String constraintValue) {
+            this.constraintType = constraintType;
+            this.constraintValue = constraintValue;
+        }
+
+        public boolean evaluate(Object value) {
+            if (constraintType == ConstraintType.ISNULL) {
+                return value == null || "null".equals(value);
+            } else if (constraintType == ConstraintType.ISNOTNULL) {
+                return value != null && "null".equals(value) == false;
+            }
+
+            if (value == null) {
+                return false;
+            } else if (constraintType == ConstraintType.EQUALS) {
+                return constraintCompare(value);
+            } else if (constraintType == ConstraintType.NOT_EQUALS) {
+                return !constraintCompare(value);
+            } else if (constraintType == ConstraintType.IN) {
+                return isIn(value);
+            } else if (constraintType == ConstraintType.NOT_IN) {
+                return !isIn(value);
+            } else if (constraintType == ConstraintType.LIKE) {
+                String regex = constraintValue.replace("%", ".*");
+                return value.toString().matches(regex);
+            }
+
+            if (value instanceof Date) {
+                Date valueDate = (Date) value;
+                if (constraintType == ConstraintType.BETWEEN) {
+                    String[] list = BETWEEN_PATTERN.split(constraintValue);
+                    if (list.length != 2) {
+                        throw new IllegalArgumentException(
+                                "Invalid between constraint: "
+                                        + constraintValue);
+                    }
+                    Date first = parseDate(list[0]);
+                    Date last = parseDate(list[1]);
+                    return valueDate.equals(first) || valueDate.equals(last)
+                            || valueDate.after(first)
+                                    && valueDate.before(last);
+                }
+                Date constraintValueDate = parseDate(constraintValue);
+                if (constraintType == ConstraintType.GREATER_THAN) {
+                    return valueDate.after(constraintValueDate);
+                } else if (constraintType == ConstraintType.GREATER_THAN_EQUALS) {
+                    return valueDate.after(constraintValueDate)
+                            || constraintValue.equals(value);
+                } else if (constraintType == ConstraintType.LESS_THAN) {
+                    return valueDate.before(constraintValueDate);
+                } else if (constraintType == ConstraintType.LESS_THAN_EQUALS) {
+                    return valueDate.before(constraintValueDate)
+                            || constraintValue.equals(value);
+                }
+            } else if (value instanceof Number) {
+                double valueDouble = ((Number) value).doubleValue();
+                if (constraintType == ConstraintType.BETWEEN) {
+                    String[] list = BETWEEN_PATTERN.split(constraintValue);
+                    if (list.length != 2) {
+                        throw new IllegalArgumentException(
+                                "Invalid between constraint: "
+                                        + constraintValue);
+                    }
+                    double lower = Double.valueOf(list[0]);
+                    double upper = Double.valueOf(list[1]);
+                    return valueDouble >= lower && valueDouble <= upper;
+                }
+                double constraintValueDouble;
+                try {
+                    constraintValueDouble = Double
+                            .parseDouble(constraintValue);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(
+                            "Constraint does not appear to be a number: "
+                                    + constraintValue);
+                }
+                if (constraintType == ConstraintType.GREATER_THAN) {
+                    return valueDouble > constraintValueDouble;
+                } else if (constraintType == ConstraintType.GREATER_THAN_EQUALS) {
+                    return valueDouble >= constraintValueDouble;
+                } else if (constraintType == ConstraintType.LESS_THAN) {
+                    return valueDouble < constraintValueDouble;
+                } else if (constraintType == ConstraintType.LESS_THAN_EQUALS) {
+                    return valueDouble <= constraintValueDouble;
+                }
+            } else if (value instanceof String) {
+                String strValue = (String) value;
+                if (constraintType == ConstraintType.BETWEEN) {
+                    String[] list = BETWEEN_PATTERN.split(constraintValue);
+                    if (list.length != 2) {
+                        throw new IllegalArgumentException(
+                                "Invalid between constraint: "
+                                        + constraintValue);
+                    }
+                    return strValue.compareTo(list[0]) >= 0
+                            && strValue.compareTo(list[1]) <= 0;
+                }
+                int compareResult = strValue.compareTo(constraintValue);
+                if (constraintType == ConstraintType.GREATER_THAN) {
+                    return compareResult > 0;
+                } else if (constraintType == ConstraintType.GREATER_THAN_EQUALS) {
+                    return compareResult >= 0;
+                } else if (constraintType == ConstraintType.LESS_THAN) {
+                    return compareResult < 0;
+                } else if (constraintType == ConstraintType.LESS_THAN_EQUALS) {
+                    return compareResult <= 0;
+                }
+            }
+            return false;
+        }
+
+        private boolean isIn(Object value) {
+            String[] list = IN_PATTERN.split(constraintValue);
+            if (value instanceof Number) {
+                double valueDouble = ((Number) value).doubleValue();
+                for (String item : list) {
+                    double d;
+                    try {
+                        d = Double.valueOf(item);
+                    } catch (NumberFormatException e) {
+                        continue;
+                    }
+                    if (Math.abs(d - valueDouble) < EQUALITY_TOLERANCE) {
+                        return true;
+                    }
+                }
+                return false;
+            } else if (value instanceof Date) {
+                for (String item : list) {
+                    Date constraintDate;
+                    try {
+                        constraintDate = parseDate(item);
+                    } catch (IllegalArgumentException e) {
+                        continue;
+                    }
+                    if (value.equals(constraintDate)) {
+                        return true;
+                    }
+                }
+                return false;
+            } else {
+                Arrays.sort(list);
+                return Arrays.binarySearch(list, String.valueOf(value)) > -1;
+            }
+        }
+
+        private boolean constraintCompare(Object value) {
+            if (value instanceof Number) {
+                try {
+                    double d = Double.valueOf(constraintValue);
+                    return Math.abs(d - ((Number) value)
+                            .doubleValue()) < EQUALITY_TOLERANCE;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            } else if (value instanceof Date) {
+                return parseDate(constraintValue).equals(value);
+            } else {
+                return constraintValue.equals(value.toString());
+            }
+        }
+
+        private static Date parseDate(String dateStr) {
+            try {
+                return TimeUtil.parseSqlTimestamp(dateStr);
+            } catch (ParseException e) {
+                throw new IllegalArgumentException(
+                        "Constraint does not appear to be a date: " + dateStr
+                                + " (expected a SQL timestamp)");
+            }
+        }
+    }
+}
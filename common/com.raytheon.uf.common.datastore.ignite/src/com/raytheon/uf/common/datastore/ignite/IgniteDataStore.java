@@ -25,21 +25,25 @@ import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
 
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.cache.query.QueryCursor;
@@ -97,6 +101,10 @@ import com.raytheon.uf.common.time.util.TimeUtil;
  * Feb 17, 2022  8608     mapeters  Update FastReplaceCallable to be used for all
  *                                  fast stores, extract to FastStoreCallable file
  * Jun 21, 2022  8879     mapeters  Don't retry failed retrievals
+ * Oct 17, 2026           agent     Retrieve all groups in a single invokeAll
+ * Oct 17, 2026           agent     Send subset requests for uncached groups
+ *                                  to the through data store
+ * Oct 17, 2026           agent     Use sorted keys for multi-key invokes
  *
  * </pre>
  *
@@ -114,6 +122,14 @@ public class IgniteDataStore implements IDataStore {
     private static final Pattern ORPHAN_REGEX = Pattern.compile(
             "(19|20)(\\d\\d)-?(0[1-9]|1[012])-?(0[1-9]|[12][0-9]|3[01])");
 
+    /*
+     * When true, subset requests (anything other than Request.ALL) for groups
+     * that are not already cached are sent to the through data store instead
+     * of loading the entire group into the cache just to subset it.
+     */
+    private static final boolean SUBSET_THROUGH = Boolean.parseBoolean(
+            System.getProperty("ignite.retrieve.subset.through", "true"));
+
     private boolean fastStore = true;
 
     private final String path;
@@ -533,12 +549,24 @@ public class IgniteDataStore implements IDataStore {
 
         DataStoreKey key = new DataStoreKey(path, group);
         try {
-            final String finalDataset = dataset;
+            boolean subsetThrough = isSubsetThrough(request);
+            RetrieveProcessor processor = new RetrieveProcessor(dataset,
+                    request);
+            processor.setRequireEntry(!subsetThrough);
             List<IDataRecord> result = igniteCacheAccessor.doAsyncCacheOp(
-                    c -> c.invokeAsync(key,
-                            new RetrieveProcessor(finalDataset, request)),
+                    c -> subsetThrough
+                            ? c.withSkipStore().invokeAsync(key, processor)
+                            : c.invokeAsync(key, processor),
                     false);
-            if (result == null || result.isEmpty()) {
+            if (result == null && subsetThrough) {
+                IDataRecord record = getThroughDataStore().retrieve(group,
+                        dataset, request);
+                timer.stop();
+                perfLog.logDuration("Retrieving record through for " + group
+                        + " and " + dataset + " and " + request,
+                        timer.getElapsedTime());
+                return record;
+            } else if (result == null || result.isEmpty()) {
                 throw new StorageException("No data found for " + group + " "
                         + dataset + " in " + path, null);
             } else if (result.size() > 1) {
@@ -579,19 +607,42 @@ public class IgniteDataStore implements IDataStore {
             }
             dataSets.add(dataset);
         }
-        List<IDataRecord> records = new ArrayList<>();
-        try {
-            for (Entry<String, Set<String>> entry : dataSetsByGroup
-                    .entrySet()) {
-                DataStoreKey key = new DataStoreKey(this.path, entry.getKey());
-                RetrieveProcessor processor = new RetrieveProcessor(
-                        entry.getValue(), request);
-                records.addAll(igniteCacheAccessor.doAsyncCacheOp(
-                        c -> c.invokeAsync(key, processor), false));
+        boolean subsetThrough = isSubsetThrough(request);
+        List<DataStoreKey> keys = new ArrayList<>(dataSetsByGroup.size());
+        /* Sorted so the keys are locked in a consistent order */
+        Map<DataStoreKey, RetrieveProcessor> processors = new TreeMap<>();
+        for (Entry<String, Set<String>> entry : dataSetsByGroup.entrySet()) {
+            DataStoreKey key = new DataStoreKey(this.path, entry.getKey());
+            keys.add(key);
+            RetrieveProcessor processor = new RetrieveProcessor(
+                    entry.getValue(), request);
+            processor.setRequireEntry(!subsetThrough);
+            processors.put(key, processor);
+        }
+        Map<DataStoreKey, EntryProcessorResult<List<IDataRecord>>> results = igniteCacheAccessor
+                .doAsyncCacheOp(c -> subsetThrough
+                        ? c.withSkipStore().invokeAllAsync(processors)
+                        : c.invokeAllAsync(processors), false);
+        Map<String, List<IDataRecord>> throughRecords = Collections.emptyMap();
+        if (subsetThrough) {
+            List<String> missing = new ArrayList<>();
+            for (DataStoreKey key : keys) {
+                if (!results.containsKey(key)) {
+                    for (String dataset : dataSetsByGroup
+                            .get(key.getGroup())) {
+                        missing.add(key.getGroup()
+                                + DataStoreFactory.DEF_SEPARATOR + dataset);
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                throughRecords = groupRecords(getThroughDataStore()
+                        .retrieveDatasets(missing.toArray(new String[0]),
+                                request));
             }
-        } catch (EntryProcessorException e) {
-            throw new StorageException(e.getLocalizedMessage(), null, e);
         }
+        List<IDataRecord> records = collectRetrieveResults(keys, results,
+                throughRecords);
 
         timer.stop();
         perfLog.logDuration("Retrieving records for " + datasetGroupPath
@@ -607,17 +658,40 @@ public class IgniteDataStore implements IDataStore {
         IPerformanceTimer timer = TimeUtil.getPerformanceTimer();
         timer.start();
 
+        boolean subsetThrough = isSubsetThrough(request);
         RetrieveProcessor processor = new RetrieveProcessor(request);
-        List<IDataRecord> records = new ArrayList<>();
-        try {
-            for (String group : groups) {
-                DataStoreKey key = new DataStoreKey(path, group);
-                records.addAll(igniteCacheAccessor.doAsyncCacheOp(
-                        c -> c.invokeAsync(key, processor), false));
+        processor.setRequireEntry(!subsetThrough);
+        List<DataStoreKey> keys = new ArrayList<>(groups.length);
+        for (String group : groups) {
+            keys.add(new DataStoreKey(path, group));
+        }
+        /* Sorted so the keys are locked in a consistent order */
+        Set<DataStoreKey> keySet = new TreeSet<>(keys);
+        Map<DataStoreKey, EntryProcessorResult<List<IDataRecord>>> results = igniteCacheAccessor
+                .doAsyncCacheOp(c -> subsetThrough
+                        ? c.withSkipStore().invokeAllAsync(keySet, processor)
+                        : c.invokeAllAsync(keySet, processor), false);
+        Map<String, List<IDataRecord>> throughRecords = Collections.emptyMap();
+        if (subsetThrough) {
+            Set<String> missing = new LinkedHashSet<>();
+            for (DataStoreKey key : keySet) {
+                if (!results.containsKey(key)) {
+                    missing.add(key.getGroup());
+                }
+            }
+            if (!missing.isEmpty()) {
+                try {
+                    throughRecords = groupRecords(getThroughDataStore()
+                            .retrieveGroups(missing.toArray(new String[0]),
+                                    request));
+                } catch (FileNotFoundException e) {
+                    throw new StorageException(e.getLocalizedMessage(), null,
+                            e);
+                }
             }
-        } catch (EntryProcessorException e) {
-            throw new StorageException(e.getLocalizedMessage(), null, e);
         }
+        List<IDataRecord> records = collectRetrieveResults(keys, results,
+                throughRecords);
 
         timer.stop();
         perfLog.logDuration(
@@ -627,6 +701,102 @@ public class IgniteDataStore implements IDataStore {
         return records.toArray(new IDataRecord[0]);
     }
 
+    /**
+     * Assemble the results of a batched retrieve in the order of the requested
+     * keys. Every group is processed before failing so that the exception
+     * identifies all of the groups that could not be retrieved instead of only
+     * the first one.
+     *
+     * @param keys
+     *            the requested keys, in request order
+     * @param results
+     *            the results of invoking a {@link RetrieveProcessor} on each
+     *            key
+     * @param throughRecords
+     *            records retrieved from the through data store for keys that
+     *            were not in the cache, by group
+     * @return the retrieved records
+     * @throws StorageException
+     *             if any group failed
+     */
+    protected List<IDataRecord> collectRetrieveResults(List<DataStoreKey> keys,
+            Map<DataStoreKey, EntryProcessorResult<List<IDataRecord>>> results,
+            Map<String, List<IDataRecord>> throughRecords)
+            throws StorageException {
+        List<IDataRecord> records = new ArrayList<>();
+        Map<String, EntryProcessorException> failures = new LinkedHashMap<>();
+        Set<String> unusedThroughGroups = new LinkedHashSet<>(
+                throughRecords.keySet());
+        for (DataStoreKey key : keys) {
+            EntryProcessorResult<List<IDataRecord>> result = results.get(key);
+            if (result == null) {
+                List<IDataRecord> groupRecords = throughRecords
+                        .get(key.getGroup());
+                if (groupRecords != null) {
+                    records.addAll(groupRecords);
+                    unusedThroughGroups.remove(key.getGroup());
+                }
+                continue;
+            }
+            try {
+                List<IDataRecord> groupRecords = result.get();
+                if (groupRecords != null) {
+                    records.addAll(groupRecords);
+                }
+            } catch (EntryProcessorException e) {
+                failures.put(key.getGroup(), e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            StringJoiner message = new StringJoiner("; ",
+                    "Failed to retrieve " + failures.size() + " of "
+                            + keys.size() + " groups from " + path + ": ",
+                    "");
+            StorageException exception = null;
+            for (Entry<String, EntryProcessorException> failure : failures
+                    .entrySet()) {
+                message.add(failure.getKey() + " ("
+                        + failure.getValue().getLocalizedMessage() + ")");
+            }
+            for (EntryProcessorException e : failures.values()) {
+                if (exception == null) {
+                    exception = new StorageException(message.toString(), null,
+                            e);
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+            throw exception;
+        }
+        /*
+         * The through data store may name groups differently than they were
+         * requested, those records are still part of the result.
+         */
+        for (String group : unusedThroughGroups) {
+            records.addAll(throughRecords.get(group));
+        }
+        return records;
+    }
+
+    /**
+     * @return true if the request should go to the through data store for any
+     *         group that is not already cached
+     */
+    private static boolean isSubsetThrough(Request request) {
+        return SUBSET_THROUGH && request.getType() != Request.Type.ALL;
+    }
+
+    private static Map<String, List<IDataRecord>> groupRecords(
+            IDataRecord[] records) {
+        Map<String, List<IDataRecord>> recordsByGroup = new LinkedHashMap<>();
+        for (IDataRecord record : records) {
+            recordsByGroup
+                    .computeIfAbsent(record.getGroup(), g -> new ArrayList<>())
+                    .add(record);
+        }
+        return recordsByGroup;
+    }
+
     @Override
     public String[] getDatasets(String group)
             throws StorageException, FileNotFoundException {
@@ -60,6 +60,8 @@ import com.raytheon.uf.common.time.util.TimeUtil;
  * Sep 23, 2021  8608     mapeters  Add metadata handling
  * Apr 13, 2022  8845     njensen   Fix dimension value in processPoint()
  * Jun 08, 2022  8866     mapeters  Update requests to better match pypies
+ * Oct 17, 2026           agent     Add requireEntry, gather points and lines
+ *                                  with primitive specific copies
  *
  * </pre>
  *
@@ -76,6 +78,12 @@ public class RetrieveProcessor implements
     /** Optional, null means all */
     protected Set<String> datasets = null;
 
+    /**
+     * When false a missing entry produces a null result instead of an
+     * exception, so the caller can retrieve it some other way.
+     */
+    protected boolean requireEntry = true;
+
     public RetrieveProcessor() {
 
     }
@@ -110,11 +118,22 @@ public class RetrieveProcessor implements
         this.datasets = datasets;
     }
 
+    public boolean isRequireEntry() {
+        return requireEntry;
+    }
+
+    public void setRequireEntry(boolean requireEntry) {
+        this.requireEntry = requireEntry;
+    }
+
     @Override
     public List<IDataRecord> process(
             MutableEntry<DataStoreKey, DataStoreValue> entry, Object... args)
             throws EntryProcessorException {
         if (!entry.exists()) {
+            if (!requireEntry) {
+                return null;
+            }
             throw new EntryProcessorException(
                     "No data found for " + entry.getKey());
         }
@@ -281,9 +300,8 @@ public class RetrieveProcessor implements
             return process1DIndexRequest(record, indices);
         } else if (dims.length == 2) {
             long[] newDims = new long[] { 1, points.length };
-            Object array = record.getDataObject();
-            Object newArray = Array.newInstance(
-                    array.getClass().getComponentType(), points.length);
+            int[] srcIndices = new int[points.length];
+            boolean fill = false;
             for (int i = 0; i < points.length; i++) {
                 Point point = points[i];
                 if (point.x < 0 || point.x > dims[0] || point.y < 0
@@ -313,7 +331,7 @@ public class RetrieveProcessor implements
                          * And if you only request a single point and it's out
                          * of bounds, then you just get the fill value.
                          */
-                        Array.set(newArray, i, record.getFillValue());
+                        fill = true;
                     } else {
                         // Wrap around
                         int x = point.x;
@@ -331,14 +349,14 @@ public class RetrieveProcessor implements
                             y = (int) (y % dims[1]);
                         }
 
-                        int index = (int) (y * dims[0] + x);
-                        System.arraycopy(array, index, newArray, i, 1);
+                        srcIndices[i] = (int) (y * dims[0] + x);
                     }
                 } else {
-                    int index = (int) (point.y * dims[0] + point.x);
-                    System.arraycopy(array, index, newArray, i, 1);
+                    srcIndices[i] = (int) (point.y * dims[0] + point.x);
                 }
             }
+            Object newArray = fill ? fillArray(record)
+                    : gather(record.getDataObject(), srcIndices);
 
             return DataStoreFactory.createStorageRecord(record.getName(),
                     record.getGroup(), newArray, newDims.length, newDims);
@@ -359,18 +377,15 @@ public class RetrieveProcessor implements
             normalizeLineIndices(indices, dims[0]);
             long[] newDims = new long[] { indices.length, dims[1] };
             int newLength = (int) (dims[1] * indices.length);
-            Object array = record.getDataObject();
-            Object newArray = Array.newInstance(
-                    array.getClass().getComponentType(), newLength);
+            int[] srcIndices = new int[newLength];
+            int newIndex = 0;
             for (int i = 0; i < dims[1]; i++) {
-                int c = 0;
+                int rowStart = (int) (i * dims[0]);
                 for (int j : indices) {
-                    int index = (int) (i * dims[0] + j);
-                    int newIndex = (int) (i * newDims[0] + c);
-                    System.arraycopy(array, index, newArray, newIndex, 1);
-                    c += 1;
+                    srcIndices[newIndex++] = rowStart + j;
                 }
             }
+            Object newArray = gather(record.getDataObject(), srcIndices);
 
             return DataStoreFactory.createStorageRecord(record.getName(),
                     record.getGroup(), newArray, newDims.length, newDims);
@@ -386,8 +401,8 @@ public class RetrieveProcessor implements
         Object array = record.getDataObject();
         int recordLength = Array.getLength(array);
         long[] newDims = new long[] { indices.length };
-        Object newArray = Array.newInstance(array.getClass().getComponentType(),
-                indices.length);
+        int[] srcIndices = new int[indices.length];
+        boolean fill = false;
         for (int i = 0; i < indices.length; ++i) {
             int recordIndex = indices[i];
             if (recordIndex == recordLength) {
@@ -410,21 +425,95 @@ public class RetrieveProcessor implements
                      * And if you only request a single index and it's out of
                      * bounds, then you just get the fill value.
                      */
-                    Array.set(newArray, i, record.getFillValue());
+                    fill = true;
                 } else {
                     // Wrap around to index 0
-                    recordIndex = 0;
-                    System.arraycopy(array, recordIndex, newArray, i, 1);
+                    srcIndices[i] = 0;
                 }
             } else {
-                System.arraycopy(array, recordIndex, newArray, i, 1);
+                srcIndices[i] = recordIndex;
             }
         }
+        Object newArray = fill ? fillArray(record) : gather(array, srcIndices);
 
         return DataStoreFactory.createStorageRecord(record.getName(),
                 record.getGroup(), newArray, newDims.length, newDims);
     }
 
+    /**
+     * Copy the values at the given indices of an array into a new array of the
+     * same type. The common primitive types are copied directly instead of
+     * going through {@link System#arraycopy} once per value.
+     *
+     * @param array
+     *            the source array
+     * @param indices
+     *            the index in the source array of each value in the result
+     * @return the new array
+     */
+    protected static Object gather(Object array, int[] indices) {
+        int length = indices.length;
+        if (array instanceof float[]) {
+            float[] src = (float[]) array;
+            float[] dest = new float[length];
+            for (int i = 0; i < length; i++) {
+                dest[i] = src[indices[i]];
+            }
+            return dest;
+        } else if (array instanceof byte[]) {
+            byte[] src = (byte[]) array;
+            byte[] dest = new byte[length];
+            for (int i = 0; i < length; i++) {
+                dest[i] = src[indices[i]];
+            }
+            return dest;
+        } else if (array instanceof short[]) {
+            short[] src = (short[]) array;
+            short[] dest = new short[length];
+            for (int i = 0; i < length; i++) {
+                dest[i] = src[indices[i]];
+            }
+            return dest;
+        } else if (array instanceof int[]) {
+            int[] src = (int[]) array;
+            int[] dest = new int[length];
+            for (int i = 0; i < length; i++) {
+                dest[i] = src[indices[i]];
+            }
+            return dest;
+        } else if (array instanceof long[]) {
+            long[] src = (long[]) array;
+            long[] dest = new long[length];
+            for (int i = 0; i < length; i++) {
+                dest[i] = src[indices[i]];
+            }
+            return dest;
+        } else if (array instanceof double[]) {
+            double[] src = (double[]) array;
+            double[] dest = new double[length];
+            for (int i = 0; i < length; i++) {
+                dest[i] = src[indices[i]];
+            }
+            return dest;
+        }
+        Object dest = Array.newInstance(array.getClass().getComponentType(),
+                length);
+        for (int i = 0; i < length; i++) {
+            System.arraycopy(array, indices[i], dest, i, 1);
+        }
+        return dest;
+    }
+
+    /**
+     * @return a single element array containing the record's fill value
+     */
+    private static Object fillArray(IDataRecord record) {
+        Object newArray = Array.newInstance(
+                record.getDataObject().getClass().getComponentType(), 1);
+        Array.set(newArray, 0, record.getFillValue());
+        return newArray;
+    }
+
     private static void normalizeLineIndices(int[] indices, long dimSize) {
         for (int i = 0; i < indices.length; ++i) {
             int index = indices[i];
@@ -32,6 +32,7 @@ import org.opengis.referencing.datum.PixelInCell;
 import org.opengis.referencing.operation.MathTransform;
 import org.opengis.referencing.operation.TransformException;
 
+import com.raytheon.uf.common.numeric.dest.BulkDataDestination;
 import com.raytheon.uf.common.numeric.dest.DataDestination;
 import com.raytheon.uf.common.numeric.source.DataSource;
 
@@ -48,6 +49,7 @@ import com.raytheon.uf.common.numeric.source.DataSource;
  * ------------ ---------- ----------- --------------------------
  * Jun 18, 2012            bsteffen    Initial creation
  * Jul 17, 2013 2185       bsteffen    Cache computed grid reprojections.
+ * Oct 17, 2026            agent       Reproject a row at a time.
  * 
  * </pre>
  * 
@@ -100,12 +102,43 @@ public class GridReprojection {
 
     public <T extends DataDestination> T reprojectedGrid(GridSampler sampler,
             T dest) throws FactoryException, TransformException {
+        double[] row = new double[targetNx];
         for (int j = 0; j < targetNy; j++) {
+            reprojectedGridRow(sampler, j, row);
+            setRow(dest, row, j);
+        }
+        return dest;
+    }
+
+    /**
+     * Reproject an entire row of the target grid.
+     * 
+     * @param sampler
+     *            the sampler for the source data
+     * @param y
+     *            the row in the target grid
+     * @param row
+     *            receives the value of every cell in the row
+     */
+    protected void reprojectedGridRow(GridSampler sampler, int y,
+            double[] row) throws FactoryException, TransformException {
+        for (int i = 0; i < targetNx; i++) {
+            row[i] = reprojectedGridCell(sampler, i, y);
+        }
+    }
+
+    /**
+     * Write a row of the target grid to the destination, in a single call if
+     * the destination supports it.
+     */
+    protected void setRow(DataDestination dest, double[] row, int y) {
+        if (dest instanceof BulkDataDestination) {
+            ((BulkDataDestination) dest).setDataValues(row, 0, y, targetNx);
+        } else {
             for (int i = 0; i < targetNx; i++) {
-                dest.setDataValue(reprojectedGridCell(sampler, i, j), i, j);
+                dest.setDataValue(row[i], i, y);
             }
         }
-        return dest;
     }
 
     public double reprojectedGridCell(GridSampler sampler, int x, int y)
@@ -20,10 +20,14 @@
 package com.raytheon.uf.common.geospatial.interpolation;
 
 import java.awt.geom.Point2D;
-import java.lang.ref.Reference;
-import java.lang.ref.SoftReference;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.apache.commons.collections.keyvalue.MultiKey;
 import org.geotools.coverage.grid.GeneralGridGeometry;
@@ -31,6 +35,8 @@ import org.geotools.referencing.operation.projection.ProjectionException;
 import org.opengis.referencing.FactoryException;
 import org.opengis.referencing.operation.TransformException;
 
+import com.raytheon.uf.common.numeric.dest.DataDestination;
+
 /**
  * A GridReprojection which precomputes the coordinates of all the grid cells so
  * that multiple reprojects will be much faster. This implements a memory/time
@@ -38,9 +44,22 @@ import org.opengis.referencing.operation.TransformException;
  * is able to reproject much faster. Because of the high memory usage all
  * instances are cached so they can be shared for identical reprojections.
  * 
- * The current caching implementation uses soft references. When the
- * reprojection is no longer referenced then the memory will be reclaimed by the
- * JVM as needed.
+ * Instances are cached in a least recently used cache which is limited by the
+ * total size of the transform tables, configured in bytes with
+ * -Dgrid.reprojection.cache.bytes. When the cache is over budget the least
+ * recently used reprojections are dropped, callers still using them are
+ * unaffected. Setting -Dgrid.reprojection.cache.direct=true stores the tables
+ * outside of the java heap. If -Dgrid.reprojection.cache.dir is set then
+ * tables are also saved to that directory and memory mapped from there, so
+ * they survive eviction and restarts. The total size of the saved tables is
+ * limited with -Dgrid.reprojection.cache.dir.bytes (default 1GiB) by deleting
+ * the least recently used, see {@link TransformTableStore}.
+ * 
+ * {@link #reprojectedGridParallel(GridSampler, DataDestination)} splits the
+ * target grid into bands of rows that are reprojected concurrently, which is
+ * only safe when the source, interpolation and destination can be used from
+ * multiple threads at once. The buffer backed sources and destinations in the
+ * numeric plugin can.
  * 
  * <pre>
  * 
@@ -49,6 +68,12 @@ import org.opengis.referencing.operation.TransformException;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jul 17, 2013 2185       bsteffen    Initial creation
+ * Oct 17, 2026            agent       Reproject rows straight from the
+ *                                     transform table, add parallel mode
+ * Oct 17, 2026            agent       Replace soft references with a byte
+ *                                     budgeted LRU cache, optionally off
+ *                                     heap or persisted to disk
+ * Oct 17, 2026            agent       Limit the size of the disk cache
  * 
  * </pre>
  * 
@@ -57,7 +82,26 @@ import org.opengis.referencing.operation.TransformException;
  */
 public class PrecomputedGridReprojection extends GridReprojection {
 
-    protected float[] transformTable;
+    /** The number of target rows a single task reprojects serially. */
+    private static final int ROWS_PER_TASK = 64;
+
+    /** The maximum total size in bytes of all the cached transform tables. */
+    private static final long CACHE_BYTES = Long.getLong(
+            "grid.reprojection.cache.bytes",
+            Runtime.getRuntime().maxMemory() / 8);
+
+    private static final boolean CACHE_DIRECT = Boolean
+            .getBoolean("grid.reprojection.cache.direct");
+
+    private static final TransformTableStore store = TransformTableStore
+            .fromProperty("grid.reprojection.cache.dir",
+                    "grid.reprojection.cache.dir.bytes");
+
+    /**
+     * Holds an x and y coordinate for each cell in the target grid, in row
+     * major order.
+     */
+    protected FloatBuffer transformTable;
 
     protected PrecomputedGridReprojection(GeneralGridGeometry sourceGeometry,
             GeneralGridGeometry targetGeometry) {
@@ -77,6 +121,13 @@ public class PrecomputedGridReprojection extends GridReprojection {
         } catch (FactoryException e) {
             throw new TransformException("Error preparing transform.", e);
         }
+        if (store != null) {
+            FloatBuffer stored = store.load(this);
+            if (stored != null) {
+                this.transformTable = stored;
+                return;
+            }
+        }
         float[] transformTable = new float[targetNy * targetNx * 2];
         int index = 0;
         for (int j = 0; j < targetNy; j++) {
@@ -92,7 +143,27 @@ public class PrecomputedGridReprojection extends GridReprojection {
             ;// Ignore the points in the transformTable that are
              // invalid are set to NaN, no other action is necessary.
         }
-        this.transformTable = transformTable;
+        FloatBuffer stored = null;
+        if (store != null) {
+            stored = store.save(this, transformTable);
+        }
+        if (stored != null) {
+            this.transformTable = stored;
+        } else if (CACHE_DIRECT) {
+            this.transformTable = ByteBuffer
+                    .allocateDirect(transformTable.length * Float.BYTES)
+                    .order(ByteOrder.nativeOrder()).asFloatBuffer()
+                    .put(transformTable);
+        } else {
+            this.transformTable = FloatBuffer.wrap(transformTable);
+        }
+    }
+
+    /**
+     * @return the number of bytes needed for the transform table.
+     */
+    protected long getTransformTableSize() {
+        return (long) targetNx * targetNy * 2 * Float.BYTES;
     }
 
     @Override
@@ -100,8 +171,8 @@ public class PrecomputedGridReprojection extends GridReprojection {
             throws TransformException, FactoryException {
         if (x >= 0 && x < targetNx && y >= 0 && y < targetNy) {
             int index = (y * targetNx + x) * 2;
-            float xVal = transformTable[index];
-            float yVal = transformTable[index + 1];
+            float xVal = transformTable.get(index);
+            float yVal = transformTable.get(index + 1);
             if (!Float.isNaN(xVal) && !Float.isNaN(yVal)) {
                 return new Point2D.Double(xVal, yVal);
             }
@@ -109,7 +180,108 @@ public class PrecomputedGridReprojection extends GridReprojection {
         return super.getReprojectDataPoint(x, y);
     }
 
-    private static final Map<MultiKey, Reference<PrecomputedGridReprojection>> cache = new HashMap<MultiKey, Reference<PrecomputedGridReprojection>>();
+    @Override
+    protected void reprojectedGridRow(GridSampler sampler, int y,
+            double[] row) throws FactoryException, TransformException {
+        int index = y * targetNx * 2;
+        for (int i = 0; i < targetNx; i++) {
+            float xVal = transformTable.get(index++);
+            float yVal = transformTable.get(index++);
+            if (Float.isNaN(xVal) || Float.isNaN(yVal)) {
+                row[i] = reprojectedGridCell(sampler, i, y);
+            } else {
+                row[i] = sampler.sample(xVal, yVal);
+            }
+        }
+    }
+
+    /**
+     * Reproject the grid using multiple threads from the common
+     * {@link ForkJoinPool}. The sampler and destination must be safe to use
+     * from multiple threads, each cell of the destination is only written by
+     * one thread.
+     * 
+     * @see #reprojectedGrid(GridSampler, DataDestination)
+     */
+    public <T extends DataDestination> T reprojectedGridParallel(
+            GridSampler sampler, T dest)
+            throws FactoryException, TransformException {
+        if (targetNy <= ROWS_PER_TASK
+                || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            return reprojectedGrid(sampler, dest);
+        }
+        try {
+            ForkJoinPool.commonPool()
+                    .invoke(new ReprojectRowsTask(sampler, dest, 0, targetNy));
+        } catch (ReprojectException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FactoryException) {
+                throw (FactoryException) cause;
+            }
+            throw (TransformException) cause;
+        }
+        return dest;
+    }
+
+    private class ReprojectRowsTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final GridSampler sampler;
+
+        private final DataDestination dest;
+
+        private final int startRow;
+
+        private final int endRow;
+
+        public ReprojectRowsTask(GridSampler sampler, DataDestination dest,
+                int startRow, int endRow) {
+            this.sampler = sampler;
+            this.dest = dest;
+            this.startRow = startRow;
+            this.endRow = endRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (endRow - startRow > ROWS_PER_TASK) {
+                int midRow = (startRow + endRow) >>> 1;
+                invokeAll(
+                        new ReprojectRowsTask(sampler, dest, startRow, midRow),
+                        new ReprojectRowsTask(sampler, dest, midRow, endRow));
+                return;
+            }
+            double[] row = new double[targetNx];
+            try {
+                for (int j = startRow; j < endRow; j++) {
+                    reprojectedGridRow(sampler, j, row);
+                    setRow(dest, row, j);
+                }
+            } catch (FactoryException | TransformException e) {
+                throw new ReprojectException(e);
+            }
+        }
+    }
+
+    /**
+     * Carries checked exceptions out of a {@link ReprojectRowsTask}.
+     */
+    private static class ReprojectException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public ReprojectException(Exception cause) {
+            super(cause);
+        }
+    }
+
+    /** Access ordered so iteration starts at the least recently used. */
+    private static final Map<MultiKey, PrecomputedGridReprojection> cache = new LinkedHashMap<>(
+            16, 0.75f, true);
+
+    /** The total size of the transform tables in the cache, guarded by cache. */
+    private static long cacheBytes = 0;
 
     /**
      * Get a shared GridReprojection. This reprojection will have the transform
@@ -125,27 +297,48 @@ public class PrecomputedGridReprojection extends GridReprojection {
             GeneralGridGeometry sourceGeometry,
             GeneralGridGeometry targetGeometry) throws TransformException {
         PrecomputedGridReprojection reprojection = null;
-        boolean created = false;
         MultiKey key = new MultiKey(sourceGeometry, targetGeometry);
         synchronized (cache) {
-            Reference<PrecomputedGridReprojection> ref = cache.get(key);
-            if (ref != null) {
-                reprojection = ref.get();
-            }
+            reprojection = cache.get(key);
             if (reprojection == null) {
                 reprojection = new PrecomputedGridReprojection(sourceGeometry,
                         targetGeometry);
-                created = true;
-                cache.put(key, new SoftReference<PrecomputedGridReprojection>(
-                        reprojection));
+                long size = reprojection.getTransformTableSize();
+                if (size <= CACHE_BYTES) {
+                    evict(CACHE_BYTES - size);
+                    cache.put(key, reprojection);
+                    cacheBytes += size;
+                }
             }
         }
         synchronized (reprojection) {
-            if (created) {
-                reprojection.computeTransformTable();
+            if (reprojection.transformTable == null) {
+                try {
+                    reprojection.computeTransformTable();
+                } catch (TransformException | RuntimeException e) {
+                    synchronized (cache) {
+                        if (cache.remove(key, reprojection)) {
+                            cacheBytes -= reprojection
+                                    .getTransformTableSize();
+                        }
+                    }
+                    throw e;
+                }
             }
         }
         return reprojection;
     }
 
+    /**
+     * Remove the least recently used reprojections until the cache is no
+     * larger than maxBytes. Must be called while holding the cache lock.
+     */
+    private static void evict(long maxBytes) {
+        Iterator<PrecomputedGridReprojection> it = cache.values().iterator();
+        while (cacheBytes > maxBytes && it.hasNext()) {
+            cacheBytes -= it.next().getTransformTableSize();
+            it.remove();
+        }
+    }
+
 }
@@ -0,0 +1,411 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.geospatial.interpolation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.geotools.coverage.grid.GeneralGridGeometry;
+import org.opengis.coverage.grid.GridEnvelope;
+import org.opengis.referencing.datum.PixelInCell;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.status.UFStatus.Priority;
+
+/**
+ * Saves the transform tables of {@link PrecomputedGridReprojection}s to a
+ * local directory and memory maps them back in so they do not need to be
+ * recomputed after being evicted from the cache or after a restart. Mapped
+ * tables live outside of the java heap and are paged in by the OS as needed.
+ * 
+ * Each table is stored in a file named by the SHA-256 hash of a description of
+ * the source and target geometries. The full description is also stored in the
+ * file header and checked on load so a hash collision or a stale file is never
+ * used.
+ * 
+ * The total size of the tables in the directory is limited to a byte budget.
+ * Loading a table updates its modification time, and after each save the
+ * tables that were used least recently are deleted until the directory is
+ * back under budget. Tables that are still mapped by a running process stay
+ * valid after the file is deleted, the space is released when they are
+ * unmapped. Temporary files left behind by a process that died while saving
+ * are deleted once they are an hour old.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * Oct 17, 2026            agent       Limit the directory to a byte budget
+ * 
+ * </pre>
+ * 
+ * @author agent
+ */
+class TransformTableStore {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(TransformTableStore.class);
+
+    private static final int MAGIC = 0x47525054;
+
+    private static final int VERSION = 1;
+
+    private static final String EXTENSION = ".tbl";
+
+    private static final String TMP_EXTENSION = ".tmp";
+
+    /** Default limit for the total size of the saved tables, 1GiB. */
+    private static final long DEFAULT_MAX_BYTES = 1024L * 1024 * 1024;
+
+    /** Age at which an orphaned temporary file is deleted. */
+    private static final long TMP_FILE_MAX_AGE = TimeUnit.HOURS.toMillis(1);
+
+    /** Size of the buffer used to convert floats when writing a table. */
+    private static final int WRITE_CHUNK_BYTES = 1024 * 1024;
+
+    private final Path directory;
+
+    private final long maxBytes;
+
+    public TransformTableStore(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @param dirProperty
+     *            system property containing the directory
+     * @param bytesProperty
+     *            system property containing the maximum total size of the
+     *            tables in bytes, defaults to 1GiB.
+     * @return a store for the directory in the given system property or null if
+     *         the property is not set.
+     */
+    public static TransformTableStore fromProperty(String dirProperty,
+            String bytesProperty) {
+        String dir = System.getProperty(dirProperty);
+        if (dir == null || dir.trim().isEmpty()) {
+            return null;
+        }
+        long maxBytes = Long.getLong(bytesProperty, DEFAULT_MAX_BYTES);
+        return new TransformTableStore(Paths.get(dir.trim()), maxBytes);
+    }
+
+    /**
+     * Load a previously saved transform table.
+     * 
+     * @return the mapped table, or null if there is no valid saved table for
+     *         the reprojection.
+     */
+    public FloatBuffer load(GridReprojection reprojection) {
+        String description = describe(reprojection);
+        if (description == null) {
+            return null;
+        }
+        Path file = getFile(description);
+        if (!Files.isReadable(file)) {
+            return null;
+        }
+        FloatBuffer table;
+        try {
+            table = map(file, description, reprojection);
+        } catch (IOException | RuntimeException e) {
+            statusHandler.handle(Priority.DEBUG,
+                    "Ignoring unreadable transform table " + file, e);
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(file,
+                    FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            statusHandler.handle(Priority.DEBUG,
+                    "Unable to update the modification time of " + file, e);
+        }
+        return table;
+    }
+
+    /**
+     * Save a transform table, the file is written to a temporary file first so
+     * that other processes never see a partial table.
+     * 
+     * @return the saved table mapped from disk or null if it could not be
+     *         saved.
+     */
+    public FloatBuffer save(GridReprojection reprojection,
+            float[] transformTable) {
+        if ((long) transformTable.length * Float.BYTES > maxBytes) {
+            return null;
+        }
+        String description = describe(reprojection);
+        if (description == null) {
+            return null;
+        }
+        Path file = getFile(description);
+        Path tmpFile = null;
+        try {
+            Files.createDirectories(directory);
+            tmpFile = Files.createTempFile(directory,
+                    file.getFileName().toString(), TMP_EXTENSION);
+            try (FileChannel channel = FileChannel.open(tmpFile,
+                    StandardOpenOption.WRITE)) {
+                write(channel, createHeader(description, reprojection));
+                ByteBuffer chunk = ByteBuffer.allocate(WRITE_CHUNK_BYTES)
+                        .order(ByteOrder.nativeOrder());
+                FloatBuffer floats = chunk.asFloatBuffer();
+                int offset = 0;
+                while (offset < transformTable.length) {
+                    int length = Math.min(floats.capacity(),
+                            transformTable.length - offset);
+                    floats.clear();
+                    floats.put(transformTable, offset, length);
+                    chunk.clear().limit(length * Float.BYTES);
+                    write(channel, chunk);
+                    offset += length;
+                }
+            }
+            try {
+                Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmpFile = null;
+            FloatBuffer table = map(file, description, reprojection);
+            enforceBudget(file);
+            return table;
+        } catch (IOException | RuntimeException e) {
+            statusHandler.handle(Priority.PROBLEM,
+                    "Unable to save transform table to " + file, e);
+            return null;
+        } finally {
+            if (tmpFile != null) {
+                try {
+                    Files.deleteIfExists(tmpFile);
+                } catch (IOException e) {
+                    statusHandler.handle(Priority.DEBUG,
+                            "Unable to delete " + tmpFile, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Delete the least recently used tables until the directory is within the
+     * byte budget. The table that was just saved is never deleted.
+     */
+    private synchronized void enforceBudget(Path keep) {
+        Map<Path, BasicFileAttributes> tables = new HashMap<>();
+        long totalBytes = 0;
+        long now = System.currentTimeMillis();
+        try (DirectoryStream<Path> stream = Files
+                .newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                BasicFileAttributes attrs;
+                try {
+                    attrs = Files.readAttributes(path,
+                            BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                if (name.endsWith(TMP_EXTENSION)) {
+                    if (now - attrs.lastModifiedTime()
+                            .toMillis() > TMP_FILE_MAX_AGE) {
+                        delete(path);
+                    }
+                } else if (name.endsWith(EXTENSION) && attrs.isRegularFile()) {
+                    totalBytes += attrs.size();
+                    if (!path.equals(keep)) {
+                        tables.put(path, attrs);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            statusHandler.handle(Priority.PROBLEM,
+                    "Unable to list transform tables in " + directory, e);
+            return;
+        }
+        if (totalBytes <= maxBytes) {
+            return;
+        }
+        List<Path> oldestFirst = new ArrayList<>(tables.keySet());
+        oldestFirst.sort(Comparator
+                .comparing(path -> tables.get(path).lastModifiedTime()));
+        for (Path table : oldestFirst) {
+            if (totalBytes <= maxBytes) {
+                break;
+            }
+            if (delete(table)) {
+                totalBytes -= tables.get(table).size();
+            }
+        }
+    }
+
+    /**
+     * @return true if the file was deleted by this call.
+     */
+    private static boolean delete(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            statusHandler.handle(Priority.DEBUG, "Unable to delete " + file,
+                    e);
+            return false;
+        }
+    }
+
+    private FloatBuffer map(Path file, String description,
+            GridReprojection reprojection) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer expected = createHeader(description, reprojection);
+        if (mapped.limit() < expected.remaining()) {
+            throw new IOException("Truncated header");
+        }
+        ByteBuffer header = mapped.duplicate();
+        header.limit(expected.remaining());
+        if (!header.equals(expected)) {
+            throw new IOException("Header does not match the reprojection");
+        }
+        ByteBuffer data = mapped.duplicate();
+        data.position(expected.remaining());
+        long tableBytes = (long) reprojection.targetNx * reprojection.targetNy
+                * 2 * Float.BYTES;
+        if (data.remaining() != tableBytes) {
+            throw new IOException("Expected " + tableBytes
+                    + " bytes of table but found " + data.remaining());
+        }
+        return data.slice().order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    /**
+     * The header identifies the format, byte order and the reprojection. It is
+     * padded so the table starts on an 8 byte boundary.
+     */
+    private static ByteBuffer createHeader(String description,
+            GridReprojection reprojection) {
+        byte[] descBytes = description.getBytes(StandardCharsets.UTF_8);
+        int length = 4 * Integer.BYTES + 1 + descBytes.length;
+        length = (length + 7) & ~7;
+        ByteBuffer header = ByteBuffer.allocate(length);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.put((byte) (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN
+                ? 1 : 0));
+        header.putInt(reprojection.targetNx);
+        header.putInt(reprojection.targetNy);
+        header.put(descBytes);
+        header.clear();
+        return header;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private Path getFile(String description) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(description.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(hash.length * 2 + 4);
+            for (byte b : hash) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16));
+                name.append(Character.forDigit(b & 0xF, 16));
+            }
+            name.append(EXTENSION);
+            return directory.resolve(name.toString());
+        } catch (NoSuchAlgorithmException e) {
+            /* Every java platform is required to support SHA-256 */
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return a description of the source and target geometries that uniquely
+     *         identifies the transform, or null if the geometries cannot be
+     *         described.
+     */
+    private static String describe(GridReprojection reprojection) {
+        try {
+            StringBuilder description = new StringBuilder();
+            describe(reprojection.getSourceGeometry(), description);
+            description.append('\n');
+            describe(reprojection.getTargetGeometry(), description);
+            return description.toString();
+        } catch (RuntimeException e) {
+            /*
+             * Geometries without a grid to CRS transform or with objects that
+             * cannot be formatted as WKT are not persisted.
+             */
+            statusHandler.handle(Priority.DEBUG,
+                    "Unable to describe grid geometry", e);
+            return null;
+        }
+    }
+
+    private static void describe(GeneralGridGeometry geometry,
+            StringBuilder description) {
+        GridEnvelope range = geometry.getGridRange();
+        for (int i = 0; i < range.getDimension(); i++) {
+            description.append(range.getLow(i)).append(' ')
+                    .append(range.getHigh(i)).append(' ');
+        }
+        description.append('\n');
+        description.append(geometry.getCoordinateReferenceSystem().toWKT());
+        description.append('\n');
+        description.append(
+                geometry.getGridToCRS(PixelInCell.CELL_CENTER).toWKT());
+    }
+
+}
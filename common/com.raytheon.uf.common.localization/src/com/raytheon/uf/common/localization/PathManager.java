@@ -91,6 +91,7 @@ import com.raytheon.uf.common.status.UFStatus.Priority;
  *                                  SEPARATOR.
  * Oct 07, 2021  8673     randerso  Add logging to attempt to determine why
  *                                  LocalizationFile.isNull() is returning true.
+ * Oct 17, 2026           agent     Added readCache() and cacheEntries()
  *
  * </pre>
  *
@@ -589,10 +590,23 @@ public class PathManager implements IPathManager {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void restoreCache(File cacheFile)
             throws IOException, SerializationException {
-        PathManager pm = (PathManager) PathManagerFactory.getPathManager();
+        cacheEntries(readCache(cacheFile).values());
+    }
+
+    /**
+     * Reads a cache file written by {@link #storeCache(File)} without
+     * restoring it.
+     *
+     * @param cacheFile
+     * @return the metadata in the cache file
+     * @throws IOException
+     * @throws SerializationException
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<LocalizationFileKey, ListResponseEntry> readCache(
+            File cacheFile) throws IOException, SerializationException {
         FileInputStream fin = new FileInputStream(cacheFile);
         Map<SerializableKey, ListResponseEntry> cacheObject;
         try {
@@ -602,18 +616,38 @@ public class PathManager implements IPathManager {
             fin.close();
         }
 
+        Map<LocalizationFileKey, ListResponseEntry> result = new HashMap<>(
+                cacheObject.size() * 2);
         for (Map.Entry<SerializableKey, ListResponseEntry> entry : cacheObject
                 .entrySet()) {
             ListResponseEntry lre = entry.getValue();
             SerializableKey key = entry.getKey();
             if (lre.getContext() != null && lre.getFileName() != null) {
-                LocalizationFile file = new LocalizationFile(pm.adapter,
+                result.put(new LocalizationFileKey(key.getFileName(),
+                        key.getContext()), lre);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the metadata of files to the cache, replacing any cached metadata
+     * for the same files. Can be used to fill the cache from a bulk listing of
+     * files so they do not need to be looked up individually.
+     *
+     * @param entries
+     *            the metadata of the files
+     */
+    public void cacheEntries(Collection<ListResponseEntry> entries) {
+        synchronized (fileCache) {
+            for (ListResponseEntry lre : entries) {
+                LocalizationFile file = new LocalizationFile(adapter,
                         lre.getContext(),
-                        pm.adapter.getPath(lre.getContext(), lre.getFileName()),
+                        adapter.getPath(lre.getContext(), lre.getFileName()),
                         lre.getDate(), lre.getFileName(), lre.getChecksum(),
                         lre.isDirectory());
-                fileCache.put(new LocalizationFileKey(key.getFileName(),
-                        key.getContext()), file);
+                fileCache.put(new LocalizationFileKey(lre.getFileName(),
+                        lre.getContext()), file);
             }
         }
     }
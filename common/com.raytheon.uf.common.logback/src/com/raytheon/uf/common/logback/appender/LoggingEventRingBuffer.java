@@ -0,0 +1,162 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.logback.appender;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded ring buffer of logging events and the appender each event should be
+ * written to. All slots are allocated up front so adding an event does not
+ * allocate or lock, any number of threads may add events but only a single
+ * thread may take them.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @param <E>
+ *            the type of the events
+ * @param <T>
+ *            the type of the targets of the events
+ */
+final class LoggingEventRingBuffer<E, T> {
+
+    private final int mask;
+
+    /**
+     * The sequence of each slot, a slot is free to be written at position p
+     * when its sequence is p and is ready to be read when it is p + 1.
+     */
+    private final AtomicLongArray sequences;
+
+    private final Object[] events;
+
+    private final Object[] targets;
+
+    private final AtomicLong writePosition = new AtomicLong();
+
+    /** Only modified by the reading thread */
+    private volatile long readPosition;
+
+    /**
+     * @param capacity
+     *            the minimum number of events the buffer can hold, it is
+     *            rounded up to a power of two
+     */
+    LoggingEventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.events = new Object[size];
+        this.targets = new Object[size];
+    }
+
+    /**
+     * Add an event to the buffer
+     * 
+     * @param event
+     * @param target
+     * @return false if the buffer is full
+     */
+    boolean offer(E event, T target) {
+        long position = writePosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (writePosition.compareAndSet(position, position + 1)) {
+                    events[index] = event;
+                    targets[index] = target;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = writePosition.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = writePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Take events from the buffer. Must only be called by one thread at a
+     * time.
+     * 
+     * @param eventBatch
+     *            filled with the events
+     * @param targetBatch
+     *            filled with the target of each event
+     * @return the number of events taken, 0 if the buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(E[] eventBatch, T[] targetBatch) {
+        long position = readPosition;
+        int count = 0;
+        int max = Math.min(eventBatch.length, targetBatch.length);
+        while (count < max) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            eventBatch[count] = (E) events[index];
+            targetBatch[count] = (T) targets[index];
+            events[index] = null;
+            targets[index] = null;
+            sequences.set(index, position + mask + 1);
+            position += 1;
+            count += 1;
+        }
+        readPosition = position;
+        return count;
+    }
+
+    /**
+     * @return true if there are no events in the buffer
+     */
+    boolean isEmpty() {
+        long position = readPosition;
+        return sequences.get((int) position & mask) != position + 1;
+    }
+
+    /**
+     * @return the number of events in the buffer
+     */
+    int size() {
+        return (int) Math.max(0, writePosition.get() - readPosition);
+    }
+
+    /**
+     * @return the number of events the buffer can hold
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
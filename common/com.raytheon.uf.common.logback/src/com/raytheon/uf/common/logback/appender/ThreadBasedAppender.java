@@ -23,6 +23,9 @@ import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,6 +46,12 @@ import com.raytheon.uf.common.logback.LogbackUtil;
  * new configuration. NOTE: This appender does not support more than one
  * instance being run at once.
  * 
+ * When async is true the logging thread only determines the appender for the
+ * event and adds it to a ring buffer of queueSize events, a single writer
+ * thread takes events from the buffer and writes them to their appenders. If
+ * the buffer is full the logging thread waits for space unless neverBlock is
+ * true, in which case the event is dropped.
+ * 
  * <pre>
  * 
  * SOFTWARE HISTORY
@@ -54,6 +63,7 @@ import com.raytheon.uf.common.logback.LogbackUtil;
  * Aug 22, 2014 3534       rjpeter     Extend UnsynchronizedAppenderBase.
  * Feb 18, 2015 4015       rferrel     Use LogfileUtil constants.
  * Jun 09, 2015 4473       njensen     Moved from status to logback plugin
+ * Oct 17, 2026            agent       Added async mode
  * 
  * </pre>
  * 
@@ -67,6 +77,21 @@ public class ThreadBasedAppender extends
     private static final Pattern NAME_REPLACE_PATTERN = Pattern
             .compile("%s\\{name\\}");
 
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+
+    /** Maximum number of events the writer takes from the buffer at once */
+    private static final int BATCH_SIZE = 256;
+
+    /** How long the writer waits for events before checking again */
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS
+            .toNanos(100);
+
+    /** How long a logging thread waits for space in a full buffer */
+    private static final long FULL_WAIT_NANOS = TimeUnit.MICROSECONDS
+            .toNanos(100);
+
+    private static final int DEFAULT_MAX_FLUSH_TIME = 1000;
+
     /**
      * Current instance of the ThreadBasedAppender.
      */
@@ -104,6 +129,21 @@ public class ThreadBasedAppender extends
 
     private volatile Appender<ILoggingEvent> defaultAppender;
 
+    private boolean async = false;
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+
+    private boolean neverBlock = false;
+
+    /** Milliseconds to wait for queued events to be written when stopping */
+    private int maxFlushTime = DEFAULT_MAX_FLUSH_TIME;
+
+    private volatile LoggingEventRingBuffer<ILoggingEvent, Appender<ILoggingEvent>> buffer;
+
+    private volatile AsyncWriter writer;
+
+    private final LongAdder droppedCount = new LongAdder();
+
     public ThreadBasedAppender() {
         synchronized (ThreadBasedAppender.class) {
             if (instance == null) {
@@ -123,6 +163,19 @@ public class ThreadBasedAppender extends
 
         appenderMap.putAll(registeredAppenderMap);
 
+        if (async) {
+            if (queueSize < 1) {
+                addWarn("Invalid queueSize " + queueSize + ", using "
+                        + DEFAULT_QUEUE_SIZE);
+                queueSize = DEFAULT_QUEUE_SIZE;
+            }
+            buffer = new LoggingEventRingBuffer<>(queueSize);
+            writer = new AsyncWriter(buffer);
+            writer.start();
+            addInfo("Writing events asynchronously with a queue of "
+                    + buffer.capacity() + " events");
+        }
+
         super.start();
     }
 
@@ -275,7 +328,70 @@ public class ThreadBasedAppender extends
         }
 
         if (app != null) {
-            app.doAppend(event);
+            LoggingEventRingBuffer<ILoggingEvent, Appender<ILoggingEvent>> buffer = this.buffer;
+            if (buffer == null) {
+                app.doAppend(event);
+            } else {
+                enqueue(buffer, event, app);
+            }
+        }
+    }
+
+    /**
+     * Adds an event to the buffer for the writer thread. Waits for space if
+     * the buffer is full, unless neverBlock is set in which case the event is
+     * dropped.
+     */
+    private void enqueue(
+            LoggingEventRingBuffer<ILoggingEvent, Appender<ILoggingEvent>> buffer,
+            ILoggingEvent event, Appender<ILoggingEvent> app) {
+        // capture the thread name, MDC and message before leaving this thread
+        event.prepareForDeferredProcessing();
+        AsyncWriter writer = this.writer;
+        while (!buffer.offer(event, app)) {
+            Thread current = Thread.currentThread();
+            /*
+             * The writer cannot wait for itself, the writer thread may log
+             * from inside an appender.
+             */
+            if (neverBlock || !isStarted() || current == writer
+                    || current.isInterrupted()) {
+                droppedCount.increment();
+                if (droppedCount.sum() == 1) {
+                    addWarn("Queue is full, dropping logging events");
+                }
+                return;
+            }
+            LockSupport.parkNanos(this, FULL_WAIT_NANOS);
+        }
+        if (writer != null) {
+            writer.wake();
+        }
+    }
+
+    /**
+     * Writes a batch of events to their appenders. The events of each
+     * appender are written together in the order they were logged.
+     */
+    private void write(ILoggingEvent[] events,
+            Appender<ILoggingEvent>[] appenders, int count) {
+        for (int i = 0; i < count; i++) {
+            Appender<ILoggingEvent> app = appenders[i];
+            if (app == null) {
+                continue;
+            }
+            for (int j = i; j < count; j++) {
+                if (appenders[j] == app) {
+                    try {
+                        app.doAppend(events[j]);
+                    } catch (RuntimeException e) {
+                        addError("Error writing event to " + app.getName(),
+                                e);
+                    }
+                    appenders[j] = null;
+                    events[j] = null;
+                }
+            }
         }
     }
 
@@ -341,13 +457,134 @@ public class ThreadBasedAppender extends
         this.defaultAppenderName = defaultAppenderName;
     }
 
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public boolean isNeverBlock() {
+        return neverBlock;
+    }
+
+    public void setNeverBlock(boolean neverBlock) {
+        this.neverBlock = neverBlock;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    /**
+     * @return the number of events waiting to be written in async mode
+     */
+    public int getQueuedCount() {
+        LoggingEventRingBuffer<ILoggingEvent, Appender<ILoggingEvent>> buffer = this.buffer;
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    /**
+     * @return the number of events dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
     @Override
     public void stop() {
         synchronized (ThreadBasedAppender.class) {
             instance = null;
         }
 
+        AsyncWriter writer = this.writer;
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.join(maxFlushTime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (writer.isAlive()) {
+                addWarn("Timed out waiting for " + getQueuedCount()
+                        + " queued events to be written");
+            }
+            this.writer = null;
+            this.buffer = null;
+        }
+
         detachAndStopAllAppenders();
         super.stop();
     }
+
+    /**
+     * Thread that takes events from the buffer and writes them to their
+     * appenders.
+     */
+    private class AsyncWriter extends Thread {
+
+        private final LoggingEventRingBuffer<ILoggingEvent, Appender<ILoggingEvent>> buffer;
+
+        private volatile boolean running = true;
+
+        private volatile boolean waiting = false;
+
+        public AsyncWriter(
+                LoggingEventRingBuffer<ILoggingEvent, Appender<ILoggingEvent>> buffer) {
+            super("ThreadBasedAppender-writer");
+            setDaemon(true);
+            this.buffer = buffer;
+        }
+
+        /**
+         * Wakes the writer if it is waiting for events.
+         */
+        public void wake() {
+            if (waiting) {
+                LockSupport.unpark(this);
+            }
+        }
+
+        /**
+         * Stops the writer once the queued events are written.
+         */
+        public void shutdown() {
+            running = false;
+            LockSupport.unpark(this);
+        }
+
+        @Override
+        public void run() {
+            ILoggingEvent[] events = new ILoggingEvent[BATCH_SIZE];
+            @SuppressWarnings("unchecked")
+            Appender<ILoggingEvent>[] appenders = new Appender[BATCH_SIZE];
+            while (true) {
+                int count = buffer.drainTo(events, appenders);
+                if (count > 0) {
+                    write(events, appenders, count);
+                } else if (!running) {
+                    break;
+                } else {
+                    waiting = true;
+                    if (running && buffer.isEmpty()) {
+                        LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                    }
+                    waiting = false;
+                }
+            }
+        }
+    }
 }
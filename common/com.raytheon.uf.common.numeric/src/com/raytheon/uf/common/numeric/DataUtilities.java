@@ -19,7 +19,9 @@
  **/
 package com.raytheon.uf.common.numeric;
 
+import com.raytheon.uf.common.numeric.dest.BulkDataDestination;
 import com.raytheon.uf.common.numeric.dest.DataDestination;
+import com.raytheon.uf.common.numeric.source.BulkDataSource;
 import com.raytheon.uf.common.numeric.source.DataSource;
 import com.raytheon.uf.common.numeric.source.OffsetDataSource;
 
@@ -34,6 +36,8 @@ import com.raytheon.uf.common.numeric.source.OffsetDataSource;
  * Date          Ticket#  Engineer    Description
  * ------------- -------- ----------- --------------------------
  * Feb 27, 2014  2791     bsteffen    Initial creation
+ * Oct 17, 2026           agent       Copy and scan a row at a time when the
+ *                                    source or destination supports it.
  * 
  * </pre>
  * 
@@ -61,6 +65,22 @@ public class DataUtilities {
      */
     public static final <D extends DataDestination> D copy(DataSource source,
             D destination, int nx, int ny) {
+        if (source instanceof BulkDataSource
+                || destination instanceof BulkDataDestination) {
+            double[] row = new double[nx];
+            for (int j = 0; j < ny; j += 1) {
+                getRow(source, row, j);
+                if (destination instanceof BulkDataDestination) {
+                    ((BulkDataDestination) destination).setDataValues(row, 0,
+                            j, nx);
+                } else {
+                    for (int i = 0; i < nx; i += 1) {
+                        destination.setDataValue(row[i], i, j);
+                    }
+                }
+            }
+            return destination;
+        }
         for (int i = 0; i < nx; i += 1) {
             for (int j = 0; j < ny; j += 1) {
                 destination.setDataValue(source.getDataValue(i, j), i, j);
@@ -83,6 +103,25 @@ public class DataUtilities {
     public static final MinMax getMinMax(DataSource source, int nx, int ny) {
         double minValue = Double.POSITIVE_INFINITY;
         double maxValue = Double.NEGATIVE_INFINITY;
+        if (source instanceof BulkDataSource) {
+            double[] row = new double[nx];
+            for (int j = 0; j < ny; j += 1) {
+                getRow(source, row, j);
+                for (int i = 0; i < nx; i += 1) {
+                    double val = row[i];
+                    if (Double.isNaN(val)) {
+                        continue;
+                    }
+                    if (val < minValue) {
+                        minValue = val;
+                    }
+                    if (val > maxValue) {
+                        maxValue = val;
+                    }
+                }
+            }
+            return new MinMax(minValue, maxValue);
+        }
         for (int i = 0; i < nx; i += 1) {
             for (int j = 0; j < ny; j += 1) {
                 double val = source.getDataValue(i, j);
@@ -100,6 +139,20 @@ public class DataUtilities {
         return new MinMax(minValue, maxValue);
     }
 
+    /**
+     * Read the first row.length values of row y from a source, with a single
+     * call if the source is a {@link BulkDataSource}.
+     */
+    private static void getRow(DataSource source, double[] row, int y) {
+        if (source instanceof BulkDataSource) {
+            ((BulkDataSource) source).getDataValues(row, 0, y, row.length);
+        } else {
+            for (int i = 0; i < row.length; i += 1) {
+                row[i] = source.getDataValue(i, y);
+            }
+        }
+    }
+
     /**
      * Class for holding Min/Max data values.
      */
@@ -26,9 +26,10 @@ import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
 import java.nio.ShortBuffer;
+import java.util.Arrays;
 
-import com.raytheon.uf.common.numeric.dest.DataDestination;
-import com.raytheon.uf.common.numeric.source.DataSource;
+import com.raytheon.uf.common.numeric.dest.BulkDataDestination;
+import com.raytheon.uf.common.numeric.source.BulkDataSource;
 
 /**
  * 
@@ -42,14 +43,15 @@ import com.raytheon.uf.common.numeric.source.DataSource;
  * Date          Ticket#  Engineer    Description
  * ------------- -------- ----------- --------------------------
  * Mar 07, 2014  2791     bsteffen     Initial creation
+ * Oct 17, 2026           agent        Implement bulk row access
  * 
  * </pre>
  * 
  * @author bsteffen
  * @version 1.0
  */
-public abstract class BufferWrapper implements DataSource,
-        DataDestination {
+public abstract class BufferWrapper implements BulkDataSource,
+        BulkDataDestination {
 
     protected final int nx;
 
@@ -98,6 +100,35 @@ public abstract class BufferWrapper implements DataSource,
         }
     }
 
+    @Override
+    public void getDataValues(double[] values, int x, int y, int length) {
+        int start = Math.max(x, 0);
+        int end = Math.min(x + length, nx);
+        if (y < 0 || y > ny - 1 || start >= end) {
+            Arrays.fill(values, 0, length, Double.NaN);
+            return;
+        }
+        Arrays.fill(values, 0, start - x, Double.NaN);
+        int index = start + y * nx;
+        for (int i = start - x; i < end - x; i += 1) {
+            values[i] = getDataValueInternal(index++);
+        }
+        Arrays.fill(values, end - x, length, Double.NaN);
+    }
+
+    @Override
+    public void setDataValues(double[] values, int x, int y, int length) {
+        if (y < 0 || y > ny - 1) {
+            return;
+        }
+        int start = Math.max(x, 0);
+        int end = Math.min(x + length, nx);
+        int index = start + y * nx;
+        for (int i = start - x; i < end - x; i += 1) {
+            setDataValueInternal(values[i], index++);
+        }
+    }
+
     /**
      * @return the buffer that providing data for this wrapper.
      */
@@ -0,0 +1,55 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.numeric.dest;
+
+/**
+ * A {@link DataDestination} that can write a run of values to a row at once,
+ * avoiding a call per value when the data is written sequentially.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date          Ticket#  Engineer    Description
+ * ------------- -------- ----------- --------------------------
+ * Oct 17, 2026           agent       Initial creation
+ * 
+ * </pre>
+ * 
+ * @author agent
+ */
+public interface BulkDataDestination extends DataDestination {
+
+    /**
+     * Set length data values in the row y, starting at x. Values outside the
+     * valid range of data are ignored.
+     * 
+     * @param values
+     *            the values to set, starting at index 0
+     * @param x
+     *            x coordinate of the first value
+     * @param y
+     *            y coordinate of the row
+     * @param length
+     *            the number of values to set
+     */
+    public void setDataValues(double[] values, int x, int y, int length);
+
+}
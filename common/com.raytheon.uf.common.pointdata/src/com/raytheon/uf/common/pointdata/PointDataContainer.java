@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -60,6 +61,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * ------------- -------- ----------- --------------------------
  * Apr 08, 2009           chammack    Initial creation
  * Dec 02, 2013  2537     bsteffen    Remove ISerializableObject
+ * Oct 17, 2026           agent       Add bulk append, select and combine
  * 
  * </pre>
  * 
@@ -73,6 +75,12 @@ public class PointDataContainer {
 
     protected static final int DEFAULT_SZ = 2048;
 
+    /**
+     * Combining containers with at least this many total array elements will
+     * copy the parameters in parallel.
+     */
+    private static final int PARALLEL_COMBINE_THRESHOLD = 1 << 20;
+
     @DynamicSerializeElement
     @XmlAttribute
     protected int currentSz;
@@ -338,8 +346,36 @@ public class PointDataContainer {
 
     }
 
+    /**
+     * Append multiple observations at once, the storage is grown at most once.
+     * Decoders that know how many observations they will add should use this
+     * instead of calling {@link #append()} for each observation.
+     * 
+     * @param count
+     *            the number of observations to add
+     * @return a view for each new observation
+     */
+    public PointDataView[] append(int count) {
+        int newSz = currentSz + count;
+        if (newSz > allocatedSz) {
+            resizeAll(Math.max(newSz, allocatedSz * 2));
+        }
+        PointDataView[] views = new PointDataView[count];
+        for (int i = 0; i < count; i++) {
+            PointDataView pdv = new PointDataView();
+            pdv.mode = Mode.APPEND;
+            pdv.container = this;
+            pdv.curIdx = currentSz++;
+            views[i] = pdv;
+        }
+        return views;
+    }
+
     private void resizeAll(double ratio) {
-        int newSize = (int) (allocatedSz * ratio);
+        resizeAll((int) (allocatedSz * ratio));
+    }
+
+    private void resizeAll(int newSize) {
         for (AbstractPointDataObject<?> apdo : this.pointDataTypes.values()) {
             if (apdo.getDimensions() == 2) {
                 apdo.resize(newSize * apdo.getDescription().getDimensionAsInt());
@@ -370,6 +406,75 @@ public class PointDataContainer {
         this.allocatedSz += container2.allocatedSz;
     }
 
+    /**
+     * Combine many containers into this one. This produces the same result as
+     * calling {@link #combine(PointDataContainer)} for each container but each
+     * parameter is only copied once and large combines copy the parameters in
+     * parallel.
+     * 
+     * @param containers
+     *            containers with all the parameters in this container
+     */
+    public void combine(List<PointDataContainer> containers) {
+        if (containers.isEmpty()) {
+            return;
+        }
+        long totalSz = allocatedSz;
+        for (PointDataContainer container : containers) {
+            totalSz += container.allocatedSz;
+        }
+        Map<AbstractPointDataObject<?>, List<AbstractPointDataObject<?>>> combines = new HashMap<>(
+                pointDataTypes.size());
+        long totalElements = 0;
+        for (Entry<String, AbstractPointDataObject<?>> entry : pointDataTypes
+                .entrySet()) {
+            List<AbstractPointDataObject<?>> others = new ArrayList<>(
+                    containers.size());
+            for (PointDataContainer container : containers) {
+                others.add(container.getParamSafe(entry.getKey()));
+            }
+            combines.put(entry.getValue(), others);
+            totalElements += totalSz * entry.getValue().getRowWidth();
+        }
+        if (totalElements >= PARALLEL_COMBINE_THRESHOLD) {
+            combines.entrySet().parallelStream()
+                    .forEach(e -> e.getKey().combine(e.getValue()));
+        } else {
+            for (Entry<AbstractPointDataObject<?>, List<AbstractPointDataObject<?>>> e : combines
+                    .entrySet()) {
+                e.getKey().combine(e.getValue());
+            }
+        }
+        this.allocatedSz = (int) totalSz;
+    }
+
+    /**
+     * Create a new container holding only the specified observations, each
+     * parameter is copied as a block rather than one observation at a time.
+     * 
+     * @param indices
+     *            indices of the observations to keep, in the order they should
+     *            appear in the new container.
+     * @return a new container
+     */
+    public PointDataContainer select(int[] indices) {
+        for (int idx : indices) {
+            if (idx < 0 || idx >= currentSz) {
+                throw new IndexOutOfBoundsException("Index " + idx
+                        + " is outside the current size: " + currentSz);
+            }
+        }
+        PointDataContainer container = new PointDataContainer(indices.length);
+        container.currentSz = indices.length;
+        container.pointDataTypes = new HashMap<>(pointDataTypes.size());
+        for (Entry<String, AbstractPointDataObject<?>> entry : pointDataTypes
+                .entrySet()) {
+            container.pointDataTypes.put(entry.getKey(),
+                    entry.getValue().select(container, indices));
+        }
+        return container;
+    }
+
     /**
      * Increments the indices of views
      * 
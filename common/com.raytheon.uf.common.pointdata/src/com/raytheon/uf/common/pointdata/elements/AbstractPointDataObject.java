@@ -19,7 +19,9 @@
  **/
 package com.raytheon.uf.common.pointdata.elements;
 
+import java.lang.reflect.Array;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.xml.bind.annotation.XmlAccessType;
@@ -41,6 +43,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * ------------- -------- ----------- --------------------------
  * Apr 08, 2009           chammack    Initial creation
  * Dec 02, 2013  2537     bsteffen    Remove ISerializableObject
+ * Oct 17, 2026           agent       Add bulk combine and select
  * 
  * 
  * </pre>
@@ -109,6 +112,96 @@ public abstract class AbstractPointDataObject<A> {
 
     public abstract void combine(AbstractPointDataObject<?> obj);
 
+    /**
+     * @return the backing array, which is usually larger than the current size
+     *         of the container.
+     */
+    abstract A getStorage();
+
+    abstract void setStorage(A storage);
+
+    /**
+     * Create a new empty object of the same type, with the same description
+     * and dimensions.
+     */
+    abstract AbstractPointDataObject<A> newInstance(
+            PointDataContainer container);
+
+    /**
+     * @return the number of array elements used by each observation.
+     */
+    public int getRowWidth() {
+        if (dimensions > 1) {
+            return description.getDimensionAsInt();
+        }
+        return 1;
+    }
+
+    /**
+     * Append the data of all the objects to the data of this object using a
+     * single allocation, this is equivalent to calling
+     * {@link #combine(AbstractPointDataObject)} for each object but avoids
+     * copying the data repeatedly.
+     * 
+     * @param objs
+     *            objects of the same type as this object
+     */
+    public void combine(List<? extends AbstractPointDataObject<?>> objs) {
+        A storage = getStorage();
+        int length = Array.getLength(storage);
+        for (AbstractPointDataObject<?> obj : objs) {
+            length += Array.getLength(obj.getStorage());
+        }
+        A combined = newArray(storage, length);
+        int offset = Array.getLength(storage);
+        System.arraycopy(storage, 0, combined, 0, offset);
+        for (AbstractPointDataObject<?> obj : objs) {
+            Object other = obj.getStorage();
+            int otherLength = Array.getLength(other);
+            System.arraycopy(other, 0, combined, offset, otherLength);
+            offset += otherLength;
+        }
+        setStorage(combined);
+    }
+
+    /**
+     * Copy the data for some observations into a new object. Runs of
+     * consecutive indices are copied in a single operation.
+     * 
+     * @param container
+     *            the container for the new object
+     * @param indices
+     *            the observations to copy, in the order they should appear in
+     *            the new object
+     * @return a new object containing only the selected observations
+     */
+    public AbstractPointDataObject<A> select(PointDataContainer container,
+            int[] indices) {
+        int width = getRowWidth();
+        A storage = getStorage();
+        A selected = newArray(storage, indices.length * width);
+        int start = 0;
+        while (start < indices.length) {
+            int end = start + 1;
+            while (end < indices.length
+                    && indices[end] == indices[end - 1] + 1) {
+                end += 1;
+            }
+            System.arraycopy(storage, indices[start] * width, selected,
+                    start * width, (end - start) * width);
+            start = end;
+        }
+        AbstractPointDataObject<A> result = newInstance(container);
+        result.setStorage(selected);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A newArray(A template, int length) {
+        return (A) Array.newInstance(
+                template.getClass().getComponentType(), length);
+    }
+
     protected void setProperties(IDataRecord rec) {
         if (description.getUnit() != null) {
             Map<String, Object> attribs = new HashMap<String, Object>();
@@ -39,6 +39,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Apr 8, 2009            chammack     Initial creation
+ * Oct 17, 2026           agent        Support bulk combine and select
  * 
  * </pre>
  * 
@@ -175,6 +176,21 @@ public class FloatPointDataObject extends AbstractPointDataObject<float[]> {
         this.floatData[idx] = number.floatValue();
     }
 
+    @Override
+    float[] getStorage() {
+        return floatData;
+    }
+
+    @Override
+    void setStorage(float[] storage) {
+        this.floatData = storage;
+    }
+
+    @Override
+    FloatPointDataObject newInstance(PointDataContainer container) {
+        return new FloatPointDataObject(container, description, dimensions);
+    }
+
     @Override
     public void combine(AbstractPointDataObject<?> obj) {
         FloatPointDataObject floatP = (FloatPointDataObject) obj;
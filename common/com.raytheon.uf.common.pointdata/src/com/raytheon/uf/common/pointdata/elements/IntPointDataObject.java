@@ -39,6 +39,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Apr 8, 2009            chammack     Initial creation
+ * Oct 17, 2026           agent        Support bulk combine and select
  * 
  * </pre>
  * 
@@ -176,6 +177,21 @@ public class IntPointDataObject extends AbstractPointDataObject<int[]> {
         this.intData[idx] = number.intValue();
     }
 
+    @Override
+    int[] getStorage() {
+        return intData;
+    }
+
+    @Override
+    void setStorage(int[] storage) {
+        this.intData = storage;
+    }
+
+    @Override
+    IntPointDataObject newInstance(PointDataContainer container) {
+        return new IntPointDataObject(container, description, dimensions);
+    }
+
     @Override
     public void combine(AbstractPointDataObject<?> obj) {
         IntPointDataObject intP = (IntPointDataObject) obj;
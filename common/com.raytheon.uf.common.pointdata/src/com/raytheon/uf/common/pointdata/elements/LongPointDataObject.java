@@ -39,6 +39,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Apr 8, 2009            chammack     Initial creation
+ * Oct 17, 2026           agent        Support bulk combine and select
  * 
  * </pre>
  * 
@@ -172,6 +173,21 @@ public class LongPointDataObject extends AbstractPointDataObject<long[]> {
         this.longData[idx] = number.longValue();
     }
 
+    @Override
+    long[] getStorage() {
+        return longData;
+    }
+
+    @Override
+    void setStorage(long[] storage) {
+        this.longData = storage;
+    }
+
+    @Override
+    LongPointDataObject newInstance(PointDataContainer container) {
+        return new LongPointDataObject(container, description, dimensions);
+    }
+
     @Override
     public void combine(AbstractPointDataObject<?> obj) {
         LongPointDataObject intP = (LongPointDataObject) obj;
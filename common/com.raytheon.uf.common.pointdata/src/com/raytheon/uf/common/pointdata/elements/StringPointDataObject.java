@@ -39,6 +39,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Apr 8, 2009            chammack     Initial creation
+ * Oct 17, 2026           agent        Support bulk combine and select
  * 
  * </pre>
  * 
@@ -179,6 +180,21 @@ public class StringPointDataObject extends AbstractPointDataObject<String[]> {
                 "Setting number to string field not supported");
     }
 
+    @Override
+    String[] getStorage() {
+        return stringData;
+    }
+
+    @Override
+    void setStorage(String[] storage) {
+        this.stringData = storage;
+    }
+
+    @Override
+    StringPointDataObject newInstance(PointDataContainer container) {
+        return new StringPointDataObject(container, description, dimensions);
+    }
+
     @Override
     public void combine(AbstractPointDataObject<?> obj) {
         StringPointDataObject intP = (StringPointDataObject) obj;
@@ -108,6 +108,7 @@ import com.raytheon.uf.common.util.format.BytesFormat;
  * Mar 18, 2021  8349     randerso     Code cleanup
  * Sep 23, 2021  8608     mapeters     Add metadata identifier handling, retry
  *                                     stores on disk space or permissions errors
+ * Oct 17, 2026           agent        Log request latency with the stats
  *
  * </pre>
  *
@@ -482,14 +483,16 @@ public class PyPiesDataStore implements IDataStore {
             return SerializationUtil.transformFromThrift(Object.class, resp);
         } else {
             // can't stream to pypies due to WSGI spec not handling chunked http
+            long t0 = System.nanoTime();
             Object response = HttpClient.getInstance()
                     .postDynamicSerialize(address, obj, false);
             /**
              * Log that we have a message. Size information in NOT logged here.
              * Sending a '1' for sent to trigger request increment.
              */
-            HttpClient.getInstance().getStats()
-                    .log(obj.getClass().getSimpleName(), 1, 0);
+            HttpClient.getInstance().getStats().log(
+                    obj.getClass().getSimpleName(), 1, 0,
+                    System.nanoTime() - t0);
             return response;
         }
     }
@@ -0,0 +1,68 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.serialization.comm;
+
+/**
+ * A request that can describe how its response is cached by the request
+ * service. Implementing this does not cause a request to be cached, responses
+ * are only cached for request classes that are configured for caching on the
+ * server.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public interface ICacheableRequest extends IServerRequest {
+
+    /**
+     * @return a key that is equal for every request of this class that gets
+     *         the same response, or null to key the request by its serialized
+     *         form.
+     */
+    default String getCacheKey() {
+        return null;
+    }
+
+    /**
+     * @return the name of the plugin the response is built from, the cached
+     *         response is discarded when new data for the plugin is ingested.
+     *         Null if the response does not depend on the data of a single
+     *         plugin.
+     */
+    String getCachePluginName();
+
+    /**
+     * @return false if it cannot be determined which data the response is
+     *         built from, and so when a cached response would become stale.
+     *         The response to such a request is never cached.
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
+}
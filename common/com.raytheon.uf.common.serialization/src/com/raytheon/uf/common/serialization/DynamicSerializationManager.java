@@ -57,6 +57,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeTypeAdapter;
 import com.raytheon.uf.common.serialization.thrift.ThriftSerializationContext;
 import com.raytheon.uf.common.serialization.thrift.ThriftSerializationContextBuilder;
+import com.raytheon.uf.common.serialization.thrift.ThriftStructCodec;
 import com.raytheon.uf.common.util.ByteArrayOutputStreamPool;
 import com.raytheon.uf.common.util.PooledByteArrayOutputStream;
 
@@ -92,6 +93,8 @@ import net.sf.cglib.beans.BeanMap;
  *                                      runtime (the class is no longer
  *                                      accessible at compile time)
  * Jul  1, 2019 7888        tgurney     deserialize(ctx) changed method signature
+ * Oct 16, 2026             agent       Serialize through ThriftStructCodecs
+ * Oct 16, 2026             agent       Added serialize() with stream version
  *
  * </pre>
  *
@@ -205,6 +208,27 @@ public class DynamicSerializationManager {
 
     }
 
+    /**
+     * Serialize an object to a stream using a specific stream version. Only use
+     * a version other than the default when the reader is known to support it.
+     *
+     * @param obj
+     *            the object
+     * @param os
+     *            the output stream
+     * @param version
+     *            one of the SelfDescribingBinaryProtocol VERSION constants
+     * @throws SerializationException
+     */
+    public void serialize(Object obj, OutputStream os, int version)
+            throws SerializationException {
+        ISerializationContext ctx = ((ThriftSerializationContextBuilder) this.builder)
+                .buildSerializationContext(os, this, version);
+        ctx.writeMessageStart("dynamicSerialize");
+        serialize(ctx, obj);
+        ctx.writeMessageEnd();
+    }
+
     /**
      * Serialize an object using a context
      *
@@ -218,6 +242,15 @@ public class DynamicSerializationManager {
      */
     public void serialize(ISerializationContext ctx, Object obj)
             throws SerializationException {
+        if (ThriftStructCodec.isEnabled()) {
+            SerializationMetadata metadata = null;
+            if (obj != null) {
+                metadata = getSerializationMetadata(obj.getClass().getName());
+            }
+            ((ThriftSerializationContext) ctx).serializeMessage(obj, metadata);
+            return;
+        }
+
         BeanMap beanMap = null;
 
         if (obj != null && !obj.getClass().isArray()) {
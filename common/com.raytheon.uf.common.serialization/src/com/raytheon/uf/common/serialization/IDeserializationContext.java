@@ -31,6 +31,7 @@ import java.nio.ByteBuffer;
  * Aug 12, 2008             chammack    Initial creation
  * Sep 14, 2012 1169        djohnson    Added readObject().
  * Jul 23, 2013 2215        njensen     Added readBuffer()
+ * Oct 16, 2026             agent       Added readBuffer(boolean)
  * 
  * </pre>
  * 
@@ -127,6 +128,29 @@ public interface IDeserializationContext {
      */
     ByteBuffer readBuffer() throws SerializationException;
 
+    /**
+     * Read a byte buffer, allocating it off-heap if requested. Implementations
+     * may return a direct buffer for large blobs even if one was not requested.
+     * 
+     * @param direct
+     *            true if the buffer should be direct
+     * @return
+     * @throws SerializationException
+     */
+    default ByteBuffer readBuffer(boolean direct)
+            throws SerializationException {
+        ByteBuffer buffer = readBuffer();
+        if (buffer.isDirect() != direct) {
+            ByteBuffer copyBuffer = direct ? ByteBuffer
+                    .allocateDirect(buffer.capacity()) : ByteBuffer
+                    .allocate(buffer.capacity());
+            copyBuffer.put(buffer);
+            copyBuffer.rewind();
+            buffer = copyBuffer;
+        }
+        return buffer;
+    }
+
     /**
      * Read a float array
      * 
@@ -20,8 +20,10 @@
 
 package com.raytheon.uf.common.serialization;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import net.sf.cglib.beans.BeanMap;
 import net.sf.cglib.beans.BeanMap.Generator;
@@ -29,7 +31,14 @@ import net.sf.cglib.reflect.FastClass;
 
 /**
  * Provides a cache of cglib/reflection objects
- * 
+ *
+ * BeanMaps are pooled per class in a fixed number of slots that are claimed
+ * and released with atomic operations, so concurrent threads serializing the
+ * same type do not contend on a monitor and do not regenerate a BeanMap when
+ * the single pooled instance is already in use. The pool size per class can be
+ * set with -Dserialization.beanmap.pool.size and defaults to twice the number
+ * of processors.
+ *
  * <pre>
  * SOFTWARE HISTORY
  * Date         Ticket#    Engineer    Description
@@ -37,23 +46,83 @@ import net.sf.cglib.reflect.FastClass;
  * Sep 03, 2008  #1448     chammack    Initial creation
  * Jun 16, 2015   4561     njensen     getFastClass() throws more specific
  *                                      exception
- * 
+ * Oct 16, 2026            agent       Lock-free bounded BeanMap pools,
+ *                                      concurrent FastClass cache and
+ *                                      hit/miss statistics
+ *
  * </pre>
- * 
+ *
  * @author chammack
  * @version 1.0
  */
 
 public class SerializationCache {
 
-    /** The beanmap generator cache */
-    private static Map<Class<?>, BeanMap.Generator> generators = new HashMap<Class<?>, BeanMap.Generator>();
+    private static final int POOL_SIZE = Math.max(1,
+            Integer.getInteger("serialization.beanmap.pool.size",
+                    2 * Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * A BeanMap of each class that is never handed out, used to cheaply create
+     * new BeanMaps of the same generated class
+     */
+    private static final Map<Class<?>, BeanMap> prototypes = new ConcurrentHashMap<>();
 
-    /** The beanmap cache */
-    private static Map<Class<?>, BeanMap> beanMaps = new HashMap<Class<?>, BeanMap>();
+    /** The beanmap pools */
+    private static final Map<Class<?>, BeanMapPool> beanMaps = new ConcurrentHashMap<>();
 
     /** The fastclass cache */
-    private static Map<String, FastClass> classCache = new HashMap<String, FastClass>();
+    private static final Map<String, FastClass> classCache = new ConcurrentHashMap<>();
+
+    private static final LongAdder beanMapHits = new LongAdder();
+
+    private static final LongAdder beanMapMisses = new LongAdder();
+
+    private static final LongAdder beanMapDiscards = new LongAdder();
+
+    private static final LongAdder fastClassHits = new LongAdder();
+
+    private static final LongAdder fastClassMisses = new LongAdder();
+
+    /**
+     * A bounded pool of BeanMaps for a single class. Threads start probing at
+     * a slot derived from their id so that they tend to use different slots.
+     */
+    private static class BeanMapPool {
+
+        private final AtomicReferenceArray<BeanMap> slots = new AtomicReferenceArray<>(
+                POOL_SIZE);
+
+        private static int start() {
+            return (int) (Thread.currentThread().getId() % POOL_SIZE);
+        }
+
+        public BeanMap take() {
+            int start = start();
+            for (int i = 0; i < POOL_SIZE; i++) {
+                int slot = (start + i) % POOL_SIZE;
+                if (slots.get(slot) != null) {
+                    BeanMap bm = slots.getAndSet(slot, null);
+                    if (bm != null) {
+                        return bm;
+                    }
+                }
+            }
+            return null;
+        }
+
+        public boolean offer(BeanMap bm) {
+            int start = start();
+            for (int i = 0; i < POOL_SIZE; i++) {
+                int slot = (start + i) % POOL_SIZE;
+                if (slots.get(slot) == null
+                        && slots.compareAndSet(slot, null, bm)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 
     /**
      * protected constructor
@@ -64,59 +133,60 @@ public class SerializationCache {
 
     /**
      * Return the beanmap
-     * 
+     *
      * @param beanMap
      * @param obj
      */
     public static void returnBeanMap(BeanMap beanMap, Object obj) {
-        synchronized (beanMaps) {
-            beanMap.setBean(null);
-            beanMaps.put(obj.getClass(), beanMap);
+        beanMap.setBean(null);
+        if (!getPool(obj.getClass()).offer(beanMap)) {
+            beanMapDiscards.increment();
         }
     }
 
     /**
      * Get a beanmap
-     * 
+     *
      * NOTE: the user must return the beanmap when done
-     * 
+     *
      * @param obj
      *            the object to get a beanmap for
      * @return a beanmap representing an object
      */
     public static BeanMap getBeanMap(Object obj) {
-        BeanMap bm = null;
-        synchronized (beanMaps) {
-            bm = beanMaps.remove(obj.getClass());
-        }
+        Class<?> clazz = obj.getClass();
+        BeanMap bm = getPool(clazz).take();
         if (bm != null) {
+            beanMapHits.increment();
             bm.setBean(obj);
             return bm;
         }
 
-        Generator generator = null;
-        synchronized (generators) {
-            generator = generators.remove(obj.getClass());
-        }
-        if (generator == null) {
-            generator = new BeanMap.Generator();
+        beanMapMisses.increment();
+        BeanMap prototype = prototypes.get(clazz);
+        if (prototype == null) {
+            Generator generator = new BeanMap.Generator();
+            generator.setClassLoader(SerializationCache.class.getClassLoader());
+            generator.setBean(obj);
+            bm = generator.create();
+            prototypes.putIfAbsent(clazz, bm.newInstance(null));
+            return bm;
         }
 
-        generator.setClassLoader(SerializationCache.class.getClassLoader());
-        generator.setBean(obj);
-        bm = generator.create();
-        generator.setBean(null);
+        return prototype.newInstance(obj);
+    }
 
-        synchronized (generators) {
-            generators.put(obj.getClass(), generator);
+    private static BeanMapPool getPool(Class<?> clazz) {
+        BeanMapPool pool = beanMaps.get(clazz);
+        if (pool == null) {
+            pool = beanMaps.computeIfAbsent(clazz, c -> new BeanMapPool());
         }
-
-        return bm;
+        return pool;
     }
 
     /**
      * Get the fastclass that represents a class name
-     * 
+     *
      * @param name
      *            the name
      * @return the fastclass
@@ -124,17 +194,60 @@ public class SerializationCache {
      */
     public static FastClass getFastClass(String name)
             throws ClassNotFoundException {
-        synchronized (classCache) {
-            FastClass fc = classCache.get(name);
-            if (fc == null) {
-                fc = FastClass.create(
-                        SerializationCache.class.getClassLoader(),
-                        Class.forName(name));
-                classCache.put(name, fc);
+        FastClass fc = classCache.get(name);
+        if (fc == null) {
+            fastClassMisses.increment();
+            /*
+             * Not using computeIfAbsent because loading the class can run
+             * static initializers that come back into this cache.
+             */
+            fc = FastClass.create(SerializationCache.class.getClassLoader(),
+                    Class.forName(name));
+            FastClass existing = classCache.putIfAbsent(name, fc);
+            if (existing != null) {
+                fc = existing;
             }
-            return fc;
+        } else {
+            fastClassHits.increment();
         }
+        return fc;
+    }
+
+    /**
+     * @return the number of times a pooled BeanMap was reused
+     */
+    public static long getBeanMapHits() {
+        return beanMapHits.sum();
+    }
+
+    /**
+     * @return the number of times a BeanMap had to be created because none was
+     *         available in the pool
+     */
+    public static long getBeanMapMisses() {
+        return beanMapMisses.sum();
+    }
+
+    /**
+     * @return the number of returned BeanMaps that were dropped because the
+     *         pool for their class was full
+     */
+    public static long getBeanMapDiscards() {
+        return beanMapDiscards.sum();
+    }
 
+    /**
+     * @return the number of FastClass lookups found in the cache
+     */
+    public static long getFastClassHits() {
+        return fastClassHits.sum();
+    }
+
+    /**
+     * @return the number of FastClass lookups that had to create the FastClass
+     */
+    public static long getFastClassMisses() {
+        return fastClassMisses.sum();
     }
 
 }
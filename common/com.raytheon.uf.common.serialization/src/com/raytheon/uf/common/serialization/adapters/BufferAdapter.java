@@ -47,6 +47,8 @@ import com.raytheon.uf.common.util.BufferUtil;
  * May 03, 2012            mschenke    Initial creation
  * Jul 23, 2013 2215       njensen     Updated for thrift 0.9.0
  * Apr 07, 2014 2968       njensen     Fixed thread safety issues with serialize()
+ * Oct 16, 2026            agent       Avoid copying byte buffers and direct
+ *                                     buffers
  * 
  * </pre>
  * 
@@ -74,6 +76,14 @@ public class BufferAdapter implements ISerializationTypeAdapter<Buffer> {
         byte[] bytes = null;
         if (buffer instanceof ByteBuffer) {
             serializer.writeByte((byte) 0);
+            if (buffer.limit() == buffer.capacity()) {
+                /*
+                 * buffer is already a private read only view so it can be
+                 * written as is
+                 */
+                serializer.writeBuffer((ByteBuffer) buffer);
+                return;
+            }
             bytes = new byte[buffer.capacity()];
             bb = ByteBuffer.wrap(bytes);
             bb.put((ByteBuffer) buffer);
@@ -122,13 +132,7 @@ public class BufferAdapter implements ISerializationTypeAdapter<Buffer> {
             throws SerializationException {
         boolean direct = deserializer.readBool();
         byte type = deserializer.readByte();
-        ByteBuffer buffer = deserializer.readBuffer();
-        if (buffer.isDirect() != direct) {
-            ByteBuffer copyBuffer = direct ? ByteBuffer.allocateDirect(buffer
-                    .capacity()) : ByteBuffer.allocate(buffer.capacity());
-            copyBuffer.put(buffer);
-            buffer = copyBuffer;
-        }
+        ByteBuffer buffer = deserializer.readBuffer(direct);
         buffer.rewind();
         Buffer dataBuffer = null;
         switch (type) {
@@ -1,15 +1,15 @@
 package com.raytheon.uf.common.serialization.thrift;
 
 import java.nio.ByteBuffer;
-import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
-import java.nio.LongBuffer;
-import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.thrift.TException;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TMessage;
 import org.apache.thrift.protocol.TProtocolException;
 import org.apache.thrift.protocol.TStruct;
 import org.apache.thrift.protocol.TType;
@@ -49,6 +49,14 @@ import org.slf4j.LoggerFactory;
  * <LI>float types are supported
  * </UL>
  *
+ * The message sequence id is used as the stream version. Version
+ * {@link #VERSION_STRUCT_DICTIONARY} streams replace repeated struct names with
+ * an index into a per-message dictionary: the first occurrence of a name is
+ * written as a zero varint followed by the name and every later occurrence as
+ * a varint of the name's index plus one. Readers detect the version from the
+ * message header, so older streams continue to decode, but writers only use
+ * the dictionary when the reader is known to support it.
+ *
  *
  * <BR>
  *
@@ -70,6 +78,10 @@ import org.slf4j.LoggerFactory;
  * Jun 28, 2021  8470     lsingh    Updated for thrift 0.14.1, overrode
  *                                  getMinSerializedSize() to add support for
  *                                  FLOAT.
+ * Oct 16, 2026           agent     Added struct name dictionary version
+ * Oct 16, 2026           agent     Decode primitive arrays in place or
+ *                                  through a reusable chunk, added
+ *                                  readBinary(boolean)
  *
  * </pre>
  *
@@ -93,6 +105,12 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
 
     public static final byte FLOAT = 64;
 
+    /** Stream version where every struct name is written in full */
+    public static final int VERSION_STRUCT_NAMES = 0;
+
+    /** Stream version where struct names are written to a dictionary */
+    public static final int VERSION_STRUCT_DICTIONARY = 2;
+
     protected static final Logger log = LoggerFactory
             .getLogger(SelfDescribingBinaryProtocol.class);
 
@@ -116,13 +134,75 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
         }
     }
 
+    /**
+     * Buffers read with {@link #readBinary(boolean)} that are at least this
+     * many bytes are allocated off-heap even if the caller did not ask for a
+     * direct buffer. Disabled by default since callers may expect to be able
+     * to access the backing array of a heap buffer.
+     */
+    private static final int DIRECT_READ_THRESHOLD = Integer
+            .getInteger("thrift.buffer.direct.threshold", -1);
+
+    /** The version used when writing messages */
+    private final int writeVersion;
+
+    /** Whether the current message uses the struct name dictionary */
+    private boolean structDictionary;
+
+    private final Map<String, Integer> writeDictionary = new HashMap<>();
+
+    private final List<String> readDictionary = new ArrayList<>();
+
+    /** Reusable buffer for converting primitive arrays to or from bytes */
+    private ByteBuffer chunk;
+
     public SelfDescribingBinaryProtocol(TTransport trans) {
         this(trans, false, true);
     }
 
+    public SelfDescribingBinaryProtocol(TTransport trans, int writeVersion) {
+        this(trans, false, true, writeVersion);
+    }
+
     public SelfDescribingBinaryProtocol(TTransport trans, boolean strictRead,
             boolean strictWrite) {
+        this(trans, strictRead, strictWrite, VERSION_STRUCT_NAMES);
+    }
+
+    public SelfDescribingBinaryProtocol(TTransport trans, boolean strictRead,
+            boolean strictWrite, int writeVersion) {
         super(trans, MAX_READ_LENGTH, MAX_READ_LENGTH, strictRead, strictWrite);
+        if (writeVersion != VERSION_STRUCT_NAMES
+                && writeVersion != VERSION_STRUCT_DICTIONARY) {
+            throw new IllegalArgumentException(
+                    "Unsupported stream version: " + writeVersion);
+        }
+        this.writeVersion = writeVersion;
+    }
+
+    @Override
+    public void writeMessageBegin(TMessage message) throws TException {
+        structDictionary = writeVersion == VERSION_STRUCT_DICTIONARY;
+        writeDictionary.clear();
+        super.writeMessageBegin(
+                new TMessage(message.name, message.type, writeVersion));
+    }
+
+    @Override
+    public TMessage readMessageBegin() throws TException {
+        TMessage message = super.readMessageBegin();
+        structDictionary = message.seqid == VERSION_STRUCT_DICTIONARY;
+        readDictionary.clear();
+        return message;
+    }
+
+    /**
+     * @return true if the current message encodes struct names in a
+     *         dictionary, in which case repeated struct names are returned as
+     *         the same String instance
+     */
+    public boolean isStructDictionary() {
+        return structDictionary;
     }
 
     @Override
@@ -134,6 +214,63 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
         return ByteBuffer.wrap(buf);
     }
 
+    /**
+     * Read a binary blob into a new buffer. A direct buffer is filled straight
+     * from the transport so the data is never held on the heap as a whole.
+     *
+     * @param direct
+     *            true to allocate the buffer off-heap
+     * @return the buffer, positioned at zero
+     * @throws TException
+     */
+    public ByteBuffer readBinary(boolean direct) throws TException {
+        int size = readI32();
+        checkReadLength(size);
+        if (!direct && (DIRECT_READ_THRESHOLD < 0
+                || size < DIRECT_READ_THRESHOLD)) {
+            byte[] buf = new byte[size];
+            trans_.readAll(buf, 0, size);
+            return ByteBuffer.wrap(buf);
+        }
+        ByteBuffer result = ByteBuffer.allocateDirect(size);
+        ByteBuffer inPlace = readInPlace(size);
+        if (inPlace != null) {
+            result.put(inPlace);
+        } else {
+            byte[] bytes = getChunk().array();
+            while (result.hasRemaining()) {
+                int len = Math.min(bytes.length, result.remaining());
+                int bytesRead = trans_.read(bytes, 0, len);
+                if (bytesRead <= 0) {
+                    throw new TException("Failed to read any data.");
+                }
+                result.put(bytes, 0, bytesRead);
+            }
+        }
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Buffers without an accessible backing array, such as direct or read-only
+     * buffers, are written through the chunk buffer instead of failing.
+     */
+    @Override
+    public void writeBinary(ByteBuffer bin) throws TException {
+        if (bin.hasArray()) {
+            super.writeBinary(bin);
+            return;
+        }
+        ByteBuffer src = bin.duplicate();
+        writeI32(src.remaining());
+        byte[] bytes = getChunk().array();
+        while (src.hasRemaining()) {
+            int len = Math.min(bytes.length, src.remaining());
+            src.get(bytes, 0, len);
+            trans_.write(bytes, 0, len);
+        }
+    }
+
     @Override
     public TField readFieldBegin() throws TException {
         // This method was overridden to make the structs more self describing
@@ -160,7 +297,11 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
         // This method was overridden to make the structs more self describing
         String name;
         try {
-            name = readString();
+            if (structDictionary) {
+                name = readDictionaryName();
+            } else {
+                name = readString();
+            }
         } catch (TException e) {
             // TODO: unfortunately incompatible signatures prevent this from
             // being thrown up as a TException
@@ -173,7 +314,11 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
     public void writeStructBegin(TStruct struct) {
         // This method was overridden to make the structs more self describing
         try {
-            writeString(struct.name);
+            if (structDictionary) {
+                writeDictionaryName(struct.name);
+            } else {
+                writeString(struct.name);
+            }
         } catch (TException e) {
             // TODO: unfortunately incompatible signatures prevent this from
             // being thrown up as a TException
@@ -181,6 +326,64 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
         }
     }
 
+    private void writeDictionaryName(String name) throws TException {
+        Integer index = writeDictionary.get(name);
+        if (index == null) {
+            writeDictionary.put(name, writeDictionary.size());
+            writeVarint(0);
+            writeString(name);
+        } else {
+            writeVarint(index + 1);
+        }
+    }
+
+    private String readDictionaryName() throws TException {
+        int index = readVarint();
+        if (index == 0) {
+            String name = readString();
+            readDictionary.add(name);
+            return name;
+        } else if (index > readDictionary.size()) {
+            throw new TProtocolException(TProtocolException.INVALID_DATA,
+                    "Struct name index " + index + " exceeds dictionary size "
+                            + readDictionary.size());
+        }
+        return readDictionary.get(index - 1);
+    }
+
+    /**
+     * Write a non-negative int using 7 bits per byte, low order groups first
+     *
+     * @param value
+     * @throws TException
+     */
+    protected void writeVarint(int value) throws TException {
+        while ((value & ~0x7F) != 0) {
+            writeByte((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((byte) value);
+    }
+
+    /**
+     * Read an int written by {@link #writeVarint(int)}
+     *
+     * @return the value
+     * @throws TException
+     */
+    protected int readVarint() throws TException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new TProtocolException(TProtocolException.INVALID_DATA,
+                "Malformed varint");
+    }
+
     /**
      * Write a float
      *
@@ -209,32 +412,10 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public float[] readF32List(int sz) throws TException {
-        FloatBuffer result = FloatBuffer.allocate(sz);
-        int arrByteLength = sz * 4;
-        int bufferSize = Math.min(ARRAY_CHUNK_SIZE, arrByteLength);
-        byte[] buffer = new byte[bufferSize];
-        FloatBuffer floatBuffer = ByteBuffer.wrap(buffer).asFloatBuffer();
-        int offset = 0;
-        int len = bufferSize;
-        while (result.remaining() > 0) {
-            int bytesRead = offset + this.trans_.read(buffer, offset, len);
-            int floatsRead = bytesRead / 4;
-            if (floatsRead > 0) {
-                floatBuffer.limit(floatsRead);
-                result.put(floatBuffer);
-                floatBuffer.rewind();
-                offset = bytesRead % 4;
-                if (offset > 0) {
-                    System.arraycopy(buffer, floatsRead * 4, buffer, 0, offset);
-                }
-            } else if (bytesRead <= offset) {
-                throw new TException("Failed to read any data.");
-            } else {
-                offset = bytesRead;
-            }
-            len = Math.min(bufferSize, result.remaining() * 4) - offset;
-        }
-        return result.array();
+        float[] result = new float[sz];
+        readPrimitives(sz, 4, (bytes, offset, count) -> bytes.asFloatBuffer()
+                .get(result, offset, count));
+        return result;
     }
 
     /**
@@ -244,29 +425,8 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public void writeF32List(float[] arr) throws TException {
-        int arrLength = arr.length;
-        int arrByteLength = arrLength * 4;
-        if (ARRAY_CHUNK_SIZE > arrByteLength) {
-            byte[] bytes = new byte[arrByteLength];
-            ByteBuffer.wrap(bytes).asFloatBuffer().put(arr);
-            this.trans_.write(bytes);
-        } else {
-            int floatChunkSize = ARRAY_CHUNK_SIZE / 4;
-            int remainder = arrLength % floatChunkSize;
-            int fullChunkSize = arrLength - remainder;
-
-            byte[] bytes = new byte[ARRAY_CHUNK_SIZE];
-            FloatBuffer floats = ByteBuffer.wrap(bytes).asFloatBuffer();
-            for (int i = 0; i < fullChunkSize; i += floatChunkSize) {
-                floats.put(arr, i, floatChunkSize);
-                trans_.write(bytes, 0, ARRAY_CHUNK_SIZE);
-                floats.rewind();
-            }
-            if (remainder > 0) {
-                floats.put(arr, fullChunkSize, remainder);
-                trans_.write(bytes, 0, remainder * 4);
-            }
-        }
+        writePrimitives(arr.length, 4, (bytes, offset, count) -> bytes
+                .asFloatBuffer().put(arr, offset, count));
     }
 
     /**
@@ -277,32 +437,10 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public int[] readI32List(int sz) throws TException {
-        IntBuffer result = IntBuffer.allocate(sz);
-        int arrByteLength = sz * 4;
-        int bufferSize = Math.min(ARRAY_CHUNK_SIZE, arrByteLength);
-        byte[] buffer = new byte[bufferSize];
-        IntBuffer intBuffer = ByteBuffer.wrap(buffer).asIntBuffer();
-        int offset = 0;
-        int len = bufferSize;
-        while (result.remaining() > 0) {
-            int bytesRead = offset + this.trans_.read(buffer, offset, len);
-            int intsRead = bytesRead / 4;
-            if (intsRead > 0) {
-                intBuffer.limit(intsRead);
-                result.put(intBuffer);
-                intBuffer.rewind();
-                offset = bytesRead % 4;
-                if (offset > 0) {
-                    System.arraycopy(buffer, intsRead * 4, buffer, 0, offset);
-                }
-            } else if (bytesRead <= offset) {
-                throw new TException("Failed to read any data.");
-            } else {
-                offset = bytesRead;
-            }
-            len = Math.min(bufferSize, result.remaining() * 4) - offset;
-        }
-        return result.array();
+        int[] result = new int[sz];
+        readPrimitives(sz, 4, (bytes, offset, count) -> bytes.asIntBuffer()
+                .get(result, offset, count));
+        return result;
     }
 
     /**
@@ -312,29 +450,8 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public void writeI32List(int[] arr) throws TException {
-        int arrLength = arr.length;
-        int arrByteLength = arrLength * 4;
-        if (ARRAY_CHUNK_SIZE > arrByteLength) {
-            byte[] bytes = new byte[arrByteLength];
-            ByteBuffer.wrap(bytes).asIntBuffer().put(arr);
-            this.trans_.write(bytes);
-        } else {
-            int intChunkSize = ARRAY_CHUNK_SIZE / 4;
-            int remainder = arrLength % intChunkSize;
-            int fullChunkSize = arrLength - remainder;
-
-            byte[] bytes = new byte[ARRAY_CHUNK_SIZE];
-            IntBuffer ints = ByteBuffer.wrap(bytes).asIntBuffer();
-            for (int i = 0; i < fullChunkSize; i += intChunkSize) {
-                ints.put(arr, i, intChunkSize);
-                trans_.write(bytes, 0, ARRAY_CHUNK_SIZE);
-                ints.rewind();
-            }
-            if (remainder > 0) {
-                ints.put(arr, fullChunkSize, remainder);
-                trans_.write(bytes, 0, remainder * 4);
-            }
-        }
+        writePrimitives(arr.length, 4, (bytes, offset, count) -> bytes
+                .asIntBuffer().put(arr, offset, count));
     }
 
     /**
@@ -345,33 +462,10 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public double[] readD64List(int sz) throws TException {
-        DoubleBuffer result = DoubleBuffer.allocate(sz);
-        int arrByteLength = sz * 8;
-        int bufferSize = Math.min(ARRAY_CHUNK_SIZE, arrByteLength);
-        byte[] buffer = new byte[bufferSize];
-        DoubleBuffer doubleBuffer = ByteBuffer.wrap(buffer).asDoubleBuffer();
-        int offset = 0;
-        int len = bufferSize;
-        while (result.remaining() > 0) {
-            int bytesRead = offset + this.trans_.read(buffer, offset, len);
-            int doublesRead = bytesRead / 8;
-            if (doublesRead > 0) {
-                doubleBuffer.limit(doublesRead);
-                result.put(doubleBuffer);
-                doubleBuffer.rewind();
-                offset = bytesRead % 8;
-                if (offset > 0) {
-                    System.arraycopy(buffer, doublesRead * 8, buffer, 0,
-                            offset);
-                }
-            } else if (bytesRead <= offset) {
-                throw new TException("Failed to read any data.");
-            } else {
-                offset = bytesRead;
-            }
-            len = Math.min(bufferSize, result.remaining() * 8) - offset;
-        }
-        return result.array();
+        double[] result = new double[sz];
+        readPrimitives(sz, 8, (bytes, offset, count) -> bytes
+                .asDoubleBuffer().get(result, offset, count));
+        return result;
     }
 
     /**
@@ -381,29 +475,8 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public void writeD64List(double[] arr) throws TException {
-        int arrLength = arr.length;
-        int arrByteLength = arrLength * 8;
-        if (ARRAY_CHUNK_SIZE > arrByteLength) {
-            byte[] bytes = new byte[arrByteLength];
-            ByteBuffer.wrap(bytes).asDoubleBuffer().put(arr);
-            this.trans_.write(bytes);
-        } else {
-            int doubleChunkSize = ARRAY_CHUNK_SIZE / 8;
-            int remainder = arrLength % doubleChunkSize;
-            int fullChunkSize = arrLength - remainder;
-
-            byte[] bytes = new byte[ARRAY_CHUNK_SIZE];
-            DoubleBuffer doubles = ByteBuffer.wrap(bytes).asDoubleBuffer();
-            for (int i = 0; i < fullChunkSize; i += doubleChunkSize) {
-                doubles.put(arr, i, doubleChunkSize);
-                trans_.write(bytes, 0, ARRAY_CHUNK_SIZE);
-                doubles.rewind();
-            }
-            if (remainder > 0) {
-                doubles.put(arr, fullChunkSize, remainder);
-                trans_.write(bytes, 0, remainder * 8);
-            }
-        }
+        writePrimitives(arr.length, 8, (bytes, offset, count) -> bytes
+                .asDoubleBuffer().put(arr, offset, count));
     }
 
     /**
@@ -414,32 +487,10 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public long[] readI64List(int sz) throws TException {
-        LongBuffer result = LongBuffer.allocate(sz);
-        int arrByteLength = sz * 8;
-        int bufferSize = Math.min(ARRAY_CHUNK_SIZE, arrByteLength);
-        byte[] buffer = new byte[bufferSize];
-        LongBuffer longBuffer = ByteBuffer.wrap(buffer).asLongBuffer();
-        int offset = 0;
-        int len = bufferSize;
-        while (result.remaining() > 0) {
-            int bytesRead = offset + this.trans_.read(buffer, offset, len);
-            int longsRead = bytesRead / 8;
-            if (longsRead > 0) {
-                longBuffer.limit(longsRead);
-                result.put(longBuffer);
-                longBuffer.rewind();
-                offset = bytesRead % 8;
-                if (offset > 0) {
-                    System.arraycopy(buffer, longsRead * 8, buffer, 0, offset);
-                }
-            } else if (bytesRead <= offset) {
-                throw new TException("Failed to read any data.");
-            } else {
-                offset = bytesRead;
-            }
-            len = Math.min(bufferSize, result.remaining() * 8) - offset;
-        }
-        return result.array();
+        long[] result = new long[sz];
+        readPrimitives(sz, 8, (bytes, offset, count) -> bytes.asLongBuffer()
+                .get(result, offset, count));
+        return result;
     }
 
     /**
@@ -449,29 +500,8 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public void writeI64List(long[] arr) throws TException {
-        int arrLength = arr.length;
-        int arrByteLength = arrLength * 8;
-        if (ARRAY_CHUNK_SIZE > arrByteLength) {
-            byte[] bytes = new byte[arrByteLength];
-            ByteBuffer.wrap(bytes).asLongBuffer().put(arr);
-            this.trans_.write(bytes);
-        } else {
-            int longChunkSize = ARRAY_CHUNK_SIZE / 8;
-            int remainder = arrLength % longChunkSize;
-            int fullChunkSize = arrLength - remainder;
-
-            byte[] bytes = new byte[ARRAY_CHUNK_SIZE];
-            LongBuffer longs = ByteBuffer.wrap(bytes).asLongBuffer();
-            for (int i = 0; i < fullChunkSize; i += longChunkSize) {
-                longs.put(arr, i, longChunkSize);
-                trans_.write(bytes, 0, ARRAY_CHUNK_SIZE);
-                longs.rewind();
-            }
-            if (remainder > 0) {
-                longs.put(arr, fullChunkSize, remainder);
-                trans_.write(bytes, 0, remainder * 8);
-            }
-        }
+        writePrimitives(arr.length, 8, (bytes, offset, count) -> bytes
+                .asLongBuffer().put(arr, offset, count));
     }
 
     /**
@@ -482,66 +512,125 @@ public class SelfDescribingBinaryProtocol extends TBinaryProtocol {
      * @throws TException
      */
     public short[] readI16List(int sz) throws TException {
-        ShortBuffer result = ShortBuffer.allocate(sz);
-        int arrByteLength = sz * 2;
-        int bufferSize = Math.min(ARRAY_CHUNK_SIZE, arrByteLength);
-        byte[] buffer = new byte[bufferSize];
-        ShortBuffer shortBuffer = ByteBuffer.wrap(buffer).asShortBuffer();
-        int offset = 0;
-        int len = bufferSize;
-        while (result.remaining() > 0) {
-            int bytesRead = offset + this.trans_.read(buffer, offset, len);
-            int shortsRead = bytesRead / 2;
-            if (shortsRead > 0) {
-                shortBuffer.limit(shortsRead);
-                result.put(shortBuffer);
-                shortBuffer.rewind();
-                offset = bytesRead % 2;
-                if (offset > 0) {
-                    System.arraycopy(buffer, shortsRead * 2, buffer, 0, offset);
-                }
-            } else if (bytesRead <= offset) {
-                throw new TException("Failed to read any data.");
-            } else {
-                offset = bytesRead;
-            }
-            len = Math.min(bufferSize, result.remaining() * 2) - offset;
-        }
-        return result.array();
+        short[] result = new short[sz];
+        readPrimitives(sz, 2, (bytes, offset, count) -> bytes.asShortBuffer()
+                .get(result, offset, count));
+        return result;
     }
 
     /**
-     * Write a list of doubles
+     * Write a list of shorts
      *
      * @param arr
      * @throws TException
      */
     public void writeI16List(short[] arr) throws TException {
-        int arrLength = arr.length;
-        int arrByteLength = arrLength * 2;
-        if (ARRAY_CHUNK_SIZE > arrByteLength) {
-            byte[] bytes = new byte[arrByteLength];
-            ByteBuffer.wrap(bytes).asShortBuffer().put(arr);
-            this.trans_.write(bytes);
-        } else {
-            int shortChunkSize = ARRAY_CHUNK_SIZE / 2;
-            int remainder = arrLength % shortChunkSize;
-            int fullChunkSize = arrLength - remainder;
-
-            byte[] bytes = new byte[ARRAY_CHUNK_SIZE];
-            ShortBuffer shorts = ByteBuffer.wrap(bytes).asShortBuffer();
-            for (int i = 0; i < fullChunkSize; i += shortChunkSize) {
-                shorts.put(arr, i, shortChunkSize);
-                trans_.write(bytes, 0, ARRAY_CHUNK_SIZE);
-                shorts.rewind();
+        writePrimitives(arr.length, 2, (bytes, offset, count) -> bytes
+                .asShortBuffer().put(arr, offset, count));
+    }
+
+    /**
+     * Read count primitives of the given width in bytes. When the transport
+     * already holds all of the bytes in memory they are decoded straight from
+     * the transport's buffer, otherwise they are read through the chunk
+     * buffer. Either way the decoder only receives whole values.
+     */
+    private void readPrimitives(int count, int width, ChunkDecoder decoder)
+            throws TException {
+        ByteBuffer inPlace = readInPlace(count * width);
+        if (inPlace != null) {
+            decoder.decode(inPlace, 0, count);
+            return;
+        }
+        ByteBuffer chunk = getChunk();
+        byte[] bytes = chunk.array();
+        int decoded = 0;
+        int offset = 0;
+        while (decoded < count) {
+            int len = Math.min(bytes.length, (count - decoded) * width)
+                    - offset;
+            int bytesRead = offset + this.trans_.read(bytes, offset, len);
+            if (bytesRead <= offset) {
+                throw new TException("Failed to read any data.");
             }
-            if (remainder > 0) {
-                shorts.put(arr, fullChunkSize, remainder);
-                trans_.write(bytes, 0, remainder * 2);
+            int valuesRead = bytesRead / width;
+            if (valuesRead > 0) {
+                chunk.limit(valuesRead * width);
+                decoder.decode(chunk, decoded, valuesRead);
+                decoded += valuesRead;
+            }
+            offset = bytesRead - valuesRead * width;
+            if (offset > 0) {
+                System.arraycopy(bytes, valuesRead * width, bytes, 0, offset);
             }
         }
     }
 
+    /**
+     * Write count primitives of the given width in bytes, encoding them into
+     * the chunk buffer one chunk at a time.
+     */
+    private void writePrimitives(int count, int width, ChunkEncoder encoder)
+            throws TException {
+        ByteBuffer chunk = getChunk();
+        byte[] bytes = chunk.array();
+        int chunkCount = bytes.length / width;
+        for (int i = 0; i < count; i += chunkCount) {
+            int valueCount = Math.min(chunkCount, count - i);
+            chunk.clear();
+            encoder.encode(chunk, i, valueCount);
+            this.trans_.write(bytes, 0, valueCount * width);
+        }
+    }
+
+    /**
+     * Get a view of the next length bytes of the transport's own buffer and
+     * consume them.
+     *
+     * @return the bytes, or null if the transport does not currently hold
+     *         length bytes in memory
+     */
+    private ByteBuffer readInPlace(int length) {
+        if (length > 0 && trans_.getBytesRemainingInBuffer() >= length) {
+            ByteBuffer bytes = ByteBuffer.wrap(trans_.getBuffer(),
+                    trans_.getBufferPosition(), length).slice();
+            trans_.consumeBuffer(length);
+            return bytes;
+        }
+        return null;
+    }
+
+    /**
+     * @return the chunk buffer, cleared, which is reused for the lifetime of
+     *         this protocol
+     */
+    private ByteBuffer getChunk() {
+        if (chunk == null) {
+            chunk = ByteBuffer.allocate(ARRAY_CHUNK_SIZE);
+        }
+        chunk.clear();
+        return chunk;
+    }
+
+    @FunctionalInterface
+    private interface ChunkDecoder {
+
+        /**
+         * Decode count values from the bytes, starting at the bytes' position,
+         * into the destination starting at offset.
+         */
+        void decode(ByteBuffer bytes, int offset, int count);
+    }
+
+    @FunctionalInterface
+    private interface ChunkEncoder {
+
+        /**
+         * Encode count values from the source, starting at offset, into the
+         * bytes.
+         */
+        void encode(ByteBuffer bytes, int offset, int count);
+    }
     /**
      * Read a list of bytes
      *
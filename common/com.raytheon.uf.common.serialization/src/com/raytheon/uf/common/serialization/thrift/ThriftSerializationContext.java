@@ -30,6 +30,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 import org.apache.thrift.TException;
 import org.apache.thrift.protocol.TField;
@@ -109,6 +111,11 @@ import net.sf.cglib.reflect.FastClass;
  * Jul 12, 2019  7888     tgurney     Do not check integer for truncation if it
  *                                    would assigned to a Number or Object field
  * Jan 21, 2021  8319     randerso    Updated for thrift 0.13.0
+ * Oct 16, 2026           agent       Use generated ThriftStructCodecs instead
+ *                                    of BeanMaps when enabled
+ * Oct 16, 2026           agent       Cache class names of dictionary encoded
+ *                                    struct names
+ * Oct 16, 2026           agent       Added readBuffer(boolean)
  *
  * </pre>
  *
@@ -134,6 +141,9 @@ public class ThriftSerializationContext extends BaseSerializationContext {
 
     protected final SelfDescribingBinaryProtocol protocol;
 
+    /** Class names of dictionary encoded struct names */
+    private final Map<String, String> structClassNames = new IdentityHashMap<>();
+
     protected static Map<Class<?>, Byte> types;
 
     protected static Map<String, Class<?>> fieldClass = new ConcurrentHashMap<>();
@@ -542,6 +552,48 @@ public class ThriftSerializationContext extends BaseSerializationContext {
      */
     public void serializeMessage(Object obj, BeanMap beanMap,
             SerializationMetadata metadata) throws SerializationException {
+        serializeMessage(obj, beanMap, null, metadata);
+    }
+
+    /**
+     * Serialize a message, using the generated {@link ThriftStructCodec} of
+     * the object's class to access its fields
+     *
+     * @param obj
+     *            the object
+     * @param metadata
+     *            the object's metadata
+     * @throws SerializationException
+     */
+    public void serializeMessage(Object obj, SerializationMetadata metadata)
+            throws SerializationException {
+        ThriftStructCodec codec = null;
+        if (obj != null && metadata != null
+                && metadata.serializationFactory == null
+                && !obj.getClass().isEnum()) {
+            codec = ThriftStructCodec.getCodec(obj.getClass(),
+                    metadata.attributeNames);
+        }
+        serializeMessage(obj, null, codec, metadata);
+    }
+
+    /**
+     * Serialize a message, fields are read through the codec when one is
+     * provided and otherwise through the beanmap
+     *
+     * @param obj
+     *            the object
+     * @param beanMap
+     *            the beanmap of the object
+     * @param codec
+     *            the codec of the object's class
+     * @param metadata
+     *            the object's metadata
+     * @throws SerializationException
+     */
+    protected void serializeMessage(Object obj, BeanMap beanMap,
+            ThriftStructCodec codec, SerializationMetadata metadata)
+            throws SerializationException {
         try {
             // Determine the type of the message
             Byte b = null;
@@ -600,9 +652,16 @@ public class ThriftSerializationContext extends BaseSerializationContext {
                     // Look at all the fields available
                     // Serialize all of the remaining fields
                     short id = 1;
+                    int index = 0;
                     for (String keyStr : metadata.attributeNames) {
 
-                        Object val = beanMap.get(keyStr);
+                        Object val;
+                        if (codec != null) {
+                            val = codec.getValue(obj, index);
+                        } else {
+                            val = beanMap.get(keyStr);
+                        }
+                        index++;
 
                         Byte type = null;
                         ISerializationTypeAdapter attributeFactory = null;
@@ -690,7 +749,7 @@ public class ThriftSerializationContext extends BaseSerializationContext {
             throws SerializationException, CriticalSerializationException {
         Object retObj = null;
         TStruct struct = protocol.readStructBegin();
-        String structName = struct.name.replace('_', '.');
+        String structName = toClassName(struct.name);
 
         char c0 = structName.charAt(0);
         if (Character.isDigit(c0)) {
@@ -754,9 +813,20 @@ public class ThriftSerializationContext extends BaseSerializationContext {
                 }
             } else {
                 // a "regular" class
+                BiConsumer<String, Object> setter;
                 try {
-                    o = fc.newInstance();
-                    bm = SerializationCache.getBeanMap(o);
+                    if (ThriftStructCodec.isEnabled()) {
+                        ThriftStructCodec codec = ThriftStructCodec.getCodec(
+                                fc.getJavaClass(), md.attributeNames);
+                        o = codec.newInstance();
+                        Object bean = o;
+                        setter = (name, value) -> codec.setValue(bean, name,
+                                value);
+                    } else {
+                        o = fc.newInstance();
+                        bm = SerializationCache.getBeanMap(o);
+                        setter = bm::put;
+                    }
                 } catch (Exception e) {
                     throw new SerializationException(
                             "Error instantiating class: " + struct.name, e);
@@ -765,7 +835,7 @@ public class ThriftSerializationContext extends BaseSerializationContext {
                 boolean moreFields = true;
                 while (moreFields) {
                     try {
-                        moreFields = deserializeField(fc, bm);
+                        moreFields = deserializeField(fc, setter);
                     } catch (FieldDeserializationException e) {
                         TField failure = e.getField();
                         log.warn("Skipping deserialization of "
@@ -814,12 +884,31 @@ public class ThriftSerializationContext extends BaseSerializationContext {
             if (bm != null && o != null) {
                 retObj = bm.getBean();
                 SerializationCache.returnBeanMap(bm, o);
+            } else {
+                retObj = o;
             }
         }
 
         return retObj;
     }
 
+    /**
+     * Convert an encoded struct name to a class name. When the stream uses the
+     * struct name dictionary each distinct name is the same instance every
+     * time it is read, so the conversion only needs to happen once per name.
+     *
+     * @param structName
+     *            the encoded struct name
+     * @return the class name
+     */
+    protected String toClassName(String structName) {
+        if (!protocol.isStructDictionary()) {
+            return structName.replace('_', '.');
+        }
+        return structClassNames.computeIfAbsent(structName,
+                name -> name.replace('_', '.'));
+    }
+
     /*
      * All of the read and ignore methods below emulate the same protocol read
      * steps as standard reading/deserializing but diverge in that they don't
@@ -1066,6 +1155,22 @@ public class ThriftSerializationContext extends BaseSerializationContext {
     protected boolean deserializeField(FastClass fc, BeanMap bm)
             throws TException, SerializationException,
             CriticalSerializationException {
+        return deserializeField(fc, bm::put);
+    }
+
+    /**
+     * Deserialize a field
+     *
+     * @param fc
+     * @param setter
+     *            assigns a deserialized value to a named field of the object
+     * @throws TException
+     * @throws SerializationException
+     * @throws CriticalSerializationException
+     */
+    protected boolean deserializeField(FastClass fc,
+            BiConsumer<String, Object> setter) throws TException,
+            SerializationException, CriticalSerializationException {
         TField field = protocol.readFieldBegin();
         Object obj = null;
 
@@ -1103,9 +1208,10 @@ public class ThriftSerializationContext extends BaseSerializationContext {
             try {
                 /*
                  * cglib doesn't seem to mind if you put in extra fields that
-                 * don't exist in your version of the object
+                 * don't exist in your version of the object, and neither do
+                 * the codecs
                  */
-                bm.put(field.name, obj);
+                setter.accept(field.name, obj);
             } catch (ClassCastException e) {
                 /*
                  * should we continue to add special handling in here, we should
@@ -1121,18 +1227,18 @@ public class ThriftSerializationContext extends BaseSerializationContext {
                      * due to primitive number classes, castNumber() will check
                      */
                     obj = castNumber((Number) obj, fieldClass);
-                    bm.put(field.name, obj);
+                    setter.accept(field.name, obj);
                 } else if (obj instanceof Date
                         && Calendar.class.isAssignableFrom(fieldClass)) {
                     Calendar c = Calendar
                             .getInstance(TimeZone.getTimeZone("GMT"));
                     c.setTime((Date) obj);
                     obj = c;
-                    bm.put(field.name, obj);
+                    setter.accept(field.name, obj);
                 } else if (obj instanceof Calendar
                         && Date.class.isAssignableFrom(fieldClass)) {
                     obj = ((Calendar) obj).getTime();
-                    bm.put(field.name, obj);
+                    setter.accept(field.name, obj);
                 } else {
                     throw e;
                 }
@@ -1685,4 +1791,14 @@ public class ThriftSerializationContext extends BaseSerializationContext {
             throw new SerializationException(e);
         }
     }
+
+    @Override
+    public ByteBuffer readBuffer(boolean direct)
+            throws SerializationException {
+        try {
+            return this.protocol.readBinary(direct);
+        } catch (TException e) {
+            throw new SerializationException(e);
+        }
+    }
 }
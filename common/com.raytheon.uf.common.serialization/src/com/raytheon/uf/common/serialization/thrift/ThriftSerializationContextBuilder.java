@@ -48,6 +48,7 @@ import com.raytheon.uf.common.serialization.SerializationException;
  * Aug 06, 2013  2228       njensen     Added buildDeserializationContext(byte[], dsm)
  * May 27, 2021  8470       lsingh      Upgraded to Thrift 0.14.1. Added
  *                                      exception handling and TConfiguration support.
+ * Oct 16, 2026             agent       Added versioned serialization contexts
  * 
  * </pre>
  * 
@@ -186,10 +187,29 @@ public class ThriftSerializationContextBuilder
     @Override
     public ISerializationContext buildSerializationContext(OutputStream data,
             DynamicSerializationManager manager) throws SerializationException {
+        return buildSerializationContext(data, manager,
+                SelfDescribingBinaryProtocol.VERSION_STRUCT_NAMES);
+    }
+
+    /**
+     * Build a serialization context that writes a specific stream version
+     *
+     * @param data
+     *            output stream
+     * @param manager
+     *            the serialization manager
+     * @param version
+     *            one of the SelfDescribingBinaryProtocol VERSION constants
+     * @return a serialization context
+     * @throws SerializationException
+     */
+    public ISerializationContext buildSerializationContext(OutputStream data,
+            DynamicSerializationManager manager, int version)
+            throws SerializationException {
         try {
             TTransport transport = new TIOStreamTransport(config, data);
             SelfDescribingBinaryProtocol proto = new SelfDescribingBinaryProtocol(
-                    transport);
+                    transport, version);
 
             return new ThriftSerializationContext(proto, manager);
         } catch (TTransportException e) {
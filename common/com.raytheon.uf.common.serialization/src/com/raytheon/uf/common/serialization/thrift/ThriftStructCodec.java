@@ -0,0 +1,405 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.serialization.thrift;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.raytheon.uf.common.serialization.SerializationException;
+
+/**
+ * A specialized accessor for a single {@code DynamicSerialize} class that is
+ * generated the first time the class is serialized or deserialized. Getters,
+ * setters and the no-arg constructor are bound through
+ * {@link LambdaMetafactory} so that field access during serialization is a
+ * direct call instead of a cglib {@code BeanMap} lookup, and the codec is
+ * immutable so it can be shared by all threads without pooling or locking.
+ *
+ * Property resolution follows the same java.beans introspection rules as the
+ * cglib {@code BeanMap} it replaces, so the encoded stream is identical
+ * regardless of which path is used. Setting a property that does not exist on
+ * the class is silently ignored and a null value for a primitive property sets
+ * the primitive to zero, also matching {@code BeanMap} behavior.
+ *
+ * Codecs can be disabled with -Dthrift.codec.enabled=false, in which case
+ * {@code ThriftSerializationContext} falls back to the {@code BeanMap} path.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer    Description
+ * ------------- -------- ----------- --------------------------
+ * Oct 16, 2026           agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class ThriftStructCodec {
+
+    private static final Logger log = LoggerFactory
+            .getLogger(ThriftStructCodec.class);
+
+    private static final boolean ENABLED = Boolean
+            .parseBoolean(System.getProperty("thrift.codec.enabled", "true"));
+
+    private static final Map<Class<?>, ThriftStructCodec> codecs = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, Object> primitiveDefaults = new HashMap<>();
+
+    static {
+        primitiveDefaults.put(Boolean.TYPE, Boolean.FALSE);
+        primitiveDefaults.put(Byte.TYPE, Byte.valueOf((byte) 0));
+        primitiveDefaults.put(Character.TYPE, Character.valueOf((char) 0));
+        primitiveDefaults.put(Short.TYPE, Short.valueOf((short) 0));
+        primitiveDefaults.put(Integer.TYPE, Integer.valueOf(0));
+        primitiveDefaults.put(Long.TYPE, Long.valueOf(0L));
+        primitiveDefaults.put(Float.TYPE, Float.valueOf(0.0f));
+        primitiveDefaults.put(Double.TYPE, Double.valueOf(0.0));
+    }
+
+    private final Class<?> javaClass;
+
+    private final Supplier<Object> constructor;
+
+    /** Getters in the same order as the attribute names of the metadata */
+    private final Function<Object, Object>[] getters;
+
+    /** Setters for every writable property, keyed by property name */
+    private final Map<String, BiConsumer<Object, Object>> setters;
+
+    /**
+     * Whether the generated codecs should be used instead of cglib BeanMaps
+     *
+     * @return true if codecs are enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Get the codec for a class, generating it if this is the first time the
+     * class has been encountered
+     *
+     * @param clazz
+     *            the class to get a codec for
+     * @param attributeNames
+     *            the sorted serialized attribute names of the class, used to
+     *            order the getters
+     * @return the codec
+     */
+    public static ThriftStructCodec getCodec(Class<?> clazz,
+            List<String> attributeNames) {
+        ThriftStructCodec codec = codecs.get(clazz);
+        if (codec == null) {
+            codec = codecs.computeIfAbsent(clazz,
+                    c -> new ThriftStructCodec(c, attributeNames));
+        }
+        return codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ThriftStructCodec(Class<?> javaClass, List<String> attributeNames) {
+        this.javaClass = javaClass;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        Map<String, PropertyDescriptor> properties = new HashMap<>();
+        try {
+            BeanInfo info = Introspector.getBeanInfo(javaClass, Object.class);
+            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
+                properties.put(pd.getName(), pd);
+            }
+        } catch (IntrospectionException e) {
+            log.warn("Unable to introspect " + javaClass.getName()
+                    + ", no properties will be accessible", e);
+        }
+
+        this.getters = new Function[attributeNames == null ? 0
+                : attributeNames.size()];
+        for (int i = 0; i < getters.length; i += 1) {
+            PropertyDescriptor pd = properties.get(attributeNames.get(i));
+            Method read = pd == null ? null : pd.getReadMethod();
+            if (read == null) {
+                getters[i] = bean -> null;
+            } else {
+                getters[i] = createGetter(lookup, read);
+            }
+        }
+
+        this.setters = new HashMap<>(properties.size() * 2);
+        for (PropertyDescriptor pd : properties.values()) {
+            Method write = pd.getWriteMethod();
+            if (write != null) {
+                setters.put(pd.getName(), createSetter(lookup, write));
+            }
+        }
+
+        this.constructor = createConstructor(lookup, javaClass);
+    }
+
+    /**
+     * @return the class this codec was generated for
+     */
+    public Class<?> getJavaClass() {
+        return javaClass;
+    }
+
+    /**
+     * Construct a new, empty instance of the class
+     *
+     * @return the new instance
+     * @throws SerializationException
+     *             if the class cannot be instantiated
+     */
+    public Object newInstance() throws SerializationException {
+        if (constructor == null) {
+            throw new SerializationException(
+                    "No accessible no-arg constructor for class: "
+                            + javaClass.getName());
+        }
+        return constructor.get();
+    }
+
+    /**
+     * Get the value of a serialized attribute
+     *
+     * @param bean
+     *            the object to read from
+     * @param index
+     *            the index of the attribute in the metadata attribute names
+     * @return the value
+     */
+    public Object getValue(Object bean, int index) {
+        return getters[index].apply(bean);
+    }
+
+    /**
+     * Set the value of a property, unknown properties are ignored
+     *
+     * @param bean
+     *            the object to write to
+     * @param name
+     *            the property name
+     * @param value
+     *            the value
+     * @throws ClassCastException
+     *             if the value is not compatible with the property type
+     */
+    public void setValue(Object bean, String name, Object value) {
+        BiConsumer<Object, Object> setter = setters.get(name);
+        if (setter != null) {
+            setter.accept(bean, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(
+            MethodHandles.Lookup lookup, Method read) {
+        MethodHandle handle;
+        try {
+            handle = unreflect(lookup, read);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(
+                    "Unable to access getter " + read, e);
+        }
+        try {
+            if (!isDirectlyBindable(read.getDeclaringClass(),
+                    read.getModifiers(), read.getReturnType())) {
+                throw new IllegalAccessException(
+                        "Getter cannot be bound directly");
+            }
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), handle,
+                    handle.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable t) {
+            log.debug("Falling back to method handle for " + read, t);
+            MethodHandle generic = handle.asType(
+                    MethodType.methodType(Object.class, Object.class));
+            return bean -> {
+                try {
+                    return generic.invokeExact(bean);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetter(
+            MethodHandles.Lookup lookup, Method write) {
+        MethodHandle handle;
+        try {
+            handle = unreflect(lookup, write);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(
+                    "Unable to access setter " + write, e);
+        }
+        BiConsumer<Object, Object> setter;
+        try {
+            if (!isDirectlyBindable(write.getDeclaringClass(),
+                    write.getModifiers(), write.getParameterTypes())) {
+                throw new IllegalAccessException(
+                        "Setter cannot be bound directly");
+            }
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class,
+                            Object.class),
+                    handle, handle.type().wrap().changeReturnType(void.class));
+            setter = (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable t) {
+            log.debug("Falling back to method handle for " + write, t);
+            MethodHandle generic = handle.asType(MethodType
+                    .methodType(void.class, Object.class, Object.class));
+            setter = (bean, value) -> {
+                try {
+                    generic.invokeExact(bean, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+
+        Class<?> type = write.getParameterTypes()[0];
+        if (type.isPrimitive()) {
+            Object zero = primitiveDefaults.get(type);
+            BiConsumer<Object, Object> primitiveSetter = setter;
+            setter = (bean, value) -> primitiveSetter.accept(bean,
+                    value == null ? zero : value);
+        }
+        return setter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> createConstructor(
+            MethodHandles.Lookup lookup, Class<?> javaClass) {
+        MethodHandle handle;
+        try {
+            Constructor<?> ctor = javaClass.getConstructor();
+            handle = lookup.unreflectConstructor(ctor);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+        try {
+            if (!isDirectlyBindable(javaClass, Modifier.PUBLIC)) {
+                throw new IllegalAccessException(
+                        "Constructor cannot be bound directly");
+            }
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), handle,
+                    handle.type());
+            return (Supplier<Object>) site.getTarget().invoke();
+        } catch (Throwable t) {
+            log.debug("Falling back to method handle for constructor of "
+                    + javaClass.getName(), t);
+            MethodHandle generic = handle
+                    .asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    return generic.invokeExact();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+    }
+
+    /**
+     * Generated lambdas are linked against the class loader of this bundle, so
+     * only bind directly when the member is public and every type in its
+     * signature is visible from here. Anything else goes through a method
+     * handle, which is slower but has no such restriction.
+     */
+    private static boolean isDirectlyBindable(Class<?> declaringClass,
+            int modifiers, Class<?>... types) {
+        if (!Modifier.isPublic(modifiers)
+                || !Modifier.isPublic(declaringClass.getModifiers())
+                || !isVisible(declaringClass)) {
+            return false;
+        }
+        for (Class<?> type : types) {
+            if (!isVisible(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false,
+                    ThriftStructCodec.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Public accessors declared on non-public classes (for example a public
+     * getter inherited from a package private superclass) cannot be looked up
+     * directly, so retry with accessibility overridden.
+     */
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup,
+            Method method) throws IllegalAccessException {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            method.setAccessible(true);
+            return lookup.unreflect(method);
+        }
+    }
+}
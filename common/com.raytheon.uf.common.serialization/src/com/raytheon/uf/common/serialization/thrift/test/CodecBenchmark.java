@@ -0,0 +1,245 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.serialization.thrift.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.raytheon.uf.common.serialization.DynamicSerializationManager;
+import com.raytheon.uf.common.serialization.DynamicSerializationManager.SerializationType;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.thrift.ThriftStructCodec;
+
+/**
+ * Compares the throughput of the generated {@link ThriftStructCodec} path
+ * against the cglib BeanMap path. The path is chosen once per JVM so run this
+ * twice, once as-is and once with -Dthrift.codec.enabled=false, and compare
+ * the results. Each run reports single threaded and multi-threaded
+ * throughput since the BeanMap path also suffers from lock contention.
+ *
+ * Usage: CodecBenchmark [records per message] [threads] [seconds]
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer    Description
+ * ------------- -------- ----------- --------------------------
+ * Oct 16, 2026           agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class CodecBenchmark {
+
+    @DynamicSerialize
+    public static class Level {
+
+        @DynamicSerializeElement
+        private String masterLevel;
+
+        @DynamicSerializeElement
+        private double levelOneValue;
+
+        @DynamicSerializeElement
+        private double levelTwoValue;
+
+        public String getMasterLevel() {
+            return masterLevel;
+        }
+
+        public void setMasterLevel(String masterLevel) {
+            this.masterLevel = masterLevel;
+        }
+
+        public double getLevelOneValue() {
+            return levelOneValue;
+        }
+
+        public void setLevelOneValue(double levelOneValue) {
+            this.levelOneValue = levelOneValue;
+        }
+
+        public double getLevelTwoValue() {
+            return levelTwoValue;
+        }
+
+        public void setLevelTwoValue(double levelTwoValue) {
+            this.levelTwoValue = levelTwoValue;
+        }
+    }
+
+    @DynamicSerialize
+    public static class Record {
+
+        @DynamicSerializeElement
+        private int id;
+
+        @DynamicSerializeElement
+        private long refTime;
+
+        @DynamicSerializeElement
+        private float value;
+
+        @DynamicSerializeElement
+        private String station;
+
+        @DynamicSerializeElement
+        private Level level;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public long getRefTime() {
+            return refTime;
+        }
+
+        public void setRefTime(long refTime) {
+            this.refTime = refTime;
+        }
+
+        public float getValue() {
+            return value;
+        }
+
+        public void setValue(float value) {
+            this.value = value;
+        }
+
+        public String getStation() {
+            return station;
+        }
+
+        public void setStation(String station) {
+            this.station = station;
+        }
+
+        public Level getLevel() {
+            return level;
+        }
+
+        public void setLevel(Level level) {
+            this.level = level;
+        }
+    }
+
+    @DynamicSerialize
+    public static class Response {
+
+        @DynamicSerializeElement
+        private List<Record> records;
+
+        public List<Record> getRecords() {
+            return records;
+        }
+
+        public void setRecords(List<Record> records) {
+            this.records = records;
+        }
+    }
+
+    protected static Response createResponse(int size) {
+        List<Record> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Level level = new Level();
+            level.setMasterLevel("MB");
+            level.setLevelOneValue(500.0 + i % 10);
+            level.setLevelTwoValue(-999999.0);
+            Record record = new Record();
+            record.setId(i);
+            record.setRefTime(System.currentTimeMillis());
+            record.setValue(i * 0.5f);
+            record.setStation("K" + (i % 1000));
+            record.setLevel(level);
+            records.add(record);
+        }
+        Response response = new Response();
+        response.setRecords(records);
+        return response;
+    }
+
+    /**
+     * Round trip the response until the deadline
+     *
+     * @return the number of round trips completed
+     */
+    protected static long roundTrip(DynamicSerializationManager dsm,
+            Response response, long deadline) throws Exception {
+        long count = 0;
+        while (System.currentTimeMillis() < deadline) {
+            byte[] b = dsm.serialize(response);
+            dsm.deserialize(b);
+            count++;
+        }
+        return count;
+    }
+
+    protected static void run(DynamicSerializationManager dsm,
+            Response response, int threads, int seconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long deadline = System.currentTimeMillis() + seconds * 1000L;
+            List<Future<Long>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor
+                        .submit(() -> roundTrip(dsm, response, deadline)));
+            }
+            long total = 0;
+            for (Future<Long> future : futures) {
+                total += future.get();
+            }
+            System.out.println(threads + " thread(s): "
+                    + (total / (double) seconds) + " round trips/s");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        DynamicSerializationManager dsm = DynamicSerializationManager
+                .getManager(SerializationType.Thrift);
+        Response response = createResponse(size);
+
+        System.out.println("Codecs enabled: " + ThriftStructCodec.isEnabled()
+                + ", " + size + " records per message");
+
+        // warm up
+        run(dsm, response, 1, seconds);
+
+        run(dsm, response, 1, seconds);
+        run(dsm, response, threads, seconds);
+    }
+
+}
@@ -0,0 +1,163 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.util.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of non negative values. Values below 32 are counted
+ * exactly, larger values are counted in 16 buckets for each power of two so
+ * any percentile is accurate to within about 6% while using a fixed 5KB of
+ * memory regardless of the number of values recorded.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ * Oct 17, 2026           agent     Moved to common.util from requestsrv
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class LogLinearHistogram {
+
+    /** Values below 2^SUB_BITS are counted exactly */
+    private static final int SUB_BITS = 5;
+
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    private static final int HALF_COUNT = SUB_COUNT >> 1;
+
+    /** Larger values are counted as this value */
+    private static final long MAX_VALUE = (1L << 40) - 1;
+
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record a value, negative values are recorded as 0.
+     *
+     * @param value
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(bucketIndex(Math.min(value, MAX_VALUE)));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Get the value that the given percentage of recorded values are less than
+     * or equal to. The result is the highest value that is counted in the same
+     * bucket as the actual value.
+     *
+     * @param percentile
+     *            between 0 and 100
+     * @return the value, or 0 if no values have been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i += 1) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(percentile / 100.0 * total);
+        target = Math.max(1, Math.min(total, target));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i += 1) {
+            cumulative += snapshot[i];
+            if (cumulative >= target) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * @return a new histogram containing the values recorded in this one.
+     */
+    public LogLinearHistogram copy() {
+        LogLinearHistogram copy = new LogLinearHistogram();
+        for (int i = 0; i < BUCKET_COUNT; i += 1) {
+            copy.counts.set(i, counts.get(i));
+        }
+        copy.count.add(count.sum());
+        copy.sum.add(sum.sum());
+        copy.max.accumulate(max.get());
+        return copy;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1);
+        int sub = (int) (value >>> shift);
+        return SUB_COUNT + (shift - 1) * HALF_COUNT + (sub - HALF_COUNT);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_COUNT;
+        int shift = offset / HALF_COUNT + 1;
+        long sub = offset % HALF_COUNT + HALF_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+
+}
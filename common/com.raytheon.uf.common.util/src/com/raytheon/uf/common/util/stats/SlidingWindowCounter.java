@@ -0,0 +1,134 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.util.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock free count of the values added over the most recent seconds, used to
+ * calculate rates such as bytes per second over a sliding window. Values are
+ * counted in one bucket per second, a bucket is reused once it is older than
+ * the window so memory use is fixed. Values added while a bucket is being
+ * reused may be lost, which is acceptable for statistics.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class SlidingWindowCounter {
+
+    private final int windowSeconds;
+
+    /** The second each bucket is counting */
+    private final AtomicLongArray seconds;
+
+    private final AtomicLongArray counts;
+
+    /**
+     * @param windowSeconds
+     *            the longest window that rates can be calculated over
+     */
+    public SlidingWindowCounter(int windowSeconds) {
+        this.windowSeconds = windowSeconds;
+        this.seconds = new AtomicLongArray(windowSeconds);
+        this.counts = new AtomicLongArray(windowSeconds);
+        for (int i = 0; i < windowSeconds; i += 1) {
+            seconds.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    public void add(long value) {
+        add(value, System.currentTimeMillis());
+    }
+
+    void add(long value, long timeMillis) {
+        long second = timeMillis / 1000;
+        int index = (int) (second % windowSeconds);
+        long bucketSecond = seconds.get(index);
+        if (bucketSecond != second) {
+            if (bucketSecond > second) {
+                /* the clock moved backwards, the value is too old to count */
+                return;
+            }
+            if (seconds.compareAndSet(index, bucketSecond, second)) {
+                counts.set(index, 0);
+            }
+        }
+        counts.addAndGet(index, value);
+    }
+
+    /**
+     * @param windowSeconds
+     *            the number of seconds to sum over, at most the window this
+     *            counter was created with
+     * @return the total of the values added in the last windowSeconds seconds,
+     *         including the current second.
+     */
+    public long getSum(int windowSeconds) {
+        return getSum(windowSeconds, System.currentTimeMillis());
+    }
+
+    long getSum(int windowSeconds, long timeMillis) {
+        windowSeconds = Math.min(windowSeconds, this.windowSeconds);
+        long now = timeMillis / 1000;
+        long sum = 0;
+        for (int i = 0; i < this.windowSeconds; i += 1) {
+            long second = seconds.get(i);
+            if (second > now - windowSeconds && second <= now) {
+                sum += counts.get(i);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @param windowSeconds
+     *            the number of seconds to average over, at most the window
+     *            this counter was created with
+     * @return the average per second of the values added in the last
+     *         windowSeconds seconds.
+     */
+    public double getRate(int windowSeconds) {
+        windowSeconds = Math.min(windowSeconds, this.windowSeconds);
+        return windowSeconds <= 0 ? 0.0
+                : getSum(windowSeconds) / (double) windowSeconds;
+    }
+
+    /**
+     * @return a new counter containing the values added to this one.
+     */
+    public SlidingWindowCounter copy() {
+        SlidingWindowCounter copy = new SlidingWindowCounter(windowSeconds);
+        for (int i = 0; i < windowSeconds; i += 1) {
+            copy.seconds.set(i, seconds.get(i));
+            copy.counts.set(i, counts.get(i));
+        }
+        return copy;
+    }
+
+}
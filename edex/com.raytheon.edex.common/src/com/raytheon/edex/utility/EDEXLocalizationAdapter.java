@@ -36,6 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 
+import com.raytheon.edex.utility.LocalizationIndex.IndexedFile;
 import com.raytheon.uf.common.localization.FileUpdatedMessage;
 import com.raytheon.uf.common.localization.FileUpdatedMessage.FileChangeType;
 import com.raytheon.uf.common.localization.ILocalizationAdapter;
@@ -99,6 +100,8 @@ import com.raytheon.uf.edex.core.EDEXUtil;
  * Aug 07, 2017 5731        bsteffen    Implement getContextList
  * Sep  8, 2017 6255        tgurney     Check ownership before setting permissions
  * Oct 24, 2022           srcarter@ucar Remove REGION and WORKSTATION levels
+ * Oct 17, 2026             agent       Answer listings and metadata from the
+ *                                      LocalizationIndex
  *
  * </pre>
  *
@@ -186,9 +189,15 @@ public class EDEXLocalizationAdapter implements ILocalizationAdapter {
 
         List<ListResponse> contents = new ArrayList<>(context.length);
 
+        LocalizationIndex index = getIndex();
         for (LocalizationContext ctx : context) {
-            ListResponse entry = createListResponse(ctx, fileName,
-                    getPath(ctx, fileName));
+            ListResponse entry;
+            if (index != null) {
+                entry = createListResponse(index.getFile(ctx, fileName));
+            } else {
+                entry = createListResponse(ctx, fileName,
+                        getPath(ctx, fileName));
+            }
             contents.add(entry);
         }
 
@@ -230,6 +239,31 @@ public class EDEXLocalizationAdapter implements ILocalizationAdapter {
         return new File(EDEXUtil.getEdexUtility());
     }
 
+    /**
+     * Get the index of the utility directory.
+     *
+     * @return the index, or null if listings should be read from the
+     *         filesystem
+     */
+    protected LocalizationIndex getIndex() {
+        LocalizationIndex index = LocalizationIndex.getInstance();
+        if (index.isIndexed(getUtilityDir())) {
+            return index;
+        }
+        return null;
+    }
+
+    /**
+     * Update the index with a change made through this adapter so it is
+     * visible immediately, rather than when the notification comes back.
+     */
+    private void fileUpdated(FileUpdatedMessage message) {
+        LocalizationIndex index = getIndex();
+        if (index != null) {
+            index.fileUpdated(message);
+        }
+    }
+
     /**
      * Create ListResponse metadata
      * <p>
@@ -283,6 +317,41 @@ public class EDEXLocalizationAdapter implements ILocalizationAdapter {
         return entry;
     }
 
+    /**
+     * Create ListResponse metadata from the index, see
+     * {@link #createListResponse(LocalizationContext, String, File)}
+     */
+    private ListResponse createListResponse(IndexedFile file) {
+        ListResponse entry = new ListResponse();
+        entry.isDirectory = file.isDirectory();
+        entry.context = file.getContext();
+        entry.fileName = file.getPath();
+        entry.date = new Date(file.getLastModified());
+        entry.existsOnServer = file.exists();
+        entry.checkSum = file.getChecksum();
+        return entry;
+    }
+
+    /**
+     * Add the contents of an indexed directory to a listing, the same as
+     * listing the files on disk would.
+     */
+    private void listIndexedDirectory(LocalizationIndex index,
+            IndexedFile directory, String fileExtension, boolean recursive,
+            boolean filesOnly, Set<ListResponse> contents) {
+        for (IndexedFile file : index.listFiles(directory)) {
+            if ((fileExtension == null
+                    || file.getName().endsWith(fileExtension))
+                    && !(file.isDirectory() && filesOnly)) {
+                contents.add(createListResponse(file));
+            }
+            if (recursive && file.isDirectory()) {
+                listIndexedDirectory(index, file, fileExtension, recursive,
+                        filesOnly, contents);
+            }
+        }
+    }
+
     @Override
     public ListResponse[] listDirectory(LocalizationContext[] context,
             String path, String fileExtension, boolean recursive,
@@ -292,6 +361,15 @@ public class EDEXLocalizationAdapter implements ILocalizationAdapter {
         // ensure order is deterministic when scanning multiple contexts
         Set<ListResponse> contents = new LinkedHashSet<>();
 
+        LocalizationIndex index = getIndex();
+        if (index != null) {
+            for (LocalizationContext ctx : context) {
+                listIndexedDirectory(index, index.getFile(ctx, path),
+                        fileExtension, recursive, filesOnly, contents);
+            }
+            return contents.toArray(new ListResponse[0]);
+        }
+
         FilenameFilter filter = null;
         if (fileExtension != null) {
             filter = new FilenameFilter() {
@@ -382,9 +460,11 @@ public class EDEXLocalizationAdapter implements ILocalizationAdapter {
             String checksum = ChecksumIO.writeChecksum(actualFile);
             long timeStamp = actualFile.lastModified();
 
+            FileUpdatedMessage message = new FileUpdatedMessage(context,
+                    file.getPath(), changeType, timeStamp, checksum);
+            fileUpdated(message);
             EDEXUtil.getMessageProducer().sendAsync(FILE_UPDATE_ENDPOINT,
-                    new FileUpdatedMessage(context, file.getPath(), changeType,
-                            timeStamp, checksum));
+                    message);
         } catch (Exception e) {
             handler.error("Error sending file updated message", e);
         }
@@ -418,10 +498,12 @@ public class EDEXLocalizationAdapter implements ILocalizationAdapter {
             LocalizationContext context = file.getContext();
             // send notification
             try {
+                FileUpdatedMessage message = new FileUpdatedMessage(context,
+                        file.getPath(), FileChangeType.DELETED, timeStamp,
+                        ILocalizationFile.NON_EXISTENT_CHECKSUM);
+                fileUpdated(message);
                 EDEXUtil.getMessageProducer().sendAsync(FILE_UPDATE_ENDPOINT,
-                        new FileUpdatedMessage(context, file.getPath(),
-                                FileChangeType.DELETED, timeStamp,
-                                ILocalizationFile.NON_EXISTENT_CHECKSUM));
+                        message);
             } catch (Exception e) {
                 handler.error("Error sending file updated message", e);
             }
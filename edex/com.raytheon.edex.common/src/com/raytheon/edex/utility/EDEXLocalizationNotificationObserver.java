@@ -38,6 +38,7 @@ import com.raytheon.uf.common.serialization.SerializationUtil;
  * Apr 08, 2011            mschenke    Initial creation
  * Aug 24, 2015  4393      njensen     Updates for observer changes
  * Nov 16, 2015  4834      njensen     Send FileUpdatedMessages to PathManager
+ * Oct 17, 2026            agent       Update the LocalizationIndex
  * 
  * </pre>
  * 
@@ -63,6 +64,7 @@ public class EDEXLocalizationNotificationObserver {
         try {
             FileUpdatedMessage obj = SerializationUtil.transformFromThrift(
                     FileUpdatedMessage.class, bytes);
+            LocalizationIndex.getInstance().fileUpdated(obj);
             for (PathManager pm : PathManagerFactory.getActivePathManagers()) {
                 pm.fireListeners(obj);
             }
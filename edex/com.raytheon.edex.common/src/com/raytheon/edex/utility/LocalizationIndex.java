@@ -0,0 +1,627 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.edex.utility;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.raytheon.uf.common.localization.Checksum;
+import com.raytheon.uf.common.localization.FileUpdatedMessage;
+import com.raytheon.uf.common.localization.ILocalizationFile;
+import com.raytheon.uf.common.localization.LocalizationContext;
+import com.raytheon.uf.common.localization.checksum.ChecksumIO;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.edex.core.EDEXUtil;
+
+/**
+ * In memory index of the EDEX utility tree, so localization listings and
+ * metadata lookups can be answered without walking the filesystem or reading
+ * checksum files on every request.
+ * <p>
+ * A directory is read from disk the first time it is needed and is then kept
+ * current by a {@link WatchService} and by {@link FileUpdatedMessage}s. Since
+ * the watch service only sees changes made on this host, a directory that has
+ * not been read for edex.localization.index.refresh seconds is read again, to
+ * pick up changes other hosts made to a shared filesystem without sending a
+ * notification. Checksums are computed the first time they are requested and
+ * kept until the modification time of the file changes.
+ * <p>
+ * Checksum (.md5) files are not included in the index.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ * Oct 17, 2026           agent     Start the watcher after construction
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class LocalizationIndex {
+
+    private static final IUFStatusHandler handler = UFStatus
+            .getHandler(LocalizationIndex.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("edex.localization.index.enabled", "true"));
+
+    private static final long REFRESH_MILLIS = TimeUnit.SECONDS
+            .toMillis(Integer.getInteger("edex.localization.index.refresh",
+                    300));
+
+    private static LocalizationIndex instance;
+
+    private final File utilityDir;
+
+    /** root directory of each context, keyed by {@link LocalizationContext#toPath()} */
+    private final Map<String, Node> roots = new ConcurrentHashMap<>();
+
+    private final Map<WatchKey, Node> watched = new ConcurrentHashMap<>();
+
+    private final WatchService watchService;
+
+    private volatile boolean watchFailed = false;
+
+    /**
+     * @return the index of the EDEX utility directory
+     */
+    public static synchronized LocalizationIndex getInstance() {
+        if (instance == null) {
+            instance = new LocalizationIndex(
+                    new File(EDEXUtil.getEdexUtility()), ENABLED);
+            instance.start();
+        }
+        return instance;
+    }
+
+    /**
+     * The index does not watch for changes until {@link #start()} is called.
+     *
+     * @param utilityDir
+     *            the directory containing the localization contexts
+     * @param watch
+     *            true to watch indexed directories for changes
+     */
+    protected LocalizationIndex(File utilityDir, boolean watch) {
+        this.utilityDir = utilityDir.getAbsoluteFile();
+        WatchService service = null;
+        if (watch) {
+            try {
+                service = utilityDir.toPath().getFileSystem()
+                        .newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                handler.warn("Unable to watch " + utilityDir
+                        + " for changes, localization index will be refreshed every "
+                        + TimeUnit.MILLISECONDS.toSeconds(REFRESH_MILLIS)
+                        + "s",
+                        e);
+            }
+        }
+        this.watchService = service;
+    }
+
+    /**
+     * Start the thread that processes changes from the watch service. Must
+     * only be called once, after construction.
+     */
+    protected void start() {
+        if (watchService == null) {
+            return;
+        }
+        Thread watcher = new Thread(this::watch, "LocalizationIndexWatcher");
+        watcher.setDaemon(true);
+        watcher.setUncaughtExceptionHandler((thread, e) -> {
+            watchFailed = true;
+            handler.error("Stopped watching " + utilityDir
+                    + " for changes, localization index will be refreshed every "
+                    + TimeUnit.MILLISECONDS.toSeconds(REFRESH_MILLIS) + "s",
+                    e);
+        });
+        watcher.start();
+    }
+
+    /**
+     * @return true if the index should be used in place of reading the
+     *         filesystem
+     */
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @param dir
+     *            a utility directory
+     * @return true if dir is the directory this index covers
+     */
+    public boolean isIndexed(File dir) {
+        return ENABLED && utilityDir.equals(dir.getAbsoluteFile());
+    }
+
+    /**
+     * Look up a file or directory. A result is returned even if the file does
+     * not exist.
+     *
+     * @param context
+     *            the context of the file
+     * @param path
+     *            the path of the file relative to the context
+     * @return the indexed file
+     */
+    public IndexedFile getFile(LocalizationContext context, String path) {
+        String[] segments = split(path);
+        if (segments == null) {
+            /* Paths that leave the context are not indexed */
+            Node node = new Node(new File(
+                    new File(utilityDir, context.toPath()), path), path);
+            node.stat();
+            return new IndexedFile(context, node);
+        }
+        Node node = getRoot(context);
+        StringBuilder relative = new StringBuilder();
+        for (String segment : segments) {
+            Node child = getChildren(node).get(segment);
+            if (relative.length() > 0) {
+                relative.append('/');
+            }
+            relative.append(segment);
+            if (child == null) {
+                Node missing = new Node(new File(node.file, segment),
+                        relative.toString());
+                return new IndexedFile(context, missing);
+            }
+            node = child;
+        }
+        return new IndexedFile(context, node);
+    }
+
+    /**
+     * List the contents of a directory.
+     *
+     * @param directory
+     *            a file returned by this index
+     * @return the files and directories in the directory sorted by name, or an
+     *         empty list if it is not a directory
+     */
+    public List<IndexedFile> listFiles(IndexedFile directory) {
+        if (!directory.isDirectory()) {
+            return Collections.emptyList();
+        }
+        Map<String, Node> children = getChildren(directory.node);
+        List<IndexedFile> result = new ArrayList<>(children.size());
+        for (Node child : children.values()) {
+            result.add(new IndexedFile(directory.context, child));
+        }
+        return result;
+    }
+
+    /**
+     * Update the index for a file that was changed by this or another EDEX.
+     *
+     * @param message
+     *            the notification of the change
+     */
+    public void fileUpdated(FileUpdatedMessage message) {
+        String[] segments = split(message.getFileName());
+        if (segments == null || message.getContext() == null) {
+            return;
+        }
+        Node node = roots.get(message.getContext().toPath());
+        if (node == null) {
+            return;
+        }
+        synchronized (node) {
+            boolean existed = node.exists;
+            node.stat();
+            if (existed != node.exists) {
+                node.listTime = 0;
+            }
+        }
+        for (String segment : segments) {
+            node = refreshChild(node, segment);
+            if (node == null) {
+                break;
+            }
+        }
+    }
+
+    private Node getRoot(LocalizationContext context) {
+        String path = context.toPath();
+        Node root = roots.get(path);
+        if (root == null) {
+            Node created = new Node(new File(utilityDir, path), "");
+            created.stat();
+            root = roots.putIfAbsent(path, created);
+            if (root == null) {
+                root = created;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Get the children of a directory, reading them from disk if they have not
+     * been read yet or are due for a refresh. The returned map is never
+     * modified.
+     */
+    private Map<String, Node> getChildren(Node node) {
+        Map<String, Node> children = node.children;
+        if (children != null && System.currentTimeMillis()
+                - node.listTime < REFRESH_MILLIS) {
+            return children;
+        }
+        synchronized (node) {
+            if (node.children == null || System.currentTimeMillis()
+                    - node.listTime >= REFRESH_MILLIS) {
+                load(node);
+            }
+            return node.children;
+        }
+    }
+
+    /**
+     * Read the contents of a directory, keeping the nodes (and checksums) of
+     * any children that are still present. Must hold the lock on node.
+     */
+    private void load(Node node) {
+        node.stat();
+        node.listTime = System.currentTimeMillis();
+        if (!node.directory) {
+            node.children = Collections.emptyMap();
+            return;
+        }
+        /* Watch before reading so no changes are missed */
+        register(node);
+        Map<String, Node> previous = node.children;
+        Map<String, Node> children = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files
+                .newDirectoryStream(node.file.toPath())) {
+            for (Path entry : stream) {
+                String name = entry.getFileName().toString();
+                if (name.endsWith(Checksum.CHECKSUM_FILE_EXTENSION)) {
+                    continue;
+                }
+                Node child = previous == null ? null : previous.get(name);
+                if (child == null) {
+                    child = new Node(entry.toFile(), node.childPath(name));
+                }
+                synchronized (child) {
+                    if (child.stat()) {
+                        children.put(name, child);
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            node.exists = false;
+            node.directory = false;
+        } catch (IOException e) {
+            handler.error("Error listing " + node.file, e);
+        }
+        node.children = Collections.unmodifiableMap(children);
+    }
+
+    /**
+     * Update a single child of a directory from disk.
+     *
+     * @return the child if it exists and is indexed, otherwise null
+     */
+    private Node refreshChild(Node parent, String name) {
+        synchronized (parent) {
+            if (parent.children == null) {
+                /* Nothing below here has been read yet */
+                return null;
+            }
+            Node child = parent.children.get(name);
+            Node updated = child != null ? child
+                    : new Node(new File(parent.file, name),
+                            parent.childPath(name));
+            boolean exists;
+            synchronized (updated) {
+                boolean wasDirectory = updated.directory;
+                exists = updated.stat();
+                if (wasDirectory != updated.directory) {
+                    updated.children = null;
+                }
+            }
+            if (exists && child == null) {
+                Map<String, Node> children = new TreeMap<>(parent.children);
+                children.put(name, updated);
+                parent.children = Collections.unmodifiableMap(children);
+            } else if (!exists && child != null) {
+                Map<String, Node> children = new TreeMap<>(parent.children);
+                children.remove(name);
+                parent.children = Collections.unmodifiableMap(children);
+            }
+            return exists ? updated : null;
+        }
+    }
+
+    private void register(Node node) {
+        if (watchService == null || watchFailed || node.watchKey != null) {
+            return;
+        }
+        try {
+            synchronized (watched) {
+                node.watchKey = node.file.toPath().register(watchService,
+                        ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                watched.put(node.watchKey, node);
+            }
+        } catch (NoSuchFileException e) {
+            /* Deleted since it was read, the parent will see the delete */
+        } catch (IOException e) {
+            /* Most likely the limit on inotify watches has been reached */
+            watchFailed = true;
+            handler.warn("Unable to watch " + node.file
+                    + " for changes, directories not already watched will be refreshed every "
+                    + TimeUnit.MILLISECONDS.toSeconds(REFRESH_MILLIS) + "s",
+                    e);
+        }
+    }
+
+    private void watch() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Node node;
+            synchronized (watched) {
+                node = watched.get(key);
+            }
+            if (node != null) {
+                try {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW) {
+                            /* Changes were lost, read the directory again */
+                            node.listTime = 0;
+                            continue;
+                        }
+                        String name = event.context().toString();
+                        if (!name.endsWith(
+                                Checksum.CHECKSUM_FILE_EXTENSION)) {
+                            refreshChild(node, name);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    handler.error("Error updating localization index for "
+                            + node.file, e);
+                }
+            }
+            if (!key.reset()) {
+                watched.remove(key);
+                if (node != null) {
+                    synchronized (node) {
+                        node.watchKey = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Split a path relative to a context into names
+     *
+     * @return the names, or null if the path refers outside the context
+     */
+    private static String[] split(String path) {
+        if (path == null) {
+            return new String[0];
+        }
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("[/\\\\]")) {
+            if (segment.isEmpty() || ".".equals(segment)) {
+                continue;
+            } else if ("..".equals(segment)) {
+                return null;
+            }
+            segments.add(segment);
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    /**
+     * A file or directory in the index. Fields other than file and path are
+     * guarded by the lock on the node, children is replaced rather than
+     * modified so it can be read without the lock.
+     */
+    private static class Node {
+
+        private final File file;
+
+        private final String path;
+
+        private boolean exists;
+
+        private boolean directory;
+
+        private boolean readable;
+
+        private long lastModified;
+
+        private String checksum;
+
+        private volatile Map<String, Node> children;
+
+        private volatile long listTime;
+
+        private WatchKey watchKey;
+
+        public Node(File file, String path) {
+            this.file = file;
+            this.path = path;
+        }
+
+        /**
+         * Read the attributes of the file, discarding the checksum if it has
+         * been modified.
+         *
+         * @return true if the file exists
+         */
+        public boolean stat() {
+            Path p = file.toPath();
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(p,
+                        BasicFileAttributes.class);
+                long modified = attrs.lastModifiedTime().toMillis();
+                if (!exists || modified != lastModified) {
+                    checksum = null;
+                }
+                exists = true;
+                directory = attrs.isDirectory();
+                lastModified = modified;
+                readable = Files.isReadable(p) && !Files.isHidden(p);
+            } catch (IOException e) {
+                exists = false;
+                directory = false;
+                readable = false;
+                lastModified = 0;
+                checksum = null;
+            }
+            return exists;
+        }
+
+        public String childPath(String name) {
+            return path.isEmpty() ? name : path + "/" + name;
+        }
+
+        public synchronized String getChecksum() {
+            if (!exists) {
+                return ILocalizationFile.NON_EXISTENT_CHECKSUM;
+            } else if (directory) {
+                return ILocalizationFile.DIRECTORY_CHECKSUM;
+            } else if (checksum == null) {
+                checksum = ChecksumIO.getFileChecksum(file);
+            }
+            return checksum;
+        }
+    }
+
+    /**
+     * The state of a file in the index at the time it was looked up.
+     */
+    public static class IndexedFile {
+
+        private final LocalizationContext context;
+
+        private final Node node;
+
+        private final boolean exists;
+
+        private final boolean directory;
+
+        private final boolean readable;
+
+        private final long lastModified;
+
+        private IndexedFile(LocalizationContext context, Node node) {
+            this.context = context;
+            this.node = node;
+            synchronized (node) {
+                this.exists = node.exists;
+                this.directory = node.directory;
+                this.readable = node.readable;
+                this.lastModified = node.lastModified;
+            }
+        }
+
+        public LocalizationContext getContext() {
+            return context;
+        }
+
+        /**
+         * @return the path relative to the context, using / as the separator
+         */
+        public String getPath() {
+            return node.path;
+        }
+
+        public String getName() {
+            return node.file.getName();
+        }
+
+        public File getFile() {
+            return node.file;
+        }
+
+        public boolean exists() {
+            return exists;
+        }
+
+        public boolean isDirectory() {
+            return directory;
+        }
+
+        public boolean isFile() {
+            return exists && !directory;
+        }
+
+        /**
+         * @return true if the file can be read by this process and is not
+         *         hidden
+         */
+        public boolean isReadable() {
+            return readable;
+        }
+
+        /**
+         * @return the modification time in milliseconds, or 0 if the file does
+         *         not exist
+         */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * @return the checksum of the file, computing it if it is not already
+         *         known
+         */
+        public String getChecksum() {
+            return node.getChecksum();
+        }
+    }
+
+}
@@ -29,6 +29,8 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.raytheon.edex.utility.LocalizationIndex;
+import com.raytheon.edex.utility.LocalizationIndex.IndexedFile;
 import com.raytheon.uf.common.localization.Checksum;
 import com.raytheon.uf.common.localization.FileUpdatedMessage;
 import com.raytheon.uf.common.localization.FileUpdatedMessage.FileChangeType;
@@ -71,6 +73,7 @@ import com.raytheon.uf.edex.core.EdexException;
  * Oct 08, 2021  8673     randerso  Added AlertViz/log message if a
  *                                  file/directory in the utility tree is
  *                                  unreadable by EDEX.
+ * Oct 17, 2026           agent     List files from the LocalizationIndex
  *
  * </pre>
  *
@@ -114,11 +117,21 @@ public class UtilityManager {
         String msg = null;
         try {
             checkParameters(baseDir, context);
-            String path = contextToDirectory(baseDir, context);
-            File file = new File(path);
+            LocalizationIndex index = LocalizationIndex.getInstance();
+            if (index.isIndexed(new File(baseDir))) {
+                if ((subPath == null) || subPath.isEmpty()) {
+                    subPath = ".";
+                }
+                indexedFileBuild(index, index.getFile(context, subPath),
+                        subPath, fileExtension, recursive, filesOnly,
+                        entries);
+            } else {
+                String path = contextToDirectory(baseDir, context);
+                File file = new File(path);
 
-            recursiveFileBuild(localizedSite, context, file, subPath,
-                    fileExtension, recursive, filesOnly, entries, 0);
+                recursiveFileBuild(localizedSite, context, file, subPath,
+                        fileExtension, recursive, filesOnly, entries, 0);
+            }
         } catch (@SuppressWarnings("squid:S1166")
         EdexException e) {
             /* Error is sent in the response */
@@ -336,6 +349,85 @@ public class UtilityManager {
         }
     }
 
+    private static void addEntry(String path, IndexedFile file,
+            List<ListResponseEntry> entries) {
+        ListResponseEntry entry = new ListResponseEntry();
+        entry.setContext(file.getContext());
+        entry.setFileName(path);
+        if (file.exists()) {
+            entry.setExistsOnServer(true);
+            entry.setDate(new Date(file.getLastModified()));
+            entry.setDirectory(file.isDirectory());
+            entry.setChecksum(file.getChecksum());
+        } else {
+            entry.setExistsOnServer(false);
+            entry.setChecksum(ILocalizationFile.NON_EXISTENT_CHECKSUM);
+        }
+        entries.add(entry);
+    }
+
+    /**
+     * Equivalent to
+     * {@link #recursiveFileBuild(String, LocalizationContext, File, String, String, boolean, boolean, List, int)}
+     * using the contents of the index instead of the filesystem.
+     */
+    private static void indexedFileBuild(LocalizationIndex index,
+            IndexedFile file, String subPath, String fileExtension,
+            boolean recursive, boolean filesOnly,
+            List<ListResponseEntry> entries) {
+        if (!isValidEntry(file, fileExtension)) {
+            if (file.exists()) {
+                String message = file.getFile()
+                        + " is hidden and/or unreadable by user "
+                        + System.getProperty("user.name")
+                        + ". Please correct this immediately.";
+                logger.error(message);
+                EDEXUtil.sendMessageAlertViz(Priority.ERROR,
+                        "com.raytheon.edex.utilitySrv", "Localization",
+                        "DEFAULT", message, null, null);
+            }
+            return;
+        }
+
+        if (!filesOnly || file.isFile()) {
+            addEntry(subPath, file, entries);
+        }
+
+        String prependToPath = subPath + "/";
+        for (IndexedFile f : index.listFiles(file)) {
+            if (!isValidEntry(f, fileExtension)) {
+                continue;
+            }
+            String path = prependToPath + f.getName();
+            if (f.isFile()) {
+                addEntry(path, f, entries);
+            } else if (f.isDirectory()) {
+                if (recursive) {
+                    indexedFileBuild(index, f, path, fileExtension,
+                            recursive, filesOnly, entries);
+                } else if (!filesOnly) {
+                    addEntry(path, f, entries);
+                }
+            }
+        }
+    }
+
+    /**
+     * Equivalent to {@link #isValidEntry(File, String)} for an indexed file.
+     */
+    private static boolean isValidEntry(IndexedFile file,
+            String fileExtension) {
+        String filename = file.getName();
+        if (filename.endsWith(Checksum.CHECKSUM_FILE_EXTENSION)) {
+            return false;
+        }
+        if (fileExtension != null && !filename.endsWith(fileExtension)
+                && !file.isDirectory()) {
+            return false;
+        }
+        return !file.exists() || file.isReadable();
+    }
+
     /**
      * Verifies a File is potentially a valid entry, i.e. if the filename
      * matches the fileExtension (if provided), and if the file exists then is
@@ -29,6 +29,7 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -39,6 +40,13 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 import javax.persistence.PersistenceException;
@@ -47,9 +55,17 @@ import org.apache.commons.beanutils.PropertyUtils;
 import org.hibernate.Criteria;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.criterion.Conjunction;
+import org.hibernate.criterion.Criterion;
+import org.hibernate.criterion.Disjunction;
 import org.hibernate.criterion.Projections;
 import org.hibernate.criterion.Restrictions;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 
 import com.raytheon.uf.common.dataplugin.HDF5Util;
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
@@ -149,6 +165,11 @@ import com.raytheon.uf.edex.database.query.DatabaseQuery;
  * Feb 17, 2022  8608     mapeters    Add auditMissingPiecesForDatabaseOnlyPdos()
  * Jun 22, 2022  8865     mapeters    Updates to hdf5 storage methods to audit missing pieces
  *                                    for PDOs that are filtered out
+ * Oct 17, 2026           agent       Look up existing records for a whole batch
+ *                                    when duplicate checking, track ingest rate
+ *                                    of each persist strategy
+ * Oct 17, 2026           agent       Purge by id with bulk deletes, optionally
+ *                                    purge product keys in parallel
  *
  * </pre>
  *
@@ -174,6 +195,33 @@ public abstract class PluginDao extends CoreDao {
 
     protected static final ConcurrentMap<Class<?>, DuplicateCheckStat> pluginDupCheckRate = new ConcurrentHashMap<>();
 
+    /**
+     * When true duplicate checking looks up the existing ids of an entire
+     * batch with one query, otherwise one query is issued per record.
+     */
+    protected static final boolean BULK_DUPLICATE_CHECK = Boolean.parseBoolean(
+            System.getProperty("plugindao.bulk.duplicate.check", "true"));
+
+    /**
+     * When true purging deletes records by id with one statement per batch
+     * instead of deleting each record through the session, when it is safe to
+     * do so, see {@link #isBulkPurgeSupported()}.
+     */
+    protected static final boolean BULK_PURGE = Boolean.parseBoolean(
+            System.getProperty("plugindao.bulk.purge", "true"));
+
+    /** The maximum number of records deleted by each bulk purge statement. */
+    protected static final int PURGE_BATCH_SIZE = Integer
+            .getInteger("plugindao.purge.batch.size", 1000);
+
+    /**
+     * The number of product keys of a single plugin that are purged
+     * concurrently. The number of plugins purged at once is still limited by
+     * the purge manager.
+     */
+    protected static final int PURGE_KEY_THREADS = Integer
+            .getInteger("plugindao.purge.key.threads", 1);
+
     /**
      * The base path of the folder containing HDF5 data for the owning plugin
      */
@@ -187,6 +235,9 @@ public abstract class PluginDao extends CoreDao {
 
     protected static final String PURGE_VERSION_FIELD = "dataTime.refTime";
 
+    /** Lazily determined by {@link #isBulkPurgeSupported()} */
+    private volatile Boolean bulkPurgeSupported;
+
     /**
      * Constructs a new PluginDao for the given plugin
      *
@@ -263,6 +314,7 @@ public abstract class PluginDao extends CoreDao {
         boolean duplicateCheck = dupStat.isDuplicateCheck();
         int dupCommitCount = 0;
         int noDupCommitCount = 0;
+        PersistTimes persistTimes = new PersistTimes();
 
         try (Session session = getSession()) {
             // process them all in fixed sized batches.
@@ -275,6 +327,7 @@ public abstract class PluginDao extends CoreDao {
                 if (!duplicateCheck) {
                     // First attempt is to just shove everything in the database
                     // as fast as possible and assume no duplicates.
+                    long start = System.nanoTime();
                     try {
                         tx = session.beginTransaction();
                         for (PluginDataObject object : subList) {
@@ -293,37 +346,78 @@ public abstract class PluginDao extends CoreDao {
                         } else {
                             throw e;
                         }
+                    } finally {
+                        persistTimes.add(PersistStrategy.NO_CHECK,
+                                subList.size(), System.nanoTime() - start);
                     }
                 }
                 if (constraintViolation || duplicateCheck) {
                     // Second attempt will do duplicate checking, and possibly
                     // overwrite.
                     constraintViolation = false;
+                    PersistStrategy strategy = BULK_DUPLICATE_CHECK
+                            ? PersistStrategy.BULK_CHECK
+                            : PersistStrategy.RECORD_CHECK;
+                    long start = System.nanoTime();
                     try {
                         tx = session.beginTransaction();
                         List<PluginDataObject> subPersisted = new ArrayList<>(
                                 subList.size());
+                        Map<String, Integer> existingIds = null;
+                        if (BULK_DUPLICATE_CHECK) {
+                            try {
+                                existingIds = queryExistingIds(session,
+                                        pdoClass, subList);
+                            } catch (PluginException e) {
+                                logger.handle(Priority.PROBLEM,
+                                        "Bulk duplicate check failed, checking each "
+                                                + pdoClass.getSimpleName()
+                                                + " individually",
+                                        e);
+                                strategy = PersistStrategy.RECORD_CHECK;
+                            }
+                        }
+                        /*
+                         * dataURIs saved or updated earlier in this batch,
+                         * these are already attached to the session.
+                         */
+                        Set<String> batchUris = new HashSet<>();
                         for (PluginDataObject object : subList) {
                             if (object == null) {
                                 continue;
                             }
                             try {
-                                Criteria criteria = session
-                                        .createCriteria(pdoClass);
-                                populateDatauriCriteria(criteria, object);
-                                criteria.setProjection(Projections.id());
-                                Integer id = (Integer) criteria.uniqueResult();
+                                Integer id;
+                                String dataURI = object.getDataURI();
+                                if (existingIds != null) {
+                                    id = existingIds.get(dataURI);
+                                } else {
+                                    Criteria criteria = session
+                                            .createCriteria(pdoClass);
+                                    populateDatauriCriteria(criteria, object);
+                                    criteria.setProjection(Projections.id());
+                                    id = (Integer) criteria.uniqueResult();
+                                }
                                 if (id != null) {
                                     object.setId(id);
-                                    if (object.isOverwriteAllowed()) {
-                                        session.update(object);
+                                    if (!object.isOverwriteAllowed()) {
+                                        subDuplicates.add(object);
+                                    } else if (batchUris.contains(dataURI)) {
+                                        session.merge(object);
                                         subPersisted.add(object);
                                     } else {
-                                        subDuplicates.add(object);
+                                        session.update(object);
+                                        subPersisted.add(object);
+                                        batchUris.add(dataURI);
                                     }
                                 } else {
                                     session.save(object);
                                     subPersisted.add(object);
+                                    if (existingIds != null) {
+                                        existingIds.put(dataURI,
+                                                object.getId());
+                                    }
+                                    batchUris.add(dataURI);
                                 }
                             } catch (PluginException e) {
                                 logger.handle(Priority.PROBLEM,
@@ -342,11 +436,15 @@ public abstract class PluginDao extends CoreDao {
                         } else {
                             throw e;
                         }
+                    } finally {
+                        persistTimes.add(strategy, subList.size(),
+                                System.nanoTime() - start);
                     }
                 }
                 if (constraintViolation) {
                     // Third attempt will commit each pdo individually.
                     subDuplicates.clear();
+                    long start = System.nanoTime();
                     for (PluginDataObject object : subList) {
                         if (object == null) {
                             continue;
@@ -410,6 +508,8 @@ public abstract class PluginDao extends CoreDao {
                                     e);
                         }
                     }
+                    persistTimes.add(PersistStrategy.SINGLE_COMMIT,
+                            subList.size(), System.nanoTime() - start);
                 }
                 if (subDuplicates.isEmpty()) {
                     noDupCommitCount += 1;
@@ -422,6 +522,7 @@ public abstract class PluginDao extends CoreDao {
                     noDupCommitCount / (noDupCommitCount + dupCommitCount));
         } finally {
             auditMetadataStorageStatus(persisted, duplicates, objects);
+            persistTimes.log(pdoClass, dupStat);
         }
 
         if (!duplicates.isEmpty()) {
@@ -498,6 +599,69 @@ public abstract class PluginDao extends CoreDao {
                 .processEvent(databaseOnlyAuditEvent);
     }
 
+    /**
+     * Look up the ids of any records in the database that have the same
+     * dataURI as one of the given records using a single query.
+     *
+     * @param session
+     *            the session to query with, any entities loaded by the query
+     *            are evicted before returning
+     * @param pdoClass
+     *            the type of the records
+     * @param pdos
+     *            the records to look up, may contain nulls
+     * @return a mutable map of dataURI to id for the records that exist
+     * @throws PluginException
+     *             if the dataURI of a record cannot be determined
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Integer> queryExistingIds(Session session,
+            Class<? extends PluginDataObject> pdoClass,
+            List<PluginDataObject> pdos) throws PluginException {
+        Map<String, Integer> existingIds = new HashMap<>();
+        Criteria criteria = session.createCriteria(pdoClass);
+        if (hasDataUriColumn(pdoClass)) {
+            Set<String> dataURIs = new HashSet<>();
+            for (PluginDataObject pdo : pdos) {
+                if (pdo != null) {
+                    dataURIs.add(pdo.getDataURI());
+                }
+            }
+            if (dataURIs.isEmpty()) {
+                return existingIds;
+            }
+            criteria.add(
+                    Restrictions.in(PluginDataObject.DATAURI_ID, dataURIs));
+            criteria.setProjection(Projections.projectionList()
+                    .add(Projections.id())
+                    .add(Projections.property(PluginDataObject.DATAURI_ID)));
+            for (Object[] row : (List<Object[]>) criteria.list()) {
+                existingIds.put((String) row[1], (Integer) row[0]);
+            }
+        } else {
+            /*
+             * Without a dataURI column the existing records are loaded so
+             * their dataURI can be generated the same way as for the new
+             * records.
+             */
+            Disjunction anyRecord = Restrictions.disjunction();
+            for (PluginDataObject pdo : pdos) {
+                if (pdo != null) {
+                    anyRecord.add(createDatauriCriterion(pdo));
+                }
+            }
+            if (anyRecord.conditions().iterator().hasNext()) {
+                criteria.add(anyRecord);
+                for (PluginDataObject existing : (List<PluginDataObject>) criteria
+                        .list()) {
+                    existingIds.put(existing.getDataURI(), existing.getId());
+                    session.evict(existing);
+                }
+            }
+        }
+        return existingIds;
+    }
+
     private boolean hasDataUriColumn(Class<?> pdoClazz) {
         return getSessionFactory().getMetamodel().entity(pdoClazz)
                 .getAttributes().stream()
@@ -507,14 +671,20 @@ public abstract class PluginDao extends CoreDao {
 
     private void populateDatauriCriteria(Criteria criteria,
             PluginDataObject pdo) throws PluginException {
+        criteria.add(createDatauriCriterion(pdo));
+    }
+
+    private Criterion createDatauriCriterion(PluginDataObject pdo)
+            throws PluginException {
         Class<? extends PluginDataObject> pdoClazz = pdo.getClass();
 
         if (hasDataUriColumn(pdoClazz)) {
-            criteria.add(Restrictions.eq(PluginDataObject.DATAURI_ID,
-                    pdo.getDataURI()));
-            return;
+            return Restrictions.eq(PluginDataObject.DATAURI_ID,
+                    pdo.getDataURI());
         }
 
+        Conjunction criteria = Restrictions.conjunction();
+
         // This means dataURI is not a column.
         for (Entry<String, Object> uriEntry : DataURIUtil.createDataURIMap(pdo)
                 .entrySet()) {
@@ -540,6 +710,7 @@ public abstract class PluginDao extends CoreDao {
                 criteria.add(Restrictions.eq(key, value));
             }
         }
+        return criteria;
     }
 
     /**
@@ -929,8 +1100,11 @@ public abstract class PluginDao extends CoreDao {
                 // Iterate through keys, fully purge each key set
                 String[][] distinctKeys = getDistinctProductKeyValues(
                         ruleSet.getKeys());
-                for (String[] key : distinctKeys) {
-                    RuleResult res = purgeExpiredKey(ruleSet, key);
+                Map<String[], RuleResult> results = purgeExpiredKeys(ruleSet,
+                        distinctKeys);
+                for (Entry<String[], RuleResult> entry : results.entrySet()) {
+                    String[] key = entry.getKey();
+                    RuleResult res = entry.getValue();
                     timesKept.put(Arrays.toString(key), res.timesKept);
                     timesPurged.put(Arrays.toString(key), res.timesPurged);
                     totalItems += res.itemsDeletedForKey;
@@ -958,6 +1132,61 @@ public abstract class PluginDao extends CoreDao {
         }
     }
 
+    /**
+     * Apply the purge rules to each of the keys, using up to
+     * {@link #PURGE_KEY_THREADS} threads. The keys share the rules of the rule
+     * set so purging a key must not modify a rule.
+     *
+     * @param ruleSet
+     * @param keys
+     * @return Summary of purge for each key, in the same order as keys
+     * @throws DataAccessLayerException
+     */
+    protected Map<String[], RuleResult> purgeExpiredKeys(PurgeRuleSet ruleSet,
+            String[][] keys) throws DataAccessLayerException {
+        Map<String[], RuleResult> results = new LinkedHashMap<>(keys.length);
+        int threads = Math.min(PURGE_KEY_THREADS, keys.length);
+        if (threads <= 1) {
+            for (String[] key : keys) {
+                results.put(key, purgeExpiredKey(ruleSet, key));
+            }
+            return results;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                r -> new Thread(r, "purge-" + pluginName + "-"
+                        + threadCount.incrementAndGet()));
+        try {
+            Map<String[], Future<RuleResult>> futures = new LinkedHashMap<>(
+                    keys.length);
+            for (String[] key : keys) {
+                futures.put(key,
+                        executor.submit(() -> purgeExpiredKey(ruleSet, key)));
+            }
+            for (Entry<String[], Future<RuleResult>> entry : futures
+                    .entrySet()) {
+                results.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessLayerException(
+                    "Interrupted while purging " + pluginName, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataAccessLayerException) {
+                throw (DataAccessLayerException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DataAccessLayerException(
+                    "Error purging " + pluginName, cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
     /**
      * Takes the purgeKeys, looks up the associated purge rule, and applies it
      * to the data matched by purgeKeys.
@@ -1010,7 +1239,11 @@ public abstract class PluginDao extends CoreDao {
                 return new RuleResult(Collections.<Date> emptySet(),
                         Collections.<Date> emptySet(), 0);
             }
-            rule.setModTimeToWaitApplied(false);
+            /*
+             * The rules are shared by keys purged on other threads, so the
+             * rule's own modTimeToWaitApplied flag is not used.
+             */
+            boolean modTimeToWaitApplied = false;
             // Holds the times kept by this rule
             List<Date> timesKeptByRule = new ArrayList<>();
 
@@ -1026,8 +1259,8 @@ public abstract class PluginDao extends CoreDao {
                     long currentTime = System.currentTimeMillis();
                     if (currentTime - lastInsertTime < rule
                             .getModTimeToWaitInMillis()
-                            && !rule.isModTimeToWaitApplied()) {
-                        rule.setModTimeToWaitApplied(true);
+                            && !modTimeToWaitApplied) {
+                        modTimeToWaitApplied = true;
                         PurgeLogger.logInfo("For product key, "
                                 + productKeyString
                                 + ", the most recent version is less than "
@@ -1087,7 +1320,8 @@ public abstract class PluginDao extends CoreDao {
                                  */
                                 if (rule.isRoundSpecified()) {
                                     if (roundedTimes.size() < rule
-                                            .getVersionsToKeep()) {
+                                            .getVersionsToKeep(
+                                                    modTimeToWaitApplied)) {
                                         roundedTimes.add(timeToCompare);
                                         timesKeptByRule.add(refTime);
                                     } else {
@@ -1095,7 +1329,8 @@ public abstract class PluginDao extends CoreDao {
                                     }
                                 } else {
                                     if (timesKeptByRule.size() < rule
-                                            .getVersionsToKeep()) {
+                                            .getVersionsToKeep(
+                                                    modTimeToWaitApplied)) {
                                         if (rule.isPeriodSpecified() && refTime
                                                 .before(periodCutoffTime)) {
                                             timesPurgedByRule.add(refTime);
@@ -1125,7 +1360,7 @@ public abstract class PluginDao extends CoreDao {
                 for (int i = 0; i < refTimesForKey.size(); i++) {
                     currentRefTime = refTimesForKey.get(i);
                     // allow for period to override versions to keep
-                    if ((i >= rule.getVersionsToKeep())
+                    if ((i >= rule.getVersionsToKeep(modTimeToWaitApplied))
                             || (rule.isPeriodSpecified() && currentRefTime
                                     .before(periodCutoffTime))) {
                         timesPurgedByRule.add(currentRefTime);
@@ -1675,6 +1910,12 @@ public abstract class PluginDao extends CoreDao {
             }
         }
 
+        if (isBulkPurgeSupported()) {
+            return bulkPurgeDataByRefTime(dataQuery,
+                    trackHdf5 && hdf5FileToUriPurged != null, trackToUri,
+                    hdf5FileToUriPurged);
+        }
+
         List<PluginDataObject> pdos = null;
 
         dataQuery.setMaxResults(500);
@@ -1696,6 +1937,113 @@ public abstract class PluginDao extends CoreDao {
         return results;
     }
 
+    /**
+     * Delete the records matching a query in batches of
+     * {@link #PURGE_BATCH_SIZE}, using one delete statement per batch. When
+     * hdf5 is not tracked only the ids of the records are loaded.
+     *
+     * @see #purgeDataByRefTime(Date, Map, boolean, boolean, Map)
+     */
+    @SuppressWarnings("unchecked")
+    protected int bulkPurgeDataByRefTime(DatabaseQuery dataQuery,
+            boolean trackHdf5, boolean trackToUri,
+            Map<String, List<String>> hdf5FileToUriPurged)
+            throws DataAccessLayerException {
+        if (!trackHdf5) {
+            dataQuery.addReturnedField("id");
+        }
+        dataQuery.setMaxResults(PURGE_BATCH_SIZE);
+        String deleteStmt = "delete from " + daoClass.getName()
+                + " where id in (:ids)";
+
+        int results = 0;
+        List<?> batch = null;
+        do {
+            batch = this.queryByCriteria(dataQuery);
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            List<Object> ids = new ArrayList<>(batch.size());
+            if (trackHdf5) {
+                for (PluginDataObject pdo : (List<PluginDataObject>) batch) {
+                    ids.add(pdo.getId());
+                }
+            } else {
+                ids.addAll(batch);
+            }
+            int deleted = executeHQLStatement(deleteStmt,
+                    Collections.singletonMap("ids", ids));
+            if (trackHdf5) {
+                purgeHdf5ForPdos(trackToUri, hdf5FileToUriPurged,
+                        (List<PluginDataObject>) batch);
+            }
+            results += deleted;
+            if (deleted == 0) {
+                /* Should not happen, but never loop forever. */
+                break;
+            }
+        } while (batch.size() >= PURGE_BATCH_SIZE);
+
+        return results;
+    }
+
+    /**
+     * Determine whether records can be purged with bulk delete statements.
+     * Bulk deletes bypass the session so they are only used when the plugin
+     * does not override {@link #delete(List)} and the record type has no
+     * collections or associations that cascade deletes, which would otherwise
+     * be removed by hibernate.
+     *
+     * @return true if {@link #bulkPurgeDataByRefTime} can be used
+     */
+    protected boolean isBulkPurgeSupported() {
+        Boolean supported = bulkPurgeSupported;
+        if (supported == null) {
+            supported = BULK_PURGE && daoClass != null && !overridesDelete()
+                    && !hasDeleteCascades();
+            bulkPurgeSupported = supported;
+        }
+        return supported;
+    }
+
+    private boolean overridesDelete() {
+        try {
+            return getClass().getMethod("delete", List.class)
+                    .getDeclaringClass() != PluginDao.class
+                    || getClass().getMethod("deleteAll", List.class)
+                            .getDeclaringClass() != CoreDao.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private boolean hasDeleteCascades() {
+        try {
+            MetamodelImplementor metamodel = getSessionFactory()
+                    .unwrap(SessionFactoryImplementor.class).getMetamodel();
+            EntityPersister persister = metamodel.entityPersister(daoClass);
+            for (Object entityName : persister.getEntityMetamodel()
+                    .getSubclassEntityNames()) {
+                EntityPersister subPersister = metamodel
+                        .entityPersister((String) entityName);
+                if (subPersister.hasCollections()) {
+                    return true;
+                }
+                for (CascadeStyle style : subPersister
+                        .getPropertyCascadeStyles()) {
+                    if (style.doCascade(CascadingActions.DELETE)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (RuntimeException e) {
+            logger.warn("Unable to inspect the mapping of " + daoClass
+                    + ", records will be purged individually", e);
+            return true;
+        }
+    }
+
     /**
      * Purge HDF5 data for a list of PDOs. Extracted as is from
      * {@link #purgeDataByRefTime} so it can be reused.
@@ -2159,10 +2507,42 @@ public abstract class PluginDao extends CoreDao {
 
         protected int total = 0;
 
+        protected final Map<PersistStrategy, LongAdder> strategyRecords = new EnumMap<>(
+                PersistStrategy.class);
+
+        protected final Map<PersistStrategy, LongAdder> strategyNanos = new EnumMap<>(
+                PersistStrategy.class);
+
+        protected DuplicateCheckStat() {
+            for (PersistStrategy strategy : PersistStrategy.values()) {
+                strategyRecords.put(strategy, new LongAdder());
+                strategyNanos.put(strategy, new LongAdder());
+            }
+        }
+
         protected boolean isDuplicateCheck() {
             return duplicateCheck;
         }
 
+        protected void addStrategyTime(PersistStrategy strategy, int records,
+                long nanos) {
+            strategyRecords.get(strategy).add(records);
+            strategyNanos.get(strategy).add(nanos);
+        }
+
+        /**
+         * @return the cumulative ingest rate of the strategy in records per
+         *         second, or NaN if it has not been used
+         */
+        protected double getRecordsPerSecond(PersistStrategy strategy) {
+            long nanos = strategyNanos.get(strategy).sum();
+            if (nanos == 0) {
+                return Double.NaN;
+            }
+            return strategyRecords.get(strategy).sum()
+                    * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+        }
+
         protected void updateRate(float rate) {
             cumulativeRate = (rate + cumulativeRate * total) / (total + 1);
             duplicateCheck = cumulativeRate < DUPLICATE_CHECK_THRESHOLD;
@@ -2172,4 +2552,56 @@ public abstract class PluginDao extends CoreDao {
             }
         }
     }
+
+    /**
+     * The ways persistToDatabase may write a batch of records, in the order
+     * they are attempted.
+     */
+    protected enum PersistStrategy {
+        /** Save everything assuming there are no duplicates */
+        NO_CHECK,
+        /** Look up existing ids for the whole batch in one query */
+        BULK_CHECK,
+        /** Look up the existing id of each record individually */
+        RECORD_CHECK,
+        /** Look up and commit each record individually */
+        SINGLE_COMMIT
+    }
+
+    /**
+     * Time spent in each {@link PersistStrategy} during a single call to
+     * persistToDatabase.
+     */
+    protected class PersistTimes {
+
+        private final Map<PersistStrategy, long[]> times = new EnumMap<>(
+                PersistStrategy.class);
+
+        protected void add(PersistStrategy strategy, int records,
+                long nanos) {
+            long[] time = times.computeIfAbsent(strategy, k -> new long[2]);
+            time[0] += records;
+            time[1] += nanos;
+        }
+
+        /**
+         * Add these times to the cumulative statistics and, when debug is
+         * enabled, log them along with the cumulative rate of each strategy.
+         */
+        protected void log(Class<?> pdoClass, DuplicateCheckStat dupStat) {
+            boolean debug = logger.isPriorityEnabled(Priority.DEBUG);
+            for (Entry<PersistStrategy, long[]> entry : times.entrySet()) {
+                PersistStrategy strategy = entry.getKey();
+                long[] time = entry.getValue();
+                dupStat.addStrategyTime(strategy, (int) time[0], time[1]);
+                if (debug) {
+                    logger.debug(String.format(
+                            "Persisted %d %s with %s in %dms (%.1f records/s overall)",
+                            time[0], pdoClass.getSimpleName(), strategy,
+                            TimeUnit.NANOSECONDS.toMillis(time[1]),
+                            dupStat.getRecordsPerSecond(strategy)));
+                }
+            }
+        }
+    }
 }
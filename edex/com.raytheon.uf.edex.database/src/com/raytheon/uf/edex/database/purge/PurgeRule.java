@@ -59,6 +59,8 @@ import com.raytheon.uf.common.time.util.TimeUtil;
  * Apr 14, 2017 6003        tgurney     Add modTimeToWaitApplied flag
  * Mar 08, 2018 6961        tgurney     versionsToKeep allow null and negative
  *                                      values, change meaning of 0
+ * Oct 17, 2026             agent       Add getVersionsToKeep(boolean) so the
+ *                                      rule can be shared by concurrent purges
  *
  * </pre>
  *
@@ -667,6 +669,19 @@ public class PurgeRule {
      * @return the versionsToKeep
      */
     public int getVersionsToKeep() {
+        return getVersionsToKeep(modTimeToWaitApplied);
+    }
+
+    /**
+     * Get the versions to keep without using the modTimeToWaitApplied flag of
+     * this rule, for callers that share the rule across threads.
+     *
+     * @param modTimeToWaitApplied
+     *            true if the most recent version is newer than the mod time to
+     *            wait
+     * @return the versionsToKeep
+     */
+    public int getVersionsToKeep(boolean modTimeToWaitApplied) {
         if (modTimeToWaitApplied && versionsToKeep != null
                 && isPurgeEnabled()) {
             return versionsToKeep + 1;
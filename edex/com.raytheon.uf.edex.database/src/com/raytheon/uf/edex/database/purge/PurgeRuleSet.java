@@ -46,6 +46,7 @@ import com.raytheon.uf.common.serialization.SingleTypeJAXBManager;
  * Feb 15, 2011  2469     bphillip    Initial creation
  * Apr 22, 2014  2946     bsteffen    Remove ISerializableObject, add jaxbManager
  * Jul 21, 2014  3373     bclement    JAXB manager API changes
+ * Oct 17, 2026           agent       Build the purge tree thread safely
  * 
  * </pre>
  * 
@@ -71,7 +72,7 @@ public class PurgeRuleSet {
     @XmlElements({ @XmlElement(name = "rule", type = PurgeRule.class) })
     private List<PurgeRule> rules;
 
-    private PurgeRuleTree purgeTree = null;
+    private volatile PurgeRuleTree purgeTree = null;
 
     public PurgeRuleSet() {
     }
@@ -134,10 +135,17 @@ public class PurgeRuleSet {
      * @return
      */
     public List<PurgeRule> getRuleForKeys(final String[] keyValues) {
-        if (purgeTree == null) {
-            purgeTree = new PurgeRuleTree(this);
+        PurgeRuleTree tree = purgeTree;
+        if (tree == null) {
+            synchronized (this) {
+                tree = purgeTree;
+                if (tree == null) {
+                    tree = new PurgeRuleTree(this);
+                    purgeTree = tree;
+                }
+            }
         }
 
-        return purgeTree.getRulesForKeys(keyValues);
+        return tree.getRulesForKeys(keyValues);
     }
 }
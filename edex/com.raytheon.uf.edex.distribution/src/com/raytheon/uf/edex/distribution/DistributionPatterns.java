@@ -20,11 +20,11 @@
 package com.raytheon.uf.edex.distribution;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -43,6 +43,7 @@ import com.raytheon.uf.common.localization.PathManagerFactory;
 import com.raytheon.uf.common.serialization.SingleTypeJAXBManager;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.status.UFStatus.Priority;
 
 /**
  * Container for the various Distribution patterns used by plugins.
@@ -60,6 +61,8 @@ import com.raytheon.uf.common.status.UFStatus;
  * Apr 14, 2016 5450       nabowle     Enable auxiliary files that specify a
  *                                     plugin within the RequestPatterns.
  * Jul 15, 2016 5744       mapeters    Added todo in getDistributionFiles()
+ * Oct 17, 2026            agent       Match headers against all plugins at
+ *                                     once with a HeaderMatcher.
  * 
  * </pre>
  * 
@@ -91,6 +94,14 @@ public class DistributionPatterns {
     /** Map of filenames to their plugin. */
     private final ConcurrentMap<String, String> filePlugin = new ConcurrentHashMap<>();
 
+    /** The number of headers to remember the matching plugins for. */
+    private final int matchCacheSize = Integer
+            .getInteger("distribution.match.cache.size", 10_000);
+
+    /** Matches all the patterns, replaced whenever the patterns change. */
+    private volatile HeaderMatcher matcher = new HeaderMatcher(
+            Collections.emptyMap(), 0);
+
     /**
      * Returns the singleton instance.
      * 
@@ -234,6 +245,13 @@ public class DistributionPatterns {
                 mergedEntry.getValue().compilePatterns();
                 this.patterns.put(mergedEntry.getKey(), mergedEntry.getValue());
             }
+            HeaderMatcher oldMatcher = matcher;
+            matcher = new HeaderMatcher(new HashMap<>(patterns),
+                    matchCacheSize);
+            if (statusHandler.isPriorityEnabled(Priority.DEBUG)) {
+                statusHandler.debug("Distribution patterns before reload: "
+                        + oldMatcher.getStatistics());
+            }
         }
 
         checkForPluginsMissingPatterns();
@@ -261,15 +279,7 @@ public class DistributionPatterns {
      * @return
      */
     public List<String> getMatchingPlugins(String header) {
-        List<String> plugins = new LinkedList<>();
-
-        for (Map.Entry<String, RequestPatterns> entry : patterns.entrySet()) {
-            if (entry.getValue().isDesiredHeader(header)) {
-                plugins.add(entry.getKey());
-            }
-        }
-
-        return plugins;
+        return new ArrayList<>(matcher.getMatchingPlugins(header));
     }
 
     /**
@@ -281,20 +291,37 @@ public class DistributionPatterns {
      */
     public List<String> getMatchingPlugins(String header,
             Collection<String> pluginsToCheck) {
-        List<String> plugins = new LinkedList<>();
+        List<String> plugins = new ArrayList<>();
+        Set<String> matches = matcher.getMatchingPlugins(header);
 
         for (String plugin : pluginsToCheck) {
-            RequestPatterns pattern = patterns.get(plugin);
-            if (pattern == null || pattern.noPossibleMatch()) {
-                pluginsMissingPatterns.add(plugin);
-            } else if (pattern.isDesiredHeader(header)) {
+            if (matches.contains(plugin)) {
                 plugins.add(plugin);
+            } else if (!hasPatternsForPlugin(plugin)) {
+                pluginsMissingPatterns.add(plugin);
             }
         }
 
         return plugins;
     }
 
+    /**
+     * @return the number of headers matched by each pattern, keyed by plugin
+     *         and then by pattern, exclusion patterns are prefixed with
+     *         "exclude:"
+     */
+    public Map<String, Map<String, Long>> getPatternHitCounts() {
+        return matcher.getPatternHitCounts();
+    }
+
+    /**
+     * @return a summary of the number of headers matched and the time spent
+     *         matching them since the patterns were last reloaded.
+     */
+    public String getMatchStatistics() {
+        return matcher.getStatistics();
+    }
+
     /**
      * check if there have been requests for distribution patterns for plugins
      * that don't have valid patterns. Logs an error message if any are found.
@@ -0,0 +1,323 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.distribution;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Matches a header against the patterns of every plugin at once. Patterns that
+ * are anchored to the start of the header with a literal prefix, which is most
+ * WMO header patterns, are indexed in a prefix trie so only the patterns whose
+ * prefix matches the header are evaluated. Patterns without a literal prefix
+ * are always evaluated. The result for each header is remembered in a bounded
+ * cache, a new matcher must be created whenever the patterns change.
+ * 
+ * The result is the same as calling {@link RequestPatterns#isDesiredHeader}
+ * for each plugin, including the order the patterns of a plugin are evaluated
+ * in so the hit counts show which pattern routed the data.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * 
+ * </pre>
+ * 
+ * @author agent
+ */
+class HeaderMatcher {
+
+    private static final String REGEX_META_CHARS = "\\[](){}.*+?^$|";
+
+    /** A compiled pattern and the number of headers it has matched. */
+    private static class IndexedPattern {
+
+        private final String plugin;
+
+        private final Pattern pattern;
+
+        private final boolean exclusion;
+
+        private final LongAdder hits = new LongAdder();
+
+        public IndexedPattern(String plugin, Pattern pattern,
+                boolean exclusion) {
+            this.plugin = plugin;
+            this.pattern = pattern;
+            this.exclusion = exclusion;
+        }
+    }
+
+    /**
+     * The range of pattern indices belonging to a single plugin, exclusion
+     * patterns come first.
+     */
+    private static class PluginRange {
+
+        private final String plugin;
+
+        private final int start;
+
+        private final int inclusionStart;
+
+        private final int end;
+
+        public PluginRange(String plugin, int start, int inclusionStart,
+                int end) {
+            this.plugin = plugin;
+            this.start = start;
+            this.inclusionStart = inclusionStart;
+            this.end = end;
+        }
+    }
+
+    private static class TrieNode {
+
+        private final Map<Character, TrieNode> children = new HashMap<>(4);
+
+        private final BitSet patterns = new BitSet();
+    }
+
+    private final List<IndexedPattern> indexedPatterns = new ArrayList<>();
+
+    private final List<PluginRange> plugins = new ArrayList<>();
+
+    private final TrieNode root = new TrieNode();
+
+    /** Patterns that must always be evaluated. */
+    private final BitSet unindexed = new BitSet();
+
+    private final int cacheSize;
+
+    private final ConcurrentMap<String, Set<String>> cache;
+
+    private final LongAdder lookups = new LongAdder();
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    private final LongAdder patternsEvaluated = new LongAdder();
+
+    private final LongAdder matchNanos = new LongAdder();
+
+    /**
+     * @param patterns
+     *            compiled patterns for each plugin
+     * @param cacheSize
+     *            the maximum number of headers to remember the result for, 0
+     *            to disable the cache
+     */
+    public HeaderMatcher(Map<String, RequestPatterns> patterns,
+            int cacheSize) {
+        for (Entry<String, RequestPatterns> entry : patterns.entrySet()) {
+            RequestPatterns requestPatterns = entry.getValue();
+            if (requestPatterns.noPossibleMatch()) {
+                continue;
+            }
+            String plugin = entry.getKey();
+            int start = indexedPatterns.size();
+            for (Pattern pattern : requestPatterns
+                    .getCompiledExclusionPatterns()) {
+                add(new IndexedPattern(plugin, pattern, true));
+            }
+            int inclusionStart = indexedPatterns.size();
+            for (Pattern pattern : requestPatterns.getCompiledPatterns()) {
+                add(new IndexedPattern(plugin, pattern, false));
+            }
+            plugins.add(new PluginRange(plugin, start, inclusionStart,
+                    indexedPatterns.size()));
+        }
+        this.cacheSize = cacheSize;
+        if (cacheSize > 0) {
+            this.cache = new ConcurrentHashMap<>();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    private void add(IndexedPattern pattern) {
+        int index = indexedPatterns.size();
+        indexedPatterns.add(pattern);
+        String prefix = getLiteralPrefix(pattern.pattern.pattern());
+        if (prefix.isEmpty()) {
+            unindexed.set(index);
+        } else {
+            TrieNode node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i),
+                        k -> new TrieNode());
+            }
+            node.patterns.set(index);
+        }
+    }
+
+    /**
+     * Find the literal text that any header matching the regex must start
+     * with.
+     * 
+     * @return the prefix, or an empty string if the regex is not anchored to
+     *         the start or does not start with literal text.
+     */
+    protected static String getLiteralPrefix(String regex) {
+        if (!regex.startsWith("^") || regex.indexOf('|') >= 0) {
+            /* Alternation could allow a match without the prefix. */
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 1; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (REGEX_META_CHARS.indexOf(c) >= 0) {
+                if ((c == '?' || c == '*' || c == '{') && prefix.length() > 0) {
+                    /* The previous character is optional. */
+                    prefix.setLength(prefix.length() - 1);
+                }
+                break;
+            }
+            prefix.append(c);
+        }
+        return prefix.toString();
+    }
+
+    /**
+     * @return the names of all the plugins with a pattern that matches the
+     *         header and no exclusion pattern that matches it.
+     */
+    public Set<String> getMatchingPlugins(String header) {
+        lookups.increment();
+        if (cache != null) {
+            Set<String> result = cache.get(header);
+            if (result != null) {
+                cacheHits.increment();
+                return result;
+            }
+        }
+        long start = System.nanoTime();
+        BitSet candidates = (BitSet) unindexed.clone();
+        TrieNode node = root;
+        for (int i = 0; i < header.length(); i++) {
+            node = node.children.get(header.charAt(i));
+            if (node == null) {
+                break;
+            }
+            candidates.or(node.patterns);
+        }
+
+        Set<String> result = new HashSet<>();
+        int evaluated = 0;
+        for (PluginRange range : plugins) {
+            boolean excluded = false;
+            for (int i = candidates.nextSetBit(range.start); i >= 0
+                    && i < range.inclusionStart; i = candidates
+                            .nextSetBit(i + 1)) {
+                evaluated += 1;
+                if (find(indexedPatterns.get(i), header)) {
+                    excluded = true;
+                    break;
+                }
+            }
+            if (excluded) {
+                continue;
+            }
+            for (int i = candidates.nextSetBit(range.inclusionStart); i >= 0
+                    && i < range.end; i = candidates.nextSetBit(i + 1)) {
+                evaluated += 1;
+                if (find(indexedPatterns.get(i), header)) {
+                    result.add(range.plugin);
+                    break;
+                }
+            }
+        }
+        result = Collections.unmodifiableSet(result);
+        patternsEvaluated.add(evaluated);
+        matchNanos.add(System.nanoTime() - start);
+
+        if (cache != null) {
+            if (cache.size() >= cacheSize) {
+                /*
+                 * Headers usually contain a timestamp so old entries are
+                 * rarely useful, starting over is cheaper than tracking use.
+                 */
+                cache.clear();
+            }
+            cache.put(header, result);
+        }
+        return result;
+    }
+
+    private static boolean find(IndexedPattern pattern, String header) {
+        if (pattern.pattern.matcher(header).find()) {
+            pattern.hits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of headers routed by each pattern, keyed by plugin and
+     *         then by pattern, exclusion patterns are prefixed with "exclude:"
+     */
+    public Map<String, Map<String, Long>> getPatternHitCounts() {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        for (IndexedPattern pattern : indexedPatterns) {
+            String key = pattern.pattern.pattern();
+            if (pattern.exclusion) {
+                key = "exclude:" + key;
+            }
+            result.computeIfAbsent(pattern.plugin, k -> new LinkedHashMap<>())
+                    .merge(key, pattern.hits.sum(), Long::sum);
+        }
+        return result;
+    }
+
+    /**
+     * @return a summary of the number of lookups and the time spent matching.
+     */
+    public String getStatistics() {
+        long lookupCount = lookups.sum();
+        long hitCount = cacheHits.sum();
+        long matched = lookupCount - hitCount;
+        StringBuilder stats = new StringBuilder();
+        stats.append(lookupCount).append(" header lookups, ");
+        stats.append(hitCount).append(" from cache");
+        if (matched > 0) {
+            stats.append(", ").append(patternsEvaluated.sum() / matched)
+                    .append(" of ").append(indexedPatterns.size())
+                    .append(" patterns and ")
+                    .append(matchNanos.sum() / matched / 1000)
+                    .append("us per uncached header");
+        }
+        return stats.toString();
+    }
+}
@@ -55,6 +55,8 @@ import org.slf4j.LoggerFactory;
  * May 09, 2014 3151       bclement     added noPossibleMatch() removed ISerializableObject
  * Dec 11, 2015 5166       kbisanz      Update logging to use SLF4J
  * Apr 19, 2016 5450       nabowle      Add plugin attribute.
+ * Oct 17, 2026            agent        Expose compiled patterns to the
+ *                                      HeaderMatcher.
  * </pre>
  * 
  * @author brockwoo
@@ -178,6 +180,14 @@ public class RequestPatterns {
         return compiledPatterns;
     }
 
+    List<Pattern> getCompiledPatterns() {
+        return compiledPatterns;
+    }
+
+    List<Pattern> getCompiledExclusionPatterns() {
+        return compiledExclusionPatterns;
+    }
+
     /**
      * Takes a string and compares against the patterns in this container. The
      * first one that matches breaks the search and returns true.
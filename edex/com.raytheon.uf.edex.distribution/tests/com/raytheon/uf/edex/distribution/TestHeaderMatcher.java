@@ -0,0 +1,207 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.distribution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link HeaderMatcher}, the results are checked against
+ * {@link RequestPatterns#isDesiredHeader(String)} for each plugin, which is how
+ * headers were matched before the patterns were indexed.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class TestHeaderMatcher {
+
+    private static final String[] HEADER_PREFIXES = { "SXUS", "SXUS5", "SAUS",
+            "SAXX", "SDUS", "SDUS3", "UANT", "USUS", "FXUS", "FOUS", "TIPB",
+            "WWUS", "NOUS", "AB", "ZZZZ", "sxus", "" };
+
+    private static final String ALPHABET = "ABCDKNSTUWXZ0123456789 ";
+
+    private Map<String, RequestPatterns> patterns;
+
+    @Before
+    public void setUp() {
+        patterns = new LinkedHashMap<>();
+        addPlugin("obs", Arrays.asList("^SAUS.. KWBC", "^SAXX"),
+                Arrays.asList("^SAUS99"));
+        addPlugin("sfcobs", Arrays.asList("^S[IMN]V[^INS]", "^SXUS5?[0-9]"),
+                Arrays.asList());
+        addPlugin("radar", Arrays.asList("^SDUS[234578]", "^SDUS3?9 K"),
+                Arrays.asList("KWBC"));
+        addPlugin("bufrua", Arrays.asList("^U[ABDEFGHIJKLMNOPQRSTUXY]"),
+                Arrays.asList("^UANT01"));
+        addPlugin("text", Arrays.asList("^[FNW]", "^(FX|FO)US"),
+                Arrays.asList("^WWUS8[0-9]", "^NOUS4[12] KWBC"));
+        addPlugin("binlightning", Arrays.asList("^SFUS41 KWBC", "^SFPA41"),
+                Arrays.asList());
+        addPlugin("tipb", Arrays.asList("TIPB", "^TIPB*0", "^TI{2}"),
+                Arrays.asList());
+        addPlugin("alternation", Arrays.asList("^AB|^ZZ", "^ABC+D"),
+                Arrays.asList());
+        addPlugin("dot", Arrays.asList("^SX.S", "^\\QUSUS\\E"),
+                Arrays.asList("^SXUS5"));
+        addPlugin("empty", Arrays.asList(), Arrays.asList("^S"));
+    }
+
+    private void addPlugin(String plugin, List<String> regexes,
+            List<String> exclusions) {
+        RequestPatterns requestPatterns = new RequestPatterns();
+        requestPatterns.setPatterns(new ArrayList<>(regexes));
+        requestPatterns.setExclusionPatterns(new ArrayList<>(exclusions));
+        requestPatterns.compilePatterns();
+        patterns.put(plugin, requestPatterns);
+    }
+
+    private Set<String> getExpectedPlugins(String header) {
+        Set<String> expected = new HashSet<>();
+        for (Entry<String, RequestPatterns> entry : patterns.entrySet()) {
+            if (entry.getValue().isDesiredHeader(header)) {
+                expected.add(entry.getKey());
+            }
+        }
+        return expected;
+    }
+
+    private List<String> createHeaders() {
+        List<String> headers = new ArrayList<>(Arrays.asList("SAUS70 KWBC",
+                "SAUS99 KWBC 171200", "SAXX01 KOAX", "SIVA40 KWBC",
+                "SMVB01 KWBC", "SXUS50 KOAX", "SXUS5X KOAX", "SDUS54 KOAX",
+                "SDUS39 KOAX", "SDUS9 KOAX", "SDUS54 KWBC", "UANT01 KWBC",
+                "UANT02 KWBC", "UBUS01", "FXUS61 KOKX", "FOUS11 KWBC",
+                "WWUS81 KOKX", "WWUS40 KOKX", "NOUS41 KWBC", "NOUS41 KOKX",
+                "SFUS41 KWBC", "SFPA41 PHFO", "TIPB00", "TIP0", "TII",
+                "XXTIPB", "ABCCCD", "ABD", "ZZ", "USUS01", "SXAS01", "",
+                "sxus50 koax"));
+        Random random = new Random(0);
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder header = new StringBuilder(HEADER_PREFIXES[random
+                    .nextInt(HEADER_PREFIXES.length)]);
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                header.append(
+                        ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            headers.add(header.toString());
+        }
+        return headers;
+    }
+
+    private void assertMatchesEachPlugin(HeaderMatcher matcher) {
+        for (String header : createHeaders()) {
+            Set<String> expected = getExpectedPlugins(header);
+            assertEquals("Plugins for '" + header + "'", expected,
+                    matcher.getMatchingPlugins(header));
+            /* The second lookup may come from the cache. */
+            assertEquals("Plugins for '" + header + "'", expected,
+                    matcher.getMatchingPlugins(header));
+        }
+    }
+
+    @Test
+    public void testMatchesEachPluginWithoutCache() {
+        assertMatchesEachPlugin(new HeaderMatcher(patterns, 0));
+    }
+
+    @Test
+    public void testMatchesEachPluginWithCache() {
+        assertMatchesEachPlugin(new HeaderMatcher(patterns, 10_000));
+    }
+
+    @Test
+    public void testMatchesEachPluginWhenCacheIsFull() {
+        assertMatchesEachPlugin(new HeaderMatcher(patterns, 3));
+    }
+
+    @Test
+    public void testExclusionTakesPrecedence() {
+        HeaderMatcher matcher = new HeaderMatcher(patterns, 0);
+        assertTrue(matcher.getMatchingPlugins("SAUS70 KWBC").contains("obs"));
+        assertTrue(matcher.getMatchingPlugins("SAUS99 KWBC").isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("sfcobs", "dot")),
+                matcher.getMatchingPlugins("SXUS41 KOAX"));
+        assertEquals(new HashSet<>(Arrays.asList("sfcobs")),
+                matcher.getMatchingPlugins("SXUS50 KOAX"));
+    }
+
+    @Test
+    public void testHitCountsFirstMatchingPattern() {
+        HeaderMatcher matcher = new HeaderMatcher(patterns, 10_000);
+        matcher.getMatchingPlugins("FXUS61 KOKX");
+        matcher.getMatchingPlugins("FXUS61 KOKX");
+        matcher.getMatchingPlugins("WWUS81 KOKX");
+        Map<String, Long> textHits = matcher.getPatternHitCounts().get("text");
+        /* The second lookup comes from the cache so is not counted. */
+        assertEquals(Long.valueOf(1), textHits.get("^[FNW]"));
+        assertEquals(Long.valueOf(0), textHits.get("^(FX|FO)US"));
+        assertEquals(Long.valueOf(1), textHits.get("exclude:^WWUS8[0-9]"));
+        assertEquals(Long.valueOf(0),
+                textHits.get("exclude:^NOUS4[12] KWBC"));
+    }
+
+    @Test
+    public void testPluginWithoutPatternsIsSkipped() {
+        HeaderMatcher matcher = new HeaderMatcher(patterns, 0);
+        assertFalse(matcher.getPatternHitCounts().containsKey("empty"));
+    }
+
+    @Test
+    public void testLiteralPrefix() {
+        assertEquals("SXUS", HeaderMatcher.getLiteralPrefix("^SXUS"));
+        assertEquals("SXUS5", HeaderMatcher.getLiteralPrefix("^SXUS5[0-9]"));
+        assertEquals("SXU", HeaderMatcher.getLiteralPrefix("^SXUS?"));
+        assertEquals("SXU", HeaderMatcher.getLiteralPrefix("^SXUS*"));
+        assertEquals("SXU", HeaderMatcher.getLiteralPrefix("^SXUS{0,2}"));
+        assertEquals("SXUS", HeaderMatcher.getLiteralPrefix("^SXUS+"));
+        assertEquals("SX", HeaderMatcher.getLiteralPrefix("^SX.S"));
+        assertEquals("SD", HeaderMatcher.getLiteralPrefix("^SD(US)"));
+        assertEquals("", HeaderMatcher.getLiteralPrefix("^[FNW]"));
+        assertEquals("", HeaderMatcher.getLiteralPrefix("^\\QSXUS\\E"));
+        assertEquals("", HeaderMatcher.getLiteralPrefix("SXUS"));
+        assertEquals("", HeaderMatcher.getLiteralPrefix("^AB|^ZZ"));
+        assertEquals("", HeaderMatcher.getLiteralPrefix("(?i)^SXUS"));
+    }
+}
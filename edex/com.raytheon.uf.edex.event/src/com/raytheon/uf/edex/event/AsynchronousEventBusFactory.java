@@ -21,9 +21,7 @@ package com.raytheon.uf.edex.event;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.Executors;
 
-import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
@@ -41,6 +39,7 @@ import com.raytheon.uf.common.status.UFStatus;
  * ------------ ---------- ----------- --------------------------
  * Dec 11, 2012 1407       djohnson     Moved in from EventBus.
  * May 28, 2013 1650       djohnson     Add method to get all event buses.
+ * Oct 17, 2026            agent        Use a BoundedAsyncEventBus.
  * 
  * </pre>
  * 
@@ -56,6 +55,14 @@ class AsynchronousEventBusFactory implements GoogleEventBusFactory {
 
     private static final String EVENT_BUS_THREAD_COUNT_PROPERTY = "eventBusThreadCount";
 
+    private static final int DEFAULT_QUEUE_SIZE = 10_000;
+
+    private static final String EVENT_BUS_QUEUE_SIZE_PROPERTY = "eventBusQueueSize";
+
+    private static final long DEFAULT_PUBLISH_TIMEOUT = 100;
+
+    private static final String EVENT_BUS_PUBLISH_TIMEOUT_PROPERTY = "eventBusPublishTimeout";
+
     static final String EVENT_BUS_NAME = "EventBus";
 
     /**
@@ -73,8 +80,18 @@ class AsynchronousEventBusFactory implements GoogleEventBusFactory {
                             EVENT_BUS_THREAD_COUNT_PROPERTY, threadCount);
             statusHandler.error(logMessage, e);
         }
-        return Arrays.<EventBus> asList(new AsyncEventBus(EVENT_BUS_NAME,
-                Executors.newFixedThreadPool(threadCount)));
+        int queueSize = Integer.getInteger(EVENT_BUS_QUEUE_SIZE_PROPERTY,
+                DEFAULT_QUEUE_SIZE);
+        if (queueSize < 1) {
+            statusHandler.error("Invalid " + EVENT_BUS_QUEUE_SIZE_PROPERTY
+                    + " " + queueSize + "; defaulting size to "
+                    + DEFAULT_QUEUE_SIZE + ".");
+            queueSize = DEFAULT_QUEUE_SIZE;
+        }
+        long publishTimeout = Long.getLong(
+                EVENT_BUS_PUBLISH_TIMEOUT_PROPERTY, DEFAULT_PUBLISH_TIMEOUT);
+        return Arrays.<EventBus> asList(new BoundedAsyncEventBus(
+                EVENT_BUS_NAME, threadCount, queueSize, publishTimeout));
     }
 
 }
@@ -0,0 +1,299 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.event;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * Asynchronous {@link EventBus} that holds published events in a bounded queue
+ * for each type of event. Worker threads take turns between the types that
+ * have events waiting so a burst of one type does not delay the others, and
+ * deliver up to a batch of events of one type at a time. Each batch is also
+ * posted as an {@link EventBatch} when any subscriber accepts batches.
+ * 
+ * When the queue for a type is full, publishing waits for space for up to the
+ * publish timeout and then drops the event. Worker threads never wait, so
+ * subscribers that publish events cannot deadlock the bus.
+ * 
+ * Intentionally package-private as it should only be used within this package,
+ * and not part of the public API.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * 
+ * </pre>
+ * 
+ * @author agent
+ */
+class BoundedAsyncEventBus extends EventBus {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(BoundedAsyncEventBus.class);
+
+    /** Maximum number of events of one type delivered at a time */
+    private static final int BATCH_SIZE = 100;
+
+    private static final long DROP_LOG_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+    private final ConcurrentMap<Class<?>, TypeQueue> queues = new ConcurrentHashMap<>();
+
+    /** The queues with events waiting, each queue is in here at most once */
+    private final BlockingQueue<TypeQueue> ready = new LinkedBlockingQueue<>();
+
+    private final List<Thread> workers;
+
+    private final int queueSize;
+
+    private final long publishTimeoutNanos;
+
+    private final AtomicInteger batchSubscribers = new AtomicInteger();
+
+    /**
+     * @param identifier
+     *            the name of the bus, also used for the worker thread names
+     * @param threadCount
+     *            the number of threads delivering events
+     * @param queueSize
+     *            the maximum number of waiting events of each type
+     * @param publishTimeout
+     *            the milliseconds to wait for space when a queue is full
+     */
+    public BoundedAsyncEventBus(String identifier, int threadCount,
+            int queueSize, long publishTimeout) {
+        super(identifier);
+        this.queueSize = queueSize;
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS
+                .toNanos(publishTimeout);
+        this.workers = new ArrayList<>(threadCount);
+        for (int i = 1; i <= threadCount; i++) {
+            Thread worker = new Thread(this::deliverEvents,
+                    identifier + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queues the event to be delivered by a worker thread.
+     */
+    @Override
+    public void post(Object event) {
+        TypeQueue queue = queues.get(event.getClass());
+        if (queue == null) {
+            queue = queues.computeIfAbsent(event.getClass(), TypeQueue::new);
+        }
+        QueuedEvent queued = new QueuedEvent(event);
+        boolean accepted = queue.events.offer(queued);
+        if (!accepted && !workers.contains(Thread.currentThread())) {
+            try {
+                accepted = queue.events.offer(queued, publishTimeoutNanos,
+                        TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (accepted) {
+            queue.published.increment();
+            schedule(queue);
+        } else {
+            queue.dropped();
+        }
+    }
+
+    @Override
+    public void register(Object object) {
+        if (acceptsBatches(object)) {
+            batchSubscribers.incrementAndGet();
+        }
+        super.register(object);
+    }
+
+    @Override
+    public void unregister(Object object) {
+        super.unregister(object);
+        if (acceptsBatches(object)) {
+            batchSubscribers.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the state of the queue for each type of event that has been
+     *         published
+     */
+    public List<EventQueueStatistics> getQueueStatistics() {
+        List<EventQueueStatistics> stats = new ArrayList<>(queues.size());
+        for (TypeQueue queue : queues.values()) {
+            stats.add(queue.getStatistics());
+        }
+        return stats;
+    }
+
+    private void schedule(TypeQueue queue) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+            ready.add(queue);
+        }
+    }
+
+    private void deliverEvents() {
+        List<QueuedEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            TypeQueue queue;
+            try {
+                queue = ready.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.events.drainTo(batch, BATCH_SIZE);
+            /*
+             * Put the queue back at the end of the line before delivering so
+             * other workers can deliver the next batch of this type after the
+             * other waiting types get a turn.
+             */
+            if (!queue.events.isEmpty()) {
+                ready.add(queue);
+            } else {
+                queue.scheduled.set(false);
+                if (!queue.events.isEmpty()) {
+                    schedule(queue);
+                }
+            }
+            if (!batch.isEmpty()) {
+                deliver(queue, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(TypeQueue queue, List<QueuedEvent> batch) {
+        long now = System.nanoTime();
+        List<Object> events = new ArrayList<>(batch.size());
+        for (QueuedEvent queued : batch) {
+            queue.delivered(now - queued.time);
+            events.add(queued.event);
+        }
+        if (batchSubscribers.get() > 0) {
+            super.post(new EventBatch(queue.type, events));
+        }
+        for (Object event : events) {
+            super.post(event);
+        }
+    }
+
+    private static boolean acceptsBatches(Object subscriber) {
+        for (Class<?> c = subscriber.getClass(); c != null; c = c
+                .getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                Class<?>[] parameters = method.getParameterTypes();
+                if (method.isAnnotationPresent(Subscribe.class)
+                        && parameters.length == 1
+                        && parameters[0] == EventBatch.class) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static class QueuedEvent {
+
+        private final Object event;
+
+        private final long time = System.nanoTime();
+
+        public QueuedEvent(Object event) {
+            this.event = event;
+        }
+    }
+
+    private class TypeQueue {
+
+        private final Class<?> type;
+
+        private final BlockingQueue<QueuedEvent> events;
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private final LongAdder published = new LongAdder();
+
+        private final LongAdder delivered = new LongAdder();
+
+        private final LongAdder dropped = new LongAdder();
+
+        private final LongAdder totalLatency = new LongAdder();
+
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        private final AtomicLong lastDropLog = new AtomicLong();
+
+        public TypeQueue(Class<?> type) {
+            this.type = type;
+            this.events = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        public void delivered(long latency) {
+            delivered.increment();
+            totalLatency.add(latency);
+            long max = maxLatency.get();
+            while (latency > max && !maxLatency.compareAndSet(max, latency)) {
+                max = maxLatency.get();
+            }
+        }
+
+        public void dropped() {
+            dropped.increment();
+            long now = System.currentTimeMillis();
+            long last = lastDropLog.get();
+            if (now - last >= DROP_LOG_INTERVAL
+                    && lastDropLog.compareAndSet(last, now)) {
+                statusHandler.warn("Event queue is full, dropping events. "
+                        + getStatistics());
+            }
+        }
+
+        public EventQueueStatistics getStatistics() {
+            return new EventQueueStatistics(type.getName(), events.size(),
+                    published.sum(), delivered.sum(), dropped.sum(),
+                    totalLatency.sum(), maxLatency.get());
+        }
+    }
+}
@@ -19,10 +19,19 @@
  **/
 package com.raytheon.uf.edex.event;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.eventbus.EventBus;
 import com.raytheon.uf.common.event.Event;
 import com.raytheon.uf.common.event.IEventBusHandler;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
 
 /**
  * EDEX implementation of {@link IEventBusHandler}
@@ -38,6 +47,8 @@ import com.raytheon.uf.common.event.IEventBusHandler;
  * May 09, 2013  1989     njensen   Spring 3.1.4 compatibility
  * May 28, 2013  1650     djohnson  Simplify and extract out the general event
  *                                  bus handling for reuse.
+ * Oct 17, 2026           agent     Added getQueueStatistics()
+ * Oct 17, 2026           agent     Register the queue statistics with JMX
  * 
  * </pre>
  * 
@@ -46,7 +57,10 @@ import com.raytheon.uf.common.event.IEventBusHandler;
  */
 
 public class EdexEventBusHandler extends BaseEdexEventBusHandler<Event>
-        implements IEventBusHandler {
+        implements IEventBusHandler, EdexEventBusHandlerMXBean {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(EdexEventBusHandler.class);
 
     /**
      * Constructor specifying the event bus factory.
@@ -55,6 +69,13 @@ public class EdexEventBusHandler extends BaseEdexEventBusHandler<Event>
      */
     public EdexEventBusHandler() {
         this(new AsynchronousEventBusFactory());
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                    new ObjectName(
+                            "com.raytheon.uf.edex.event:type=EventBus"));
+        } catch (JMException e) {
+            statusHandler.warn("Unable to register event bus with JMX", e);
+        }
     }
 
     /**
@@ -76,4 +97,16 @@ public class EdexEventBusHandler extends BaseEdexEventBusHandler<Event>
             eventBus.post(event);
         }
     }
+
+    @Override
+    public List<EventQueueStatistics> getQueueStatistics() {
+        List<EventQueueStatistics> stats = new ArrayList<>();
+        for (EventBus eventBus : googleEventBuses) {
+            if (eventBus instanceof BoundedAsyncEventBus) {
+                stats.addAll(((BoundedAsyncEventBus) eventBus)
+                        .getQueueStatistics());
+            }
+        }
+        return stats;
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Posted on the event bus with the events of a single type that were delivered
+ * together. Subscribers that can handle many events at once more efficiently
+ * than one at a time can subscribe to this instead of the events. The events
+ * are also delivered individually to subscribers of the event type, so a
+ * subscriber of batches must not also subscribe to the event type or it will
+ * handle every event twice.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * 
+ * </pre>
+ * 
+ * @author agent
+ */
+public class EventBatch {
+
+    private final Class<?> eventType;
+
+    private final List<Object> events;
+
+    public EventBatch(Class<?> eventType, List<Object> events) {
+        this.eventType = eventType;
+        this.events = Collections.unmodifiableList(events);
+    }
+
+    /**
+     * @return the class of every event in the batch
+     */
+    public Class<?> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * @return the events in the order they were published
+     */
+    public List<Object> getEvents() {
+        return events;
+    }
+
+    /**
+     * Get the events if they are of a type.
+     * 
+     * @param type
+     * @return the events, or an empty list if the events are not of the type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getEvents(Class<T> type) {
+        if (type.isAssignableFrom(eventType)) {
+            return (List<T>) events;
+        }
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.event;
+
+/**
+ * Snapshot of the queue for one type of event in a
+ * {@link BoundedAsyncEventBus}.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * 
+ * </pre>
+ * 
+ * @author agent
+ */
+public class EventQueueStatistics {
+
+    private final String eventType;
+
+    private final int depth;
+
+    private final long published;
+
+    private final long delivered;
+
+    private final long dropped;
+
+    private final long totalLatencyNanos;
+
+    private final long maxLatencyNanos;
+
+    public EventQueueStatistics(String eventType, int depth, long published,
+            long delivered, long dropped, long totalLatencyNanos,
+            long maxLatencyNanos) {
+        this.eventType = eventType;
+        this.depth = depth;
+        this.published = published;
+        this.delivered = delivered;
+        this.dropped = dropped;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * @return the number of events waiting to be delivered
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return the number of events accepted into the queue
+     */
+    public long getPublished() {
+        return published;
+    }
+
+    /**
+     * @return the number of events delivered to subscribers
+     */
+    public long getDelivered() {
+        return delivered;
+    }
+
+    /**
+     * @return the number of events dropped because the queue was full
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return the average time in milliseconds events waited in the queue
+     */
+    public double getAverageLatencyMillis() {
+        return delivered > 0 ? totalLatencyNanos / 1_000_000.0 / delivered
+                : 0.0;
+    }
+
+    /**
+     * @return the longest time in milliseconds an event waited in the queue
+     */
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return eventType + ": depth=" + depth + ", published=" + published
+                + ", delivered=" + delivered + ", dropped=" + dropped
+                + ", latency avg="
+                + String.format("%.1f", getAverageLatencyMillis())
+                + "ms max=" + String.format("%.1f", getMaxLatencyMillis())
+                + "ms";
+    }
+}
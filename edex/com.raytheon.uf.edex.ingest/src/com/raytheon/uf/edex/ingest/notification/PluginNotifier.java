@@ -22,6 +22,7 @@ package com.raytheon.uf.edex.ingest.notification;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,12 +30,25 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
 import javax.xml.bind.JAXBException;
 
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
 import com.raytheon.uf.common.dataplugin.PluginException;
+import com.raytheon.uf.common.dataplugin.annotations.DataURIFieldMap;
 import com.raytheon.uf.common.dataplugin.annotations.DataURIUtil;
 import com.raytheon.uf.common.dataplugin.notify.PluginNotifierConfig;
 import com.raytheon.uf.common.dataplugin.notify.PluginNotifierConfig.EndpointType;
@@ -83,13 +97,17 @@ import com.raytheon.uf.edex.ingest.notification.router.PdoRouter;
  * May 22, 2017  6130     tjensen   Update notify to return the number of PDOs
  *                                  processed
  * Mar  4, 2021  8326     tgurney   Camel 3 method naming fix
+ * Oct 17, 2026           agent     Search large batches in parallel, send
+ *                                  queued data concurrently, route statistics
+ * Oct 17, 2026           agent     Register the route statistics with JMX
  *
  * </pre>
  *
  * @author mnash
  */
 
-public class PluginNotifier implements IContextStateProcessor {
+public class PluginNotifier
+        implements IContextStateProcessor, PluginNotifierMXBean {
     private static final String CONFIG_DIR = "notification";
 
     private static final IUFStatusHandler theHandler = UFStatus
@@ -100,6 +118,34 @@ public class PluginNotifier implements IContextStateProcessor {
 
     private static final int DEFAULT_TIME_TO_LIVE = 300_000;
 
+    /**
+     * The number of threads used to search the tree for large batches of pdos.
+     * A value of 1 searches on the calling thread only.
+     */
+    private static final int SEARCH_THREADS = Integer
+            .getInteger("notification.search.threads", 4);
+
+    /**
+     * The minimum number of pdos in a single notification before the tree
+     * search is split across threads.
+     */
+    private static final int PARALLEL_THRESHOLD = Integer
+            .getInteger("notification.parallel.threshold", 1000);
+
+    /**
+     * The number of threads used to send queued data to routes. A value of 1
+     * sends to each route in turn on the calling thread.
+     */
+    private static final int SEND_THREADS = Integer
+            .getInteger("notification.send.threads", 4);
+
+    /**
+     * The number of sends that can wait for a send thread, beyond this the
+     * calling thread sends the data itself.
+     */
+    private static final int SEND_QUEUE_SIZE = Integer
+            .getInteger("notification.send.queue.size", 64);
+
     /**
      * Decision tree for plugin notification.
      */
@@ -123,8 +169,38 @@ public class PluginNotifier implements IContextStateProcessor {
 
     private Map<String, Long> modifiedTimes = new HashMap<>();
 
+    private Map<INotificationRouter, RouteStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final ExecutorService searchExecutor;
+
+    private final ExecutorService sendExecutor;
+
     public PluginNotifier() throws JAXBException {
+        if (SEARCH_THREADS > 1) {
+            searchExecutor = Executors.newFixedThreadPool(SEARCH_THREADS - 1,
+                    new NamedThreadFactory("notification-search"));
+        } else {
+            searchExecutor = null;
+        }
+        if (SEND_THREADS > 1) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(SEND_THREADS,
+                    SEND_THREADS, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(SEND_QUEUE_SIZE),
+                    new NamedThreadFactory("notification-send"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            sendExecutor = executor;
+        } else {
+            sendExecutor = null;
+        }
         loadConfigurations();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                    new ObjectName(
+                            "com.raytheon.uf.edex.ingest:type=PluginNotifier"));
+        } catch (JMException e) {
+            theHandler.warn("Unable to register plugin notifier with JMX", e);
+        }
     }
 
     private void loadConfigurations() throws JAXBException {
@@ -286,6 +362,7 @@ public class PluginNotifier implements IContextStateProcessor {
             }
 
             loadedNames.add(config.getEndpointName());
+            statistics.put(router, new RouteStatistics(router));
         } finally {
             this.lock.writeLock().unlock();
         }
@@ -391,42 +468,34 @@ public class PluginNotifier implements IContextStateProcessor {
                     }
 
                     for (INotificationRouter router : receiveAllRoutes) {
-                        try {
-                            router.sendImmediateData();
-                        } catch (EdexException e) {
-                            theHandler.handle(Priority.PROBLEM,
-                                    "Unable to send notification data to "
-                                            + router.getRoute(),
-                                    e);
-                        }
+                        addProcessed(router, pdos.length);
+                        sendImmediateData(router);
                     }
                 }
 
                 if (!filteredRoutes.isEmpty()) {
-                    Set<INotificationRouter> routesWithData = new HashSet<>();
-                    for (PluginDataObject pdo : pdos) {
-                        try {
-                            List<INotificationRouter> routers = tree.searchTree(
-                                    DataURIUtil.createDataURIMap(pdo));
-                            for (INotificationRouter router : routers) {
-                                router.process(pdo);
-                                routesWithData.add(router);
+                    List<INotificationRouter>[] matches = searchTree(tree,
+                            pdos);
+                    Map<INotificationRouter, int[]> routesWithData = new HashMap<>();
+                    for (int i = 0; i < pdos.length; i += 1) {
+                        if (matches[i] == null) {
+                            continue;
+                        }
+                        for (INotificationRouter router : matches[i]) {
+                            router.process(pdos[i]);
+                            int[] count = routesWithData.get(router);
+                            if (count == null) {
+                                count = new int[1];
+                                routesWithData.put(router, count);
                             }
-                        } catch (PluginException e) {
-                            theHandler.handle(Priority.PROBLEM,
-                                    e.getLocalizedMessage(), e);
+                            count[0] += 1;
                         }
                     }
 
-                    for (INotificationRouter router : routesWithData) {
-                        try {
-                            router.sendImmediateData();
-                        } catch (EdexException e) {
-                            theHandler.handle(Priority.PROBLEM,
-                                    "Unable to send notification data to "
-                                            + router.getRoute(),
-                                    e);
-                        }
+                    for (Map.Entry<INotificationRouter, int[]> entry : routesWithData
+                            .entrySet()) {
+                        addProcessed(entry.getKey(), entry.getValue()[0]);
+                        sendImmediateData(entry.getKey());
                     }
                 }
                 timer.stop();
@@ -440,6 +509,118 @@ public class PluginNotifier implements IContextStateProcessor {
         return pdos.length;
     }
 
+    /**
+     * Find the routes for each pdo. Large batches are split across the search
+     * threads, the routes are not processed here since some routers depend on
+     * processing and sending on the same thread.
+     *
+     * @param tree
+     * @param pdos
+     * @return the routes for each pdo, null if the pdo could not be searched.
+     */
+    private List<INotificationRouter>[] searchTree(
+            DecisionTree<INotificationRouter> tree, PluginDataObject[] pdos) {
+        @SuppressWarnings("unchecked")
+        List<INotificationRouter>[] matches = new List[pdos.length];
+        if (searchExecutor == null || pdos.length < PARALLEL_THRESHOLD) {
+            searchTree(tree, pdos, matches, 0, pdos.length);
+            return matches;
+        }
+
+        int chunkSize = (pdos.length + SEARCH_THREADS - 1) / SEARCH_THREADS;
+        List<Future<?>> futures = new ArrayList<>(SEARCH_THREADS - 1);
+        for (int start = chunkSize; start < pdos.length; start += chunkSize) {
+            int chunkStart = start;
+            int chunkEnd = Math.min(start + chunkSize, pdos.length);
+            futures.add(searchExecutor.submit(() -> searchTree(tree, pdos,
+                    matches, chunkStart, chunkEnd)));
+        }
+        searchTree(tree, pdos, matches, 0, chunkSize);
+        waitFor(futures);
+        return matches;
+    }
+
+    private void searchTree(DecisionTree<INotificationRouter> tree,
+            PluginDataObject[] pdos, List<INotificationRouter>[] matches,
+            int start, int end) {
+        /* The values are replaced for each pdo of the same class */
+        DataURIFieldMap dataMap = null;
+        for (int i = start; i < end; i += 1) {
+            try {
+                dataMap = DataURIUtil.createDataURIFieldMap(pdos[i], dataMap);
+                matches[i] = tree.searchTree(dataMap);
+            } catch (PluginException e) {
+                theHandler.handle(Priority.PROBLEM, e.getLocalizedMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Wait for all the futures to complete, rethrowing any unchecked
+     * exception. The wait is not interruptible because the callers need the
+     * results, the interrupt status is restored before returning.
+     */
+    private static void waitFor(List<Future<?>> futures) {
+        boolean interrupted = false;
+        try {
+            for (Future<?> future : futures) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        } else if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw new IllegalStateException(cause);
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void addProcessed(INotificationRouter router, int count) {
+        RouteStatistics stats = statistics.get(router);
+        if (stats != null) {
+            stats.addProcessed(count);
+        }
+    }
+
+    private void sendImmediateData(INotificationRouter router) {
+        try {
+            router.sendImmediateData();
+        } catch (EdexException e) {
+            sendFailed(router, e);
+        }
+    }
+
+    private void sendQueuedData(INotificationRouter router) {
+        try {
+            router.sendQueuedData();
+        } catch (EdexException e) {
+            sendFailed(router, e);
+        }
+    }
+
+    private void sendFailed(INotificationRouter router, EdexException e) {
+        RouteStatistics stats = statistics.get(router);
+        if (stats != null) {
+            stats.failed();
+        }
+        theHandler.handle(Priority.PROBLEM,
+                "Unable to send notification data to " + router.getRoute(),
+                e);
+    }
+
     /**
      * Send the queued notifications.
      *
@@ -448,32 +629,42 @@ public class PluginNotifier implements IContextStateProcessor {
     public void sendQueuedNotifications() {
         lock.readLock().lock();
         try {
-            for (INotificationRouter router : receiveAllRoutes) {
-                try {
-                    router.sendQueuedData();
-                } catch (EdexException e) {
-                    theHandler.handle(Priority.PROBLEM,
-                            "Unable to send notification data to "
-                                    + router.getRoute(),
-                            e);
+            List<INotificationRouter> routers = new ArrayList<>(
+                    receiveAllRoutes.size() + filteredRoutes.size());
+            routers.addAll(receiveAllRoutes);
+            routers.addAll(filteredRoutes);
+
+            if (sendExecutor == null) {
+                for (INotificationRouter router : routers) {
+                    sendQueuedData(router);
                 }
-            }
-
-            for (INotificationRouter router : filteredRoutes) {
-                try {
-                    router.sendQueuedData();
-                } catch (EdexException e) {
-                    theHandler.handle(Priority.PROBLEM,
-                            "Unable to send notification data to "
-                                    + router.getRoute(),
-                            e);
+            } else {
+                /*
+                 * Each route encodes and sends its own message so a slow
+                 * destination does not hold up the others.
+                 */
+                List<Future<?>> futures = new ArrayList<>(routers.size());
+                for (INotificationRouter router : routers) {
+                    futures.add(
+                            sendExecutor.submit(() -> sendQueuedData(router)));
                 }
+                waitFor(futures);
             }
         } finally {
             lock.readLock().unlock();
         }
     }
 
+    @Override
+    public List<RouteStatistics> getRouteStatistics() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(statistics.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     public void preStart() {
         rebuildTree();
@@ -510,12 +701,14 @@ public class PluginNotifier implements IContextStateProcessor {
         List<INotificationRouter> filteredRoutesBak = filteredRoutes;
         Set<String> loadedNamesBak = loadedNames;
         Map<String, Long> modifiedTimesBak = modifiedTimes;
+        Map<INotificationRouter, RouteStatistics> statisticsBak = statistics;
         try {
             tree = new DecisionTree<>();
             receiveAllRoutes = new LinkedList<>();
             filteredRoutes = new LinkedList<>();
             loadedNames = new HashSet<>();
             modifiedTimes = new HashMap<>();
+            statistics = new ConcurrentHashMap<>();
 
             loadConfigurations();
 
@@ -532,6 +725,7 @@ public class PluginNotifier implements IContextStateProcessor {
             filteredRoutes = filteredRoutesBak;
             loadedNames = loadedNamesBak;
             modifiedTimes = modifiedTimesBak;
+            statistics = statisticsBak;
         } finally {
             lock.writeLock().unlock();
         }
@@ -575,4 +769,26 @@ public class PluginNotifier implements IContextStateProcessor {
         }
         return files;
     }
+
+    /**
+     * Creates daemon threads with a common name prefix.
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        public NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r,
+                    prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
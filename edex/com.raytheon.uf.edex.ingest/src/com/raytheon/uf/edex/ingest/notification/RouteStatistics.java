@@ -0,0 +1,105 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.ingest.notification;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.raytheon.uf.edex.ingest.notification.router.INotificationRouter;
+
+/**
+ * Throughput and backlog of a single notification route since the
+ * configurations were last loaded.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class RouteStatistics {
+
+    private final INotificationRouter router;
+
+    private final long startTime = System.currentTimeMillis();
+
+    private final LongAdder processed = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    public RouteStatistics(INotificationRouter router) {
+        this.router = router;
+    }
+
+    public String getRoute() {
+        return router.getRoute();
+    }
+
+    /**
+     * @return the number of pdos that have been routed to this route.
+     */
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    /**
+     * @return the average number of pdos routed to this route per second.
+     */
+    public double getProcessedPerSecond() {
+        long elapsed = System.currentTimeMillis() - startTime;
+        return elapsed > 0 ? processed.sum() * 1000.0 / elapsed : 0.0;
+    }
+
+    /**
+     * @return the number of times sending data to this route failed.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the number of items waiting to be sent to this route.
+     */
+    public int getBacklog() {
+        return router.getBacklog();
+    }
+
+    void addProcessed(int count) {
+        processed.add(count);
+    }
+
+    void failed() {
+        failures.increment();
+    }
+
+    @Override
+    public String toString() {
+        return getRoute() + ": processed=" + getProcessed() + " ("
+                + String.format("%.1f", getProcessedPerSecond())
+                + "/s), failures=" + getFailures() + ", backlog="
+                + getBacklog();
+    }
+
+}
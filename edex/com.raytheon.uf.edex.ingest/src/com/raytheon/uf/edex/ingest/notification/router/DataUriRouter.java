@@ -20,7 +20,10 @@
 package com.raytheon.uf.edex.ingest.notification.router;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPOutputStream;
 
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
@@ -49,6 +52,9 @@ import com.raytheon.uf.edex.core.EdexException;
  * Oct 30, 2015  4710     bclement  ByteArrayOutputStream renamed to
  *                                  PooledByteArrayOutputStream
  * Jun 28, 2016  5679     rjpeter   Moved PluginNotifierConfig to common.
+ * Oct 17, 2026           agent     Track the backlog of unsent uris.
+ * Oct 17, 2026           agent     Build messages from the uris actually
+ *                                  dequeued.
  * 
  * </pre>
  * 
@@ -61,11 +67,25 @@ public class DataUriRouter implements INotificationRouter {
      */
     private static final int GZIP_BUFFER_SIZE = 4096;
 
+    /**
+     * Maximum number of uris sent in one message, any remaining uris are sent
+     * with the next message.
+     */
+    private static final int MAX_BATCH_SIZE = Integer.getInteger(
+            "notification.uri.batch.size", 100_000);
+
     /**
      * Data URIs that have not been sent.
      */
     private final ConcurrentLinkedQueue<String> uris = new ConcurrentLinkedQueue<String>();
 
+    /**
+     * Number of uris in the queue, ConcurrentLinkedQueue.size() is not a
+     * constant time operation. Incremented before a uri is queued and
+     * decremented after it is dequeued so it is never negative.
+     */
+    private final AtomicInteger backlog = new AtomicInteger();
+
     /**
      * Flag if this route stays in the jvm.
      */
@@ -94,9 +114,15 @@ public class DataUriRouter implements INotificationRouter {
 
     @Override
     public void process(PluginDataObject pdo) {
+        backlog.incrementAndGet();
         uris.add(pdo.getDataURI());
     }
 
+    @Override
+    public int getBacklog() {
+        return backlog.get();
+    }
+
     /**
      * Creates a DataURINotificationMessage.
      * 
@@ -104,17 +130,24 @@ public class DataUriRouter implements INotificationRouter {
      */
     protected synchronized DataURINotificationMessage createMessage() {
         DataURINotificationMessage msg = null;
-        // this is the only point that uris is reduced, safe to grab current
-        // size and dequeue that many items
-        int size = uris.size();
+        /*
+         * process() may be adding uris while this runs so the backlog is only
+         * a hint, poll until the queue is empty or the batch is full.
+         */
+        int size = Math.min(backlog.get(), MAX_BATCH_SIZE);
         if (size > 0) {
-            String[] data = new String[size];
-            for (int i = 0; i < size; i++) {
-                data[i] = uris.poll();
+            List<String> data = new ArrayList<>(size);
+            String uri;
+            while (data.size() < MAX_BATCH_SIZE
+                    && (uri = uris.poll()) != null) {
+                data.add(uri);
             }
+            backlog.addAndGet(-data.size());
 
-            msg = new DataURINotificationMessage();
-            msg.setDataURIs(data);
+            if (!data.isEmpty()) {
+                msg = new DataURINotificationMessage();
+                msg.setDataURIs(data.toArray(new String[data.size()]));
+            }
         }
 
         return msg;
@@ -32,6 +32,7 @@ import com.raytheon.uf.edex.core.EdexException;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Nov 19, 2013 2170       rjpeter     Initial creation
+ * Oct 17, 2026            agent       Added getBacklog
  * 
  * </pre>
  * 
@@ -73,4 +74,13 @@ public interface INotificationRouter {
      * @throws EdexException
      */
     public void sendQueuedData() throws EdexException;
+
+    /**
+     * The number of items that have been processed but not yet sent.
+     * 
+     * @return
+     */
+    public default int getBacklog() {
+        return 0;
+    }
 }
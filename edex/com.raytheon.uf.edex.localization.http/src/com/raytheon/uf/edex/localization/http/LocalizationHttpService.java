@@ -45,6 +45,8 @@ import com.raytheon.uf.edex.localization.http.writer.ILocalizationResponseWriter
  * May 18, 2017  6242     randerso  Changed to use new roles and permissions
  *                                  framework
  * Aug 07, 2017  5731     bsteffen  Separate logic for each method into it's own class.
+ * Oct 17, 2026           agent     Added sync requests for manifests and
+ *                                  batches of files.
  *
  * </pre>
  *
@@ -60,6 +62,8 @@ public class LocalizationHttpService {
 
     private final LocalizationHttpDelegate delete;
 
+    private final LocalizationHttpSyncDelegate sync;
+
     /**
      * @param base
      *            portion of URL that is used for routing to this service
@@ -70,6 +74,7 @@ public class LocalizationHttpService {
         head = new LocalizationHttpHeadDelegate(basePath);
         put = new LocalizationHttpPutDelegate(basePath);
         delete = new LocalizationHttpDeleteDelegate(basePath);
+        sync = new LocalizationHttpSyncDelegate(basePath);
     }
 
     /**
@@ -84,6 +89,10 @@ public class LocalizationHttpService {
      */
     public Object handle(HttpServletRequest request,
             HttpServletResponse response) throws IOException {
+        if (sync.isSyncRequest(request)) {
+            sync.handle(request, response);
+            return null;
+        }
         switch (request.getMethod()) {
         case "GET":
             get.handle(request, response);
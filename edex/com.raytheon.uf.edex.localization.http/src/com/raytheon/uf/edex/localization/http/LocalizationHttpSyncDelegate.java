@@ -0,0 +1,310 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.localization.http;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.raytheon.uf.common.http.ProtectiveHttpOutputStream;
+import com.raytheon.uf.common.localization.IPathManager;
+import com.raytheon.uf.common.localization.LocalizationContext;
+import com.raytheon.uf.common.localization.LocalizationContext.LocalizationLevel;
+import com.raytheon.uf.common.localization.LocalizationFile;
+import com.raytheon.uf.common.localization.PathManagerFactory;
+import com.raytheon.uf.common.localization.exception.LocalizationException;
+
+/**
+ * Handles bulk synchronization of localization files, so a client can bring
+ * its local copies of many files up to date with two requests instead of one
+ * or more requests per file.
+ * <ul>
+ * <li>GET {base}/sync?context=common_static/base&amp;context=common_static/site/OAX
+ * returns a manifest of the checksum and timestamp of every file and directory
+ * in the contexts. An optional path parameter limits the manifest to a
+ * directory.</li>
+ * <li>POST {base}/sync with one localization path per line in the body, in
+ * the form used in URLs (eg common_static/site/OAX/path/to/file.xml), returns
+ * a zip archive of those files. Files that do not exist are left out.</li>
+ * </ul>
+ * The manifest is UTF-8 text, compressed if the client accepts it. Each context
+ * starts with a line of "context", a tab, and the context path. Each file in
+ * the context follows on a line of the checksum, the modification time in
+ * milliseconds and the path relative to the context, separated by tabs.
+ * Directories have a checksum of
+ * {@link com.raytheon.uf.common.localization.ILocalizationFile#DIRECTORY_CHECKSUM}.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- -----------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class LocalizationHttpSyncDelegate extends LocalizationHttpDelegate {
+
+    public static final String SYNC_PATH = "sync";
+
+    public static final String CONTEXT_PARAM = "context";
+
+    public static final String PATH_PARAM = "path";
+
+    public static final String CONTEXT_LINE_PREFIX = "context";
+
+    public static final String MANIFEST_CONTENT_TYPE = "text/plain; charset=UTF-8";
+
+    protected static final String ZIP_CONTENT_TYPE = "application/zip";
+
+    protected static final String CACHE_CONTROL_HEADER = "Cache-Control";
+
+    protected static final String NO_CACHE = "no-cache";
+
+    private static final char FIELD_SEPARATOR = '\t';
+
+    private static final int MAX_FILES = Integer
+            .getInteger("localization.http.sync.max.files", 20_000);
+
+    public LocalizationHttpSyncDelegate(Path basePath) {
+        super(basePath);
+    }
+
+    /**
+     * @param request
+     * @return true if the request is for this delegate
+     */
+    public boolean isSyncRequest(HttpServletRequest request) {
+        String rawPath = request.getPathInfo();
+        if (rawPath == null) {
+            return false;
+        }
+        Path relative = basePath.relativize(Paths.get(rawPath));
+        return SYNC_PATH.equals(relative.toString());
+    }
+
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ProtectiveHttpOutputStream out = new ProtectiveHttpOutputStream(
+                response, request.getHeader(ACCEPT_ENC_HEADER), false);
+        try {
+            switch (request.getMethod()) {
+            case "GET":
+                writeManifest(request, out);
+                break;
+            case "POST":
+                writeFiles(request, out);
+                break;
+            default:
+                throw new LocalizationHttpException(
+                        HttpServletResponse.SC_METHOD_NOT_ALLOWED,
+                        request.getMethod() + " is not supported for "
+                                + SYNC_PATH);
+            }
+        } catch (LocalizationHttpException e) {
+            sendError(e, out);
+        } catch (Throwable t) {
+            log.error("Problem handling localization sync request", t);
+            sendError(new LocalizationHttpException(
+                    HttpServletResponse.SC_INTERNAL_SERVER_ERROR, SERVER_ERROR),
+                    out);
+        } finally {
+            out.flush();
+            out.setAllowClose(true);
+            out.close();
+        }
+    }
+
+    /**
+     * Write the manifest of the contexts named in the request
+     */
+    private void writeManifest(HttpServletRequest request,
+            ProtectiveHttpOutputStream out)
+            throws LocalizationHttpException, IOException {
+        String[] contextPaths = request.getParameterValues(CONTEXT_PARAM);
+        if (contextPaths == null || contextPaths.length == 0) {
+            throw new LocalizationHttpException(
+                    HttpServletResponse.SC_BAD_REQUEST,
+                    "At least one " + CONTEXT_PARAM + " is required");
+        }
+        String path = request.getParameter(PATH_PARAM);
+        if (path == null) {
+            path = "";
+        }
+        List<LocalizationContext> contexts = new ArrayList<>(
+                contextPaths.length);
+        for (String contextPath : contextPaths) {
+            contexts.add(getContext(request, contextPath, path));
+        }
+
+        HttpServletResponse response = out.getResponse();
+        response.setContentType(MANIFEST_CONTENT_TYPE);
+        response.setHeader(CACHE_CONTROL_HEADER, NO_CACHE);
+
+        IPathManager pathManager = PathManagerFactory.getPathManager();
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (LocalizationContext context : contexts) {
+            writer.write(CONTEXT_LINE_PREFIX);
+            writer.write(FIELD_SEPARATOR);
+            writer.write(context.toPath());
+            writer.write('\n');
+            LocalizationFile[] files = pathManager.listFiles(context, path,
+                    null, true, false);
+            if (files == null) {
+                continue;
+            }
+            for (LocalizationFile file : files) {
+                String name = file.getPath();
+                if (name.indexOf('\n') >= 0
+                        || name.indexOf(FIELD_SEPARATOR) >= 0) {
+                    log.warn("Leaving " + name + " in " + context
+                            + " out of the manifest, the name cannot be represented");
+                    continue;
+                }
+                writer.write(file.getCheckSum());
+                writer.write(FIELD_SEPARATOR);
+                writer.write(Long.toString(file.getTimeStamp() == null ? 0
+                        : file.getTimeStamp().getTime()));
+                writer.write(FIELD_SEPARATOR);
+                writer.write(name);
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Parse and authorize a context named in a manifest request
+     */
+    private LocalizationContext getContext(HttpServletRequest request,
+            String contextPath, String path) throws LocalizationHttpException {
+        Path relative = Paths.get(contextPath).normalize();
+        if (relative.getNameCount() < LocalizationResolver.CONTEXT_PATH_BASE_COUNT) {
+            throw new LocalizationHttpException(
+                    HttpServletResponse.SC_BAD_REQUEST,
+                    "Invalid context: " + contextPath);
+        }
+        LocalizationContext context = LocalizationResolver
+                .getContext(relative);
+        if (!LocalizationResolver.relativize(context, relative).toString()
+                .isEmpty()
+                || (context.getContextName() == null && context
+                        .getLocalizationLevel() != LocalizationLevel.BASE)) {
+            throw new LocalizationHttpException(
+                    HttpServletResponse.SC_BAD_REQUEST,
+                    "Invalid context: " + contextPath);
+        }
+        Path resource = relative;
+        if (!path.isEmpty()) {
+            resource = relative.resolve(path).normalize();
+        }
+        validate(request, resource);
+        return context;
+    }
+
+    /**
+     * Write a zip archive of the files listed in the body of the request
+     */
+    private void writeFiles(HttpServletRequest request,
+            ProtectiveHttpOutputStream out) throws LocalizationHttpException,
+            IOException, LocalizationException {
+        /* The archive is already compressed */
+        out.setAcceptEncoding(null);
+
+        Map<String, LocalizationFile> files = new LinkedHashMap<>();
+        try (BufferedReader reader = request.getReader()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (files.size() >= MAX_FILES) {
+                    throw new LocalizationHttpException(
+                            HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                            "No more than " + MAX_FILES
+                                    + " files may be requested at once");
+                }
+                Path relative = Paths.get(line).normalize();
+                if (relative.getNameCount() <= LocalizationResolver.CONTEXT_PATH_BASE_COUNT) {
+                    throw new LocalizationHttpException(
+                            HttpServletResponse.SC_BAD_REQUEST,
+                            "Invalid localization file: " + line);
+                }
+                validate(request, relative);
+                /* entries are named as requested so clients can match them */
+                files.put(line, LocalizationResolver.getFile(relative));
+            }
+        }
+
+        HttpServletResponse response = out.getResponse();
+        response.setContentType(ZIP_CONTENT_TYPE);
+        response.setHeader(CACHE_CONTROL_HEADER, NO_CACHE);
+
+        ZipOutputStream zout = new ZipOutputStream(out);
+        for (Entry<String, LocalizationFile> entry : files.entrySet()) {
+            LocalizationFile lfile = entry.getValue();
+            /*
+             * don't use exists() on the localization file since that has a side
+             * effect of the parent directories being created
+             */
+            File file = lfile.getFile(false);
+            if (!file.isFile() || !file.canRead()) {
+                continue;
+            }
+            ZipEntry zEntry = new ZipEntry(entry.getKey());
+            zEntry.setTime(file.lastModified());
+            zout.putNextEntry(zEntry);
+            try {
+                LocalizationHttpDataTransfer.copy(lfile, zout);
+            } finally {
+                zout.closeEntry();
+            }
+        }
+        /* finish rather than close so the response stream stays open */
+        zout.finish();
+    }
+
+    @Override
+    protected String getOperation() {
+        return "read";
+    }
+}
@@ -52,6 +52,7 @@ import com.raytheon.uf.edex.pointdata.PointDataPluginDao.LevelRequest;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jan 14, 2010            chammack     Initial creation
+ * Oct 17, 2026            agent        Combine all containers at once
  * 
  * </pre>
  * 
@@ -183,10 +184,7 @@ public class PointDataHandler implements
 				return new PointDataThriftContainer();
 
 			PointDataContainer c0 = containers.get(0);
-
-			for (int i = 1; i < containers.size(); i++) {
-				c0.combine(containers.get(i));
-			}
+			c0.combine(containers.subList(1, containers.size()));
 
 			return PointDataThriftContainer.from(c0);
 		} finally {
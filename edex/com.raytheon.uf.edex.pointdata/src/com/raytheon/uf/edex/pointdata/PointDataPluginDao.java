@@ -29,8 +29,11 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -92,6 +95,10 @@ import net.sf.cglib.beans.BeanMap;
  * Sep 23, 2021  8608     mapeters    Add metadata id handling
  * Feb 17, 2022  8608     mapeters    Disable broken data storage auditing
  * Jun 22, 2022  8865     mapeters    Update populateDataStore to return boolean
+ * Oct 17, 2026           agent       Append each file once with only the
+ *                                    observations being persisted
+ * Oct 17, 2026           agent       Append containers with different
+ *                                    parameters separately
  *
  * </pre>
  *
@@ -152,58 +159,41 @@ public abstract class PointDataPluginDao<T extends PluginDataObject>
          */
         Map<PointDataContainer, List<PointDataView>> containerMap = new HashMap<>(
                 records.length);
-        Map<PointDataContainer, File> fileMap = new HashMap<>();
+        Map<File, List<PointDataContainer>> fileMap = new LinkedHashMap<>();
 
         for (PluginDataObject p : records) {
             if (p instanceof IPointData) {
                 PointDataView pdv = ((IPointData) p).getPointDataView();
                 PointDataContainer pdc = pdv.getContainer();
-                List<PointDataView> views = containerMap.computeIfAbsent(pdc,
-                        k -> new ArrayList<>());
+                List<PointDataView> views = containerMap.get(pdc);
+                if (views == null) {
+                    views = new ArrayList<>();
+                    containerMap.put(pdc, views);
+                    fileMap.computeIfAbsent(getFullFilePath(p),
+                            k -> new ArrayList<>()).add(pdc);
+                }
                 views.add(pdv);
-                fileMap.computeIfAbsent(pdc, k -> getFullFilePath(p));
             }
         }
 
         List<StorageStatus> ssList = new ArrayList<>();
         try {
-            for (PointDataContainer container : containerMap.keySet()) {
-                IDataStore ds = DataStoreFactory
-                        .getDataStore(fileMap.get(container));
-                StorageProperties sp = new StorageProperties();
-                String compression = PluginRegistry.getInstance()
-                        .getRegisteredObject(pluginName).getCompression();
-                if (compression != null) {
-                    sp.setCompression(
-                            StorageProperties.Compression.valueOf(compression));
-                }
-
-                Set<String> params = container.getParameters();
-                for (String param : params) {
-                    try {
-                        IDataRecord idr = container.getParameterRecord(param);
-                        /*
-                         * Don't pass metadata IDs since auditing is disabled
-                         * for point data currently. See class javadoc.
-                         */
-                        ds.addDataRecord(idr, Set.of(), sp);
-                    } catch (StorageException e) {
-                        throw new PluginException("Error adding record", e);
-                    }
+            for (Entry<File, List<PointDataContainer>> entry : fileMap
+                    .entrySet()) {
+                /*
+                 * Only containers with the same parameters can be combined,
+                 * any others are appended to the file separately.
+                 */
+                Map<Set<String>, List<PointDataContainer>> paramMap = new LinkedHashMap<>();
+                for (PointDataContainer container : entry.getValue()) {
+                    paramMap.computeIfAbsent(
+                            new HashSet<>(container.getParameters()),
+                            k -> new ArrayList<>()).add(container);
                 }
-
-                try {
-                    StorageStatus ss = ds.store(StoreOp.APPEND);
-                    if (!ss.hasExceptions()
-                            && ss.getOperationPerformed() == StoreOp.APPEND) {
-                        // increment the indices
-                        List<PointDataView> views = containerMap.get(container);
-                        int idx = (int) ss.getIndexOfAppend()[0];
-                        container.incrementIds(idx, views);
-                    }
-                    ssList.add(ss);
-                } catch (StorageException e) {
-                    throw new PluginException("Error updating point file", e);
+                for (List<PointDataContainer> containers : paramMap
+                        .values()) {
+                    ssList.add(appendToFile(entry.getKey(), containers,
+                            containerMap));
                 }
             }
             // Aggregate the storage status errors
@@ -226,6 +216,134 @@ public abstract class PointDataPluginDao<T extends PluginDataObject>
         }
     }
 
+    /**
+     * Append the observations that are being persisted from containers with
+     * the same parameters to a file, in a single store.
+     *
+     * @param file
+     *            the file the containers are stored in
+     * @param containers
+     *            containers which all have the same parameters
+     * @param containerMap
+     *            the views being persisted for each container
+     */
+    private StorageStatus appendToFile(File file,
+            List<PointDataContainer> containers,
+            Map<PointDataContainer, List<PointDataView>> containerMap)
+            throws PluginException {
+        List<int[]> indices = new ArrayList<>(containers.size());
+        for (PointDataContainer container : containers) {
+            indices.add(getStoredIndices(containerMap.get(container)));
+        }
+        PointDataContainer container = selectStoredData(containers, indices);
+        IDataStore ds = DataStoreFactory.getDataStore(file);
+        StorageProperties sp = new StorageProperties();
+        String compression = PluginRegistry.getInstance()
+                .getRegisteredObject(pluginName).getCompression();
+        if (compression != null) {
+            sp.setCompression(StorageProperties.Compression.valueOf(compression));
+        }
+
+        Set<String> params = container.getParameters();
+        for (String param : params) {
+            try {
+                IDataRecord idr = container.getParameterRecord(param);
+                /*
+                 * Don't pass metadata IDs since auditing is disabled for point
+                 * data currently. See class javadoc.
+                 */
+                ds.addDataRecord(idr, Set.of(), sp);
+            } catch (StorageException e) {
+                throw new PluginException("Error adding record", e);
+            }
+        }
+
+        try {
+            StorageStatus ss = ds.store(StoreOp.APPEND);
+            if (!ss.hasExceptions()
+                    && ss.getOperationPerformed() == StoreOp.APPEND) {
+                // point the views at their index in the file
+                int idx = (int) ss.getIndexOfAppend()[0];
+                for (int i = 0; i < containers.size(); i += 1) {
+                    int[] stored = indices.get(i);
+                    List<PointDataView> views = containerMap
+                            .get(containers.get(i));
+                    /*
+                     * Compute every index before updating any view in case a
+                     * view is shared by multiple records.
+                     */
+                    int[] fileIdx = new int[views.size()];
+                    for (int j = 0; j < fileIdx.length; j += 1) {
+                        fileIdx[j] = idx + Arrays.binarySearch(stored,
+                                views.get(j).getCurIdx());
+                    }
+                    for (int j = 0; j < fileIdx.length; j += 1) {
+                        views.get(j).setCurIdx(fileIdx[j]);
+                    }
+                    idx += stored.length;
+                }
+            }
+            return ss;
+        } catch (StorageException e) {
+            throw new PluginException("Error updating point file", e);
+        }
+    }
+
+    /**
+     * @return the sorted, distinct indices of the observations the views
+     *         refer to.
+     */
+    private static int[] getStoredIndices(List<PointDataView> views) {
+        int[] indices = new int[views.size()];
+        for (int i = 0; i < indices.length; i += 1) {
+            indices[i] = views.get(i).getCurIdx();
+        }
+        Arrays.sort(indices);
+        int count = 0;
+        for (int i = 0; i < indices.length; i += 1) {
+            if (count == 0 || indices[i] != indices[count - 1]) {
+                indices[count++] = indices[i];
+            }
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
+    /**
+     * Build a single container holding only the observations that are being
+     * persisted from each container, so that containers with the same
+     * parameters are appended to a file once and observations of records that are not being persisted are not
+     * written. The container is returned unchanged when it is the only one
+     * and every observation in it is being persisted.
+     *
+     * @param containers
+     *            the containers that are stored in the same file, which all
+     *            have the same parameters
+     * @param indices
+     *            for each container, the sorted indices of the observations
+     *            to store
+     */
+    private static PointDataContainer selectStoredData(
+            List<PointDataContainer> containers, List<int[]> indices) {
+        PointDataContainer first = containers.get(0);
+        if (containers.size() == 1
+                && indices.get(0).length == first.getCurrentSz()) {
+            return first;
+        }
+        PointDataContainer combined = first.select(indices.get(0));
+        int size = combined.getCurrentSz();
+        List<PointDataContainer> others = new ArrayList<>(
+                containers.size() - 1);
+        for (int i = 1; i < containers.size(); i += 1) {
+            PointDataContainer selected = containers.get(i)
+                    .select(indices.get(i));
+            size += selected.getCurrentSz();
+            others.add(selected);
+        }
+        combined.combine(others);
+        combined.setCurrentSz(size);
+        return combined;
+    }
+
     public File getFullFilePath(PluginDataObject p) {
         File file;
         String directory = p.getPluginName() + File.separator
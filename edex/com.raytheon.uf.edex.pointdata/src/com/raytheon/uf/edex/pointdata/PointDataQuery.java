@@ -69,6 +69,7 @@ import tec.uom.se.AbstractConverter;
  * Nov 16, 2017  6367     tgurney   Send timing information to log file
  * May 28, 2019  7689     randerso  Make query accessible so additional
  *                                  constraints can be added.
+ * Oct 17, 2026           agent     Combine all hdf5 containers at once.
  *
  * </pre>
  *
@@ -282,6 +283,8 @@ public class PointDataQuery {
                 indexes.get(listIndex).add(idx);
             }
             long t0 = System.currentTimeMillis();
+            List<PointDataContainer> containers = new ArrayList<>(
+                    files.size());
             for (int i = 0; i < files.size(); i++) {
                 File file = new File(files.get(i));
                 List<String> attribSet = new ArrayList<>(hdf5attribList);
@@ -295,12 +298,12 @@ public class PointDataQuery {
                         attribSet.toArray(new String[0]), this.requestStyle);
                 if (masterPDC == null) {
                     masterPDC = pdc;
-                    masterPDC.setCurrentSz(masterPDC.getAllocatedSz());
                 } else {
-                    masterPDC.combine(pdc);
-                    masterPDC.setCurrentSz(masterPDC.getAllocatedSz());
+                    containers.add(pdc);
                 }
             }
+            masterPDC.combine(containers);
+            masterPDC.setCurrentSz(masterPDC.getAllocatedSz());
             long t1 = System.currentTimeMillis();
             statusHandler
                     .info("Total time spent on pointdata hdf5 retrieval (all files): "
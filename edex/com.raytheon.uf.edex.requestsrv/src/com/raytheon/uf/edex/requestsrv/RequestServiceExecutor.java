@@ -35,6 +35,8 @@ import com.raytheon.uf.edex.auth.req.AbstractPrivilegedRequestHandler;
 import com.raytheon.uf.edex.auth.resp.AuthorizationResponse;
 import com.raytheon.uf.edex.auth.resp.ResponseFactory;
 import com.raytheon.uf.edex.requestsrv.logging.RequestLogger;
+import com.raytheon.uf.edex.requestsrv.metrics.RequestMetrics;
+import com.raytheon.uf.edex.requestsrv.metrics.RequestMetricsRegistry;
 
 /**
  * Class that handles the execution of {@link IServerRequest}s. Contains the
@@ -56,6 +58,8 @@ import com.raytheon.uf.edex.requestsrv.logging.RequestLogger;
  * Jul 18, 2017  6217     randerso  Removed support for old roles and
  *                                  permissions framework
  * Mar 09, 2020  dcs21885 brapp     Added request detail logging
+ * Oct 17, 2026           agent     Record handle time and concurrency of each
+ *                                  request class
  *
  * </pre>
  *
@@ -76,6 +80,9 @@ public class RequestServiceExecutor {
     private final HandlerRegistry registry;
     private final RequestLogger reqLogger;
 
+    private final RequestMetricsRegistry metricsRegistry = RequestMetricsRegistry
+            .getInstance();
+
     public RequestServiceExecutor() {
         this(HandlerRegistry.getInstance(), RequestLogger.getInstance());
     }
@@ -94,8 +101,22 @@ public class RequestServiceExecutor {
      * @return The result of the service execution
      * @throws Exception
      */
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public Object execute(IServerRequest request) throws Exception {
+        RequestMetrics metrics = metricsRegistry.getMetrics(request);
+        metrics.started();
+        long startTime = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = executeRequest(request);
+            success = true;
+            return result;
+        } finally {
+            metrics.handled(System.nanoTime() - startTime, success);
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Object executeRequest(IServerRequest request) throws Exception {
         boolean subjectSet = false;
         String wsidPString = null;
 
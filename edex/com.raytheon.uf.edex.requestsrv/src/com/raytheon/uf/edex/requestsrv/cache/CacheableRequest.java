@@ -0,0 +1,124 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.requestsrv.cache;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Identifies the cached response of a request. Two cacheable requests are equal
+ * when they are of the same class, have the same cache key and ask for the
+ * same response format.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class CacheableRequest {
+
+    private final String format;
+
+    private final String requestClass;
+
+    /** The request declared key, or null to use the serialized request */
+    private final String key;
+
+    private final byte[] serialized;
+
+    private final String pluginName;
+
+    private final long timeToLive;
+
+    /** generation of the cache when the request was received */
+    final long generation;
+
+    /** generation of the plugin when the request was received */
+    final long pluginGeneration;
+
+    private final int hashCode;
+
+    CacheableRequest(String format, String requestClass, String key,
+            byte[] serialized, String pluginName, long timeToLive,
+            long generation, long pluginGeneration) {
+        this.format = format;
+        this.requestClass = requestClass;
+        this.key = key;
+        this.serialized = serialized;
+        this.pluginName = pluginName;
+        this.timeToLive = timeToLive;
+        this.generation = generation;
+        this.pluginGeneration = pluginGeneration;
+        int hash = Objects.hash(format, requestClass, key);
+        this.hashCode = 31 * hash + Arrays.hashCode(serialized);
+    }
+
+    public String getRequestClass() {
+        return requestClass;
+    }
+
+    /**
+     * @return the plugin the response depends on, may be null
+     */
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    /**
+     * @return the number of milliseconds the response may be cached
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CacheableRequest)) {
+            return false;
+        }
+        CacheableRequest other = (CacheableRequest) obj;
+        return hashCode == other.hashCode && format.equals(other.format)
+                && requestClass.equals(other.requestClass)
+                && Objects.equals(key, other.key)
+                && Arrays.equals(serialized, other.serialized);
+    }
+
+    @Override
+    public String toString() {
+        return requestClass + (key == null ? "" : " [" + key + "]") + " as "
+                + format;
+    }
+
+}
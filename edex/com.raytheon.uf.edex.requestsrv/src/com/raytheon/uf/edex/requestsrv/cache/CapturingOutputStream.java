@@ -0,0 +1,97 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.requestsrv.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes through to another stream while keeping a copy of everything written,
+ * as long as the total written stays within a limit. Large responses are
+ * streamed as usual and are simply not cached.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class CapturingOutputStream extends FilterOutputStream {
+
+    private final int limit;
+
+    private ByteArrayOutputStream captured = new ByteArrayOutputStream(1024);
+
+    /**
+     * @param out
+     *            the stream to write to
+     * @param limit
+     *            the maximum number of bytes to capture
+     */
+    public CapturingOutputStream(OutputStream out, int limit) {
+        super(out);
+        this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        if (captured != null) {
+            if (captured.size() >= limit) {
+                captured = null;
+            } else {
+                captured.write(b);
+            }
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        capture(b, off, len);
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        if (captured != null) {
+            if (captured.size() + len > limit) {
+                captured = null;
+            } else {
+                captured.write(b, off, len);
+            }
+        }
+    }
+
+    /**
+     * @return everything written to this stream, or null if more than the
+     *         limit was written.
+     */
+    public byte[] getCaptured() {
+        return captured == null ? null : captured.toByteArray();
+    }
+
+}
@@ -0,0 +1,425 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.requestsrv.cache;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.raytheon.uf.common.auth.req.AbstractPrivilegedRequest;
+import com.raytheon.uf.common.serialization.SerializationException;
+import com.raytheon.uf.common.serialization.SerializationUtil;
+import com.raytheon.uf.common.serialization.comm.ICacheableRequest;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+import com.raytheon.uf.common.serialization.comm.RequestWrapper;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * Holds already serialized responses of requests that are repeated verbatim by
+ * many clients so repeats are answered without handling the request or
+ * serializing the response again.
+ *
+ * Only requests whose class is configured in the cached requests are cached,
+ * each for its own time to live. Requests are keyed by their
+ * {@link ICacheableRequest#getCacheKey() cache key} if they declare one,
+ * otherwise by their serialized form. Wrapped requests are keyed by the request
+ * they wrap so the same request from different clients shares one response.
+ * Privileged requests are never cached since their response depends on the
+ * user.
+ *
+ * Responses that declare a {@link ICacheableRequest#getCachePluginName()
+ * plugin} are discarded when new data for that plugin is ingested. When the
+ * total size of the cached responses exceeds the maximum the least recently
+ * used responses are discarded.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class ResponseCache implements ResponseCacheMXBean {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(ResponseCache.class);
+
+    private static final ResponseCache instance = new ResponseCache();
+
+    public static ResponseCache getInstance() {
+        return instance;
+    }
+
+    private static class CachedResponse {
+
+        private final byte[] bytes;
+
+        private final long expiration;
+
+        private CachedResponse(byte[] bytes, long expiration) {
+            this.bytes = bytes;
+            this.expiration = expiration;
+        }
+    }
+
+    private volatile boolean enabled = false;
+
+    private volatile long maxBytes = 64L * 1024 * 1024;
+
+    private volatile int maxEntryBytes = 1024 * 1024;
+
+    private volatile Map<String, Long> cachedRequests = Collections
+            .emptyMap();
+
+    /** Guards entries, pluginEntries and sizeBytes */
+    private final Object lock = new Object();
+
+    /** In least recently used order */
+    private final LinkedHashMap<CacheableRequest, CachedResponse> entries = new LinkedHashMap<>(
+            256, 0.75f, true);
+
+    private final Map<String, Set<CacheableRequest>> pluginEntries = new HashMap<>();
+
+    private long sizeBytes = 0;
+
+    /**
+     * Incremented whenever the cache is cleared, and the generation of each
+     * plugin whenever data for the plugin arrives. A response is not stored if
+     * its generation changed while the request was being handled since it may
+     * already be out of date.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final ConcurrentMap<String, AtomicLong> pluginGenerations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    private ResponseCache() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                    new ObjectName(
+                            "com.raytheon.uf.edex.requestsrv:type=ResponseCache"));
+        } catch (JMException e) {
+            statusHandler.warn("Unable to register response cache with JMX",
+                    e);
+        }
+    }
+
+    /**
+     * Determine whether the response to a request can be cached.
+     *
+     * @param request
+     *            the request as it was received
+     * @param format
+     *            the format the response is serialized to
+     * @return the key of the cached response, or null if the response must not
+     *         be cached.
+     */
+    public CacheableRequest getCacheableRequest(IServerRequest request,
+            String format) {
+        if (!enabled) {
+            return null;
+        }
+        if (request instanceof RequestWrapper) {
+            request = ((RequestWrapper) request).getRequest();
+        }
+        if (request == null || request instanceof AbstractPrivilegedRequest) {
+            return null;
+        }
+        String requestClass = request.getClass().getName();
+        Long timeToLive = cachedRequests.get(requestClass);
+        if (timeToLive == null || timeToLive <= 0) {
+            return null;
+        }
+        String key = null;
+        String pluginName = null;
+        if (request instanceof ICacheableRequest) {
+            ICacheableRequest cacheable = (ICacheableRequest) request;
+            if (!cacheable.isCacheable()) {
+                return null;
+            }
+            key = cacheable.getCacheKey();
+            pluginName = cacheable.getCachePluginName();
+        }
+        byte[] serialized = null;
+        if (key == null) {
+            try {
+                serialized = SerializationUtil.transformToThrift(request);
+            } catch (SerializationException e) {
+                statusHandler.debug("Unable to create cache key for "
+                        + requestClass + ", response will not be cached", e);
+                return null;
+            }
+        }
+        return new CacheableRequest(format, requestClass, key, serialized,
+                pluginName, timeToLive, generation.get(),
+                getPluginGeneration(pluginName).get());
+    }
+
+    private AtomicLong getPluginGeneration(String pluginName) {
+        if (pluginName == null) {
+            /* no plugin data arrival changes the response */
+            return new AtomicLong();
+        }
+        return pluginGenerations.computeIfAbsent(pluginName,
+                k -> new AtomicLong());
+    }
+
+    /**
+     * @param request
+     * @return the cached response, or null if there is none or it expired.
+     */
+    public byte[] get(CacheableRequest request) {
+        synchronized (lock) {
+            CachedResponse cached = entries.get(request);
+            if (cached != null) {
+                if (cached.expiration > System.currentTimeMillis()) {
+                    hits.increment();
+                    return cached.bytes;
+                }
+                remove(request);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache a response. The response is not cached if it is larger than the
+     * maximum entry size or if the cache was invalidated for the request while
+     * the request was being handled.
+     *
+     * @param request
+     * @param response
+     *            the serialized response
+     */
+    public void put(CacheableRequest request, byte[] response) {
+        if (response.length > maxEntryBytes) {
+            return;
+        }
+        long expiration = System.currentTimeMillis()
+                + request.getTimeToLive();
+        String pluginName = request.getPluginName();
+        synchronized (lock) {
+            if (generation.get() != request.generation
+                    || getPluginGeneration(pluginName)
+                            .get() != request.pluginGeneration) {
+                return;
+            }
+            CachedResponse previous = entries.put(request,
+                    new CachedResponse(response, expiration));
+            if (previous != null) {
+                sizeBytes -= previous.bytes.length;
+            } else if (pluginName != null) {
+                pluginEntries
+                        .computeIfAbsent(pluginName, k -> new HashSet<>())
+                        .add(request);
+            }
+            sizeBytes += response.length;
+
+            Iterator<Entry<CacheableRequest, CachedResponse>> it = entries
+                    .entrySet().iterator();
+            while (sizeBytes > maxBytes && it.hasNext()) {
+                Entry<CacheableRequest, CachedResponse> eldest = it.next();
+                sizeBytes -= eldest.getValue().bytes.length;
+                it.remove();
+                unindex(eldest.getKey());
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(CacheableRequest request) {
+        CachedResponse removed = entries.remove(request);
+        if (removed != null) {
+            sizeBytes -= removed.bytes.length;
+            unindex(request);
+        }
+    }
+
+    private void unindex(CacheableRequest request) {
+        String pluginName = request.getPluginName();
+        if (pluginName != null) {
+            Set<CacheableRequest> requests = pluginEntries.get(pluginName);
+            if (requests != null) {
+                requests.remove(request);
+                if (requests.isEmpty()) {
+                    pluginEntries.remove(pluginName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Discard every cached response that depends on the data of a plugin.
+     *
+     * @param pluginName
+     */
+    public void invalidate(String pluginName) {
+        getPluginGeneration(pluginName).incrementAndGet();
+        synchronized (lock) {
+            Set<CacheableRequest> requests = pluginEntries.remove(pluginName);
+            if (requests != null) {
+                for (CacheableRequest request : requests) {
+                    CachedResponse removed = entries.remove(request);
+                    if (removed != null) {
+                        sizeBytes -= removed.bytes.length;
+                    }
+                }
+                invalidations.add(requests.size());
+            }
+        }
+    }
+
+    /**
+     * Discard the cached responses that depend on the plugins of newly
+     * ingested data.
+     *
+     * @param dataURIs
+     *            the dataURIs of the ingested data
+     */
+    public void invalidateDataURIs(String[] dataURIs) {
+        if (!enabled || dataURIs == null) {
+            return;
+        }
+        Set<String> pluginNames = new HashSet<>();
+        for (String dataURI : dataURIs) {
+            int start = dataURI.startsWith("/") ? 1 : 0;
+            int end = dataURI.indexOf('/', start);
+            pluginNames.add(end < 0 ? dataURI.substring(start)
+                    : dataURI.substring(start, end));
+        }
+        for (String pluginName : pluginNames) {
+            invalidate(pluginName);
+        }
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        synchronized (lock) {
+            entries.clear();
+            pluginEntries.clear();
+            sizeBytes = 0;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    @Override
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public void setMaxEntryBytes(int maxEntryBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public Map<String, Long> getCachedRequests() {
+        return cachedRequests;
+    }
+
+    /**
+     * @param cachedRequests
+     *            map of request class name to the number of milliseconds its
+     *            responses may be cached
+     */
+    public void setCachedRequests(Map<String, Long> cachedRequests) {
+        this.cachedRequests = cachedRequests;
+    }
+
+    @Override
+    public int getEntryCount() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public long getSizeBytes() {
+        synchronized (lock) {
+            return sizeBytes;
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+}
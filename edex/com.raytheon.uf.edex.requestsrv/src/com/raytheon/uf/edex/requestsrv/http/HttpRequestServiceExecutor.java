@@ -28,6 +28,7 @@ import com.raytheon.uf.common.http.ProtectiveHttpOutputStream;
 import com.raytheon.uf.common.serialization.comm.IServerRequest;
 import com.raytheon.uf.edex.requestsrv.serialization.ISerializingStreamExecutor;
 import com.raytheon.uf.edex.requestsrv.serialization.SerializingStreamExecutor;
+import com.raytheon.uf.edex.requestsrv.scheduling.RequestRejectedException;
 import com.raytheon.uf.edex.requestsrv.serialization.UnsupportedFormatException;
 
 /**
@@ -43,6 +44,8 @@ import com.raytheon.uf.edex.requestsrv.serialization.UnsupportedFormatException;
  * Aug 21, 2014 3541       mschenke    Initial creation
  * Jan 05, 2015 3789       bclement    modified for camel rest implementation
  * Jan 15, 2015 3789       bclement    don't close the request stream
+ * Oct 16, 2026            agent       Use Accept header to pick response format
+ * Oct 17, 2026            agent       Respond with 503 to rejected requests
  * 
  * </pre>
  * 
@@ -52,6 +55,9 @@ import com.raytheon.uf.edex.requestsrv.serialization.UnsupportedFormatException;
 
 public class HttpRequestServiceExecutor {
 
+    /** Seconds a client should wait before retrying a rejected request */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     /** Default instance for convenient sharing of registry. */
     private static final HttpRequestServiceExecutor instance = new HttpRequestServiceExecutor(
             SerializingStreamExecutor.getInstance());
@@ -83,15 +89,38 @@ public class HttpRequestServiceExecutor {
     public void execute(InputStream requestStream,
             String requestFormat, String acceptEncoding,
             HttpServletResponse response) throws Exception {
+        execute(requestStream, requestFormat, acceptEncoding, null, response);
+    }
+
+    /**
+     * Executes the request in the input stream by deserializing into an
+     * {@link IServerRequest} object and serializing the response to the
+     * {@link HttpServletResponse} in the first format of the Accept header
+     * that has a registered serializer, or the request format if there is
+     * none.
+     *
+     * @param requestStream
+     *            The http request to read from
+     * @param requestFormat
+     *            request body format
+     * @param acceptEncoding
+     * @param accept
+     *            value of the http Accept header, may be null
+     * @param response
+     *            The http response to write to
+     * @throws Exception
+     */
+    public void execute(InputStream requestStream, String requestFormat,
+            String acceptEncoding, String accept,
+            HttpServletResponse response) throws Exception {
         if (requestFormat == null) {
             throw new IllegalArgumentException(
                     "Unable to determine HTTP body format from request");
         }
-        /*
-         * TODO: Use HTTP "Accept:" header to determine best response format,
-         * default to request format if none set in accept
-         */
-        String responseFormat = requestFormat;
+        String responseFormat = getAcceptedFormat(accept);
+        if (responseFormat == null) {
+            responseFormat = requestFormat;
+        }
 
         ProtectiveHttpOutputStream out = new ProtectiveHttpOutputStream(
                 response, acceptEncoding);
@@ -109,6 +138,14 @@ public class HttpRequestServiceExecutor {
                 out.write(("No handlers for specified format: " + requestFormat)
                         .getBytes());
             }
+        } catch (RequestRejectedException e) {
+            /* request service is too busy for this type of request */
+            if (!out.used()) {
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+                response.setContentType("text/plain");
+                out.write(e.getMessage().getBytes());
+            }
         } finally {
             if (out != null) {
                 /* flushed needed or HttpGenerator warns of 'extra content' */
@@ -118,4 +155,35 @@ public class HttpRequestServiceExecutor {
         }
     }
 
+    /**
+     * Find the first media type in an Accept header that the executor can
+     * write
+     *
+     * @param accept
+     *            the Accept header value
+     * @return the format or null if no accepted format is supported
+     */
+    protected String getAcceptedFormat(String accept) {
+        if (accept == null) {
+            return null;
+        }
+        for (String mediaRange : accept.split(",")) {
+            int paramIndex = mediaRange.indexOf(';');
+            if (paramIndex >= 0) {
+                mediaRange = mediaRange.substring(0, paramIndex);
+            }
+            mediaRange = mediaRange.trim();
+            if (mediaRange.isEmpty() || mediaRange.contains("*")) {
+                continue;
+            }
+            try {
+                executor.getContentType(mediaRange);
+                return mediaRange;
+            } catch (UnsupportedFormatException e) {
+                // not supported, try the next one
+            }
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,231 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.requestsrv.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.raytheon.uf.common.util.stats.LogLinearHistogram;
+
+/**
+ * Latency, concurrency and response size metrics for a single request class.
+ * Each phase of a request is recorded separately: deserializing the request,
+ * handling it and serializing the response. Latencies are recorded in
+ * microseconds.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ * Oct 17, 2026           agent     Count responses from the response cache
+ * Oct 17, 2026           agent     LogLinearHistogram moved to common.util
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class RequestMetrics implements RequestMetricsMXBean {
+
+    private final String requestClass;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    private volatile LogLinearHistogram deserialize = new LogLinearHistogram();
+
+    private volatile LogLinearHistogram handle = new LogLinearHistogram();
+
+    private volatile LogLinearHistogram serialize = new LogLinearHistogram();
+
+    private volatile LogLinearHistogram responseSize = new LogLinearHistogram();
+
+    public RequestMetrics(String requestClass) {
+        this.requestClass = requestClass;
+    }
+
+    /**
+     * Called when a request starts being handled, must be followed by a call
+     * to {@link #handled(long, boolean)}.
+     */
+    public void started() {
+        int current = inFlight.incrementAndGet();
+        int peak = peakInFlight.get();
+        while (current > peak && !peakInFlight.compareAndSet(peak, current)) {
+            peak = peakInFlight.get();
+        }
+    }
+
+    /**
+     * Called when a request is done being handled.
+     *
+     * @param nanos
+     *            the time spent handling the request
+     * @param success
+     *            false if the handler threw an exception
+     */
+    public void handled(long nanos, boolean success) {
+        inFlight.decrementAndGet();
+        handle.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public void deserialized(long nanos) {
+        deserialize.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void serialized(long nanos, long bytes) {
+        serialize.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        responseSize.record(bytes);
+    }
+
+    /**
+     * Called instead of handling and serializing a request when the response
+     * is written from the response cache.
+     *
+     * @param bytes
+     *            the size of the cached response
+     */
+    public void cacheHit(long bytes) {
+        cacheHits.increment();
+        responseSize.record(bytes);
+    }
+
+    private static double toMs(long micros) {
+        return micros / 1000.0;
+    }
+
+    @Override
+    public String getRequestClass() {
+        return requestClass;
+    }
+
+    @Override
+    public long getCount() {
+        return handle.getCount();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    @Override
+    public double getTotalHandleSeconds() {
+        return handle.getSum() / 1_000_000.0;
+    }
+
+    @Override
+    public double getHandleMeanMs() {
+        return handle.getMean() / 1000.0;
+    }
+
+    @Override
+    public double getHandle50thPercentileMs() {
+        return toMs(handle.getValueAtPercentile(50));
+    }
+
+    @Override
+    public double getHandle95thPercentileMs() {
+        return toMs(handle.getValueAtPercentile(95));
+    }
+
+    @Override
+    public double getHandle99thPercentileMs() {
+        return toMs(handle.getValueAtPercentile(99));
+    }
+
+    @Override
+    public double getHandleMaxMs() {
+        return toMs(handle.getMax());
+    }
+
+    @Override
+    public double getDeserialize95thPercentileMs() {
+        return toMs(deserialize.getValueAtPercentile(95));
+    }
+
+    @Override
+    public double getDeserializeMaxMs() {
+        return toMs(deserialize.getMax());
+    }
+
+    @Override
+    public double getSerialize95thPercentileMs() {
+        return toMs(serialize.getValueAtPercentile(95));
+    }
+
+    @Override
+    public double getSerializeMaxMs() {
+        return toMs(serialize.getMax());
+    }
+
+    @Override
+    public long getResponseSize50thPercentile() {
+        return responseSize.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getResponseSize95thPercentile() {
+        return responseSize.getValueAtPercentile(95);
+    }
+
+    @Override
+    public long getResponseSizeMax() {
+        return responseSize.getMax();
+    }
+
+    @Override
+    public void reset() {
+        deserialize = new LogLinearHistogram();
+        handle = new LogLinearHistogram();
+        serialize = new LogLinearHistogram();
+        responseSize = new LogLinearHistogram();
+        errors.reset();
+        cacheHits.reset();
+        peakInFlight.set(inFlight.get());
+    }
+
+}
@@ -0,0 +1,91 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.requestsrv.metrics;
+
+/**
+ * JMX view of the {@link RequestMetrics} of a single request class. Times are
+ * in milliseconds and sizes are in bytes.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ * Oct 17, 2026           agent     Added getCacheHitCount()
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public interface RequestMetricsMXBean {
+
+    String getRequestClass();
+
+    long getCount();
+
+    long getErrorCount();
+
+    /**
+     * @return the number of requests answered from the response cache, these
+     *         are not included in the count.
+     */
+    long getCacheHitCount();
+
+    int getInFlight();
+
+    int getPeakInFlight();
+
+    /**
+     * @return the total time spent handling this request class, a measure of
+     *         how much of the thread pool it uses.
+     */
+    double getTotalHandleSeconds();
+
+    double getHandleMeanMs();
+
+    double getHandle50thPercentileMs();
+
+    double getHandle95thPercentileMs();
+
+    double getHandle99thPercentileMs();
+
+    double getHandleMaxMs();
+
+    double getDeserialize95thPercentileMs();
+
+    double getDeserializeMaxMs();
+
+    double getSerialize95thPercentileMs();
+
+    double getSerializeMaxMs();
+
+    long getResponseSize50thPercentile();
+
+    long getResponseSize95thPercentile();
+
+    long getResponseSizeMax();
+
+    /**
+     * Clear all the recorded values.
+     */
+    void reset();
+}
@@ -0,0 +1,160 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.requestsrv.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+import com.raytheon.uf.common.serialization.comm.RequestWrapper;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * Holds the {@link RequestMetrics} of every request class that has been
+ * executed. The metrics of each class are registered with the platform MBean
+ * server under com.raytheon.uf.edex.requestsrv:type=RequestMetrics and can be
+ * viewed as plain text through {@link #getReport()}.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ * Oct 17, 2026           agent     Report response cache hits
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class RequestMetricsRegistry {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(RequestMetricsRegistry.class);
+
+    private static final String JMX_DOMAIN = "com.raytheon.uf.edex.requestsrv";
+
+    private static final RequestMetricsRegistry instance = new RequestMetricsRegistry();
+
+    public static RequestMetricsRegistry getInstance() {
+        return instance;
+    }
+
+    private final ConcurrentMap<String, RequestMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Get the metrics for a request, wrapped requests are recorded as the
+     * class of the request they wrap.
+     *
+     * @param request
+     * @return
+     */
+    public RequestMetrics getMetrics(IServerRequest request) {
+        if (request instanceof RequestWrapper) {
+            request = ((RequestWrapper) request).getRequest();
+        }
+        return getMetrics(
+                request == null ? "null" : request.getClass().getName());
+    }
+
+    public RequestMetrics getMetrics(String requestClass) {
+        RequestMetrics result = metrics.get(requestClass);
+        if (result == null) {
+            RequestMetrics newMetrics = new RequestMetrics(requestClass);
+            result = metrics.putIfAbsent(requestClass, newMetrics);
+            if (result == null) {
+                result = newMetrics;
+                register(newMetrics);
+            }
+        }
+        return result;
+    }
+
+    private void register(RequestMetrics requestMetrics) {
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN
+                    + ":type=RequestMetrics,name="
+                    + ObjectName.quote(requestMetrics.getRequestClass()));
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(requestMetrics, name);
+        } catch (JMException e) {
+            statusHandler.warn("Unable to register request metrics for "
+                    + requestMetrics.getRequestClass() + " with JMX", e);
+        }
+    }
+
+    public Collection<RequestMetrics> getAllMetrics() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    /**
+     * Create a plain text table of the metrics of every request class, sorted
+     * so the classes that have spent the most total time being handled are
+     * first. Times are in milliseconds.
+     *
+     * @return the report
+     */
+    public String getReport() {
+        List<RequestMetrics> sorted = new ArrayList<>(metrics.values());
+        Collections.sort(sorted,
+                Comparator.comparingDouble(
+                        RequestMetrics::getTotalHandleSeconds).reversed());
+        int inFlight = 0;
+        for (RequestMetrics m : sorted) {
+            inFlight += m.getInFlight();
+        }
+
+        StringBuilder report = new StringBuilder(200 * (sorted.size() + 2));
+        report.append("In flight: ").append(inFlight).append('\n');
+        report.append(String.format(
+                "%-10s %9s %7s %9s %6s %6s %9s %9s %9s %9s %9s %9s %12s %12s %s%n",
+                "total(s)", "count", "errors", "hits", "active", "peak",
+                "mean", "p50", "p95", "p99", "deser95", "ser95", "size50",
+                "size95", "request"));
+        for (RequestMetrics m : sorted) {
+            report.append(String.format(
+                    "%-10.3f %9d %7d %9d %6d %6d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f %12d %12d %s%n",
+                    m.getTotalHandleSeconds(), m.getCount(),
+                    m.getErrorCount(), m.getCacheHitCount(),
+                    m.getInFlight(), m.getPeakInFlight(),
+                    m.getHandleMeanMs(), m.getHandle50thPercentileMs(),
+                    m.getHandle95thPercentileMs(),
+                    m.getHandle99thPercentileMs(),
+                    m.getDeserialize95thPercentileMs(),
+                    m.getSerialize95thPercentileMs(),
+                    m.getResponseSize50thPercentile(),
+                    m.getResponseSize95thPercentile(),
+                    m.getRequestClass()));
+        }
+        return report.toString();
+    }
+
+}
@@ -0,0 +1,171 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.requestsrv.scheduling;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lane that requests are admitted through by the {@link RequestScheduler}.
+ * Each lane limits how many of its requests execute at once; requests beyond
+ * that wait in a bounded queue for a limited time and are rejected when the
+ * queue is full or the wait expires.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class RequestLane {
+
+    private final String name;
+
+    private final int maxConcurrent;
+
+    private final int maxQueued;
+
+    private final long maxWaitMs;
+
+    /** null when the number of concurrent requests is not limited */
+    private final Semaphore permits;
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final LongAdder admitted = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param name
+     *            name of the lane, used in log and rejection messages
+     * @param maxConcurrent
+     *            the number of requests that may execute at once, 0 or less
+     *            for no limit
+     * @param maxQueued
+     *            the number of requests that may wait to execute
+     * @param maxWaitMs
+     *            how long a request may wait to execute before it is rejected
+     */
+    public RequestLane(String name, int maxConcurrent, int maxQueued,
+            long maxWaitMs) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitMs = maxWaitMs;
+        this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true)
+                : null;
+    }
+
+    /**
+     * Wait for a request to be allowed to execute in this lane. Every
+     * successful call must be followed by a call to {@link #release()}.
+     *
+     * @return true if the request may execute, false if it is rejected.
+     * @throws InterruptedException
+     */
+    public boolean acquire() throws InterruptedException {
+        /* a timed try respects the fairness of the semaphore, barging doesn't */
+        if (permits == null || permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+            return admitted();
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        try {
+            if (permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                return admitted();
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    private boolean admitted() {
+        active.incrementAndGet();
+        admitted.increment();
+        return true;
+    }
+
+    /**
+     * Release a request that was admitted by {@link #acquire()}.
+     */
+    public void release() {
+        active.decrementAndGet();
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public long getMaxWaitMs() {
+        return maxWaitMs;
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return name + ": active=" + getActive() + "/"
+                + (maxConcurrent > 0 ? maxConcurrent : "unlimited")
+                + ", queued=" + getQueued() + "/" + maxQueued + ", admitted="
+                + getAdmitted() + ", rejected=" + getRejected();
+    }
+
+}
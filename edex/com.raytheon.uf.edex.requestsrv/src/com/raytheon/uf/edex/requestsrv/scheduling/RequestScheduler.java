@@ -0,0 +1,206 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.requestsrv.scheduling;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+import com.raytheon.uf.common.serialization.comm.RequestWrapper;
+import com.raytheon.uf.edex.requestsrv.metrics.RequestMetrics;
+import com.raytheon.uf.edex.requestsrv.metrics.RequestMetricsRegistry;
+
+/**
+ * Admission control for requests entering the request service. Each request is
+ * classified into a {@link RequestLane} and must be admitted by that lane
+ * before it executes, so expensive requests are limited to their own lane and
+ * cannot use every request thread while quick interactive requests wait.
+ *
+ * A request is classified by, in order:
+ * <ol>
+ * <li>the lane configured for its class in the request lanes</li>
+ * <li>the large response lane if the 95th percentile response size recorded
+ * for its class is at least the large response size</li>
+ * <li>the default lane</li>
+ * </ol>
+ *
+ * Only requests entering through the stream executors are scheduled. Requests
+ * executed from within a handler are never scheduled since they could
+ * otherwise wait on a lane that their caller already holds.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer  Description
+ * ------------- -------- --------- --------------------------------------------
+ * Oct 17, 2026           agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class RequestScheduler {
+
+    private static final RequestScheduler instance = new RequestScheduler();
+
+    public static RequestScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * The number of responses that must be recorded for a class before the
+     * response size is used to classify it.
+     */
+    private static final int MIN_RESPONSE_SAMPLES = 20;
+
+    private volatile boolean enabled = false;
+
+    private volatile RequestLane defaultLane = new RequestLane("default", 0,
+            0, 0);
+
+    private volatile RequestLane largeResponseLane = null;
+
+    private volatile long largeResponseBytes = Long.MAX_VALUE;
+
+    private volatile Map<String, RequestLane> requestLanes = Collections
+            .emptyMap();
+
+    private final RequestMetricsRegistry metricsRegistry = RequestMetricsRegistry
+            .getInstance();
+
+    /**
+     * Find the lane for a request.
+     *
+     * @param request
+     * @return
+     */
+    public RequestLane classify(IServerRequest request) {
+        if (request instanceof RequestWrapper) {
+            request = ((RequestWrapper) request).getRequest();
+        }
+        if (request == null) {
+            return defaultLane;
+        }
+        String requestClass = request.getClass().getName();
+        RequestLane lane = requestLanes.get(requestClass);
+        if (lane != null) {
+            return lane;
+        }
+        RequestLane largeLane = largeResponseLane;
+        if (largeLane != null) {
+            RequestMetrics metrics = metricsRegistry.getMetrics(requestClass);
+            if (metrics.getCount() >= MIN_RESPONSE_SAMPLES && metrics
+                    .getResponseSize95thPercentile() >= largeResponseBytes) {
+                return largeLane;
+            }
+        }
+        return defaultLane;
+    }
+
+    /**
+     * Wait for a request to be admitted to its lane.
+     *
+     * @param request
+     * @return the lane the request was admitted to, which must be released
+     *         when the request is done, or null if scheduling is disabled.
+     * @throws RequestRejectedException
+     *             if the lane is full
+     */
+    public RequestLane admit(IServerRequest request)
+            throws RequestRejectedException {
+        if (!enabled) {
+            return null;
+        }
+        RequestLane lane = classify(request);
+        boolean admitted;
+        try {
+            admitted = lane.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            throw new RequestRejectedException("The " + lane.getName()
+                    + " request lane is full, try again later.");
+        }
+        return lane;
+    }
+
+    /**
+     * @return every configured lane.
+     */
+    public Set<RequestLane> getLanes() {
+        Set<RequestLane> lanes = new LinkedHashSet<>();
+        lanes.add(defaultLane);
+        if (largeResponseLane != null) {
+            lanes.add(largeResponseLane);
+        }
+        lanes.addAll(requestLanes.values());
+        return lanes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public RequestLane getDefaultLane() {
+        return defaultLane;
+    }
+
+    public void setDefaultLane(RequestLane defaultLane) {
+        this.defaultLane = defaultLane;
+    }
+
+    public RequestLane getLargeResponseLane() {
+        return largeResponseLane;
+    }
+
+    public void setLargeResponseLane(RequestLane largeResponseLane) {
+        this.largeResponseLane = largeResponseLane;
+    }
+
+    public long getLargeResponseBytes() {
+        return largeResponseBytes;
+    }
+
+    public void setLargeResponseBytes(long largeResponseBytes) {
+        this.largeResponseBytes = largeResponseBytes;
+    }
+
+    public Map<String, RequestLane> getRequestLanes() {
+        return requestLanes;
+    }
+
+    /**
+     * @param requestLanes
+     *            map of request class name to the lane for that class
+     */
+    public void setRequestLanes(Map<String, RequestLane> requestLanes) {
+        this.requestLanes = requestLanes;
+    }
+
+}
@@ -36,6 +36,14 @@ import com.raytheon.uf.common.util.registry.GenericRegistry;
 import com.raytheon.uf.common.util.registry.RegistryException;
 import com.raytheon.uf.common.util.stream.CountingOutputStream;
 import com.raytheon.uf.edex.requestsrv.RequestServiceExecutor;
+import com.raytheon.uf.edex.requestsrv.cache.CacheableRequest;
+import com.raytheon.uf.edex.requestsrv.cache.CapturingOutputStream;
+import com.raytheon.uf.edex.requestsrv.cache.ResponseCache;
+import com.raytheon.uf.edex.requestsrv.metrics.RequestMetrics;
+import com.raytheon.uf.edex.requestsrv.metrics.RequestMetricsRegistry;
+import com.raytheon.uf.edex.requestsrv.scheduling.RequestLane;
+import com.raytheon.uf.edex.requestsrv.scheduling.RequestRejectedException;
+import com.raytheon.uf.edex.requestsrv.scheduling.RequestScheduler;
 
 /**
  * This executor executes the {@link IServerRequest} deserialized from an
@@ -53,6 +61,12 @@ import com.raytheon.uf.edex.requestsrv.RequestServiceExecutor;
  * Jan 06, 2015 3789       bclement    added getContentType(), execute throws UnsupportedFormatException
  * Jun 17, 2015 4561       njensen     Log serialization exception to two logs
  * Oct 24, 2016 5951       dgilling    Log all incoming requests.
+ * Oct 17, 2026            agent       Record deserialize and serialize time and
+ *                                     response size of each request class
+ * Oct 17, 2026            agent       Admit requests through the
+ *                                     RequestScheduler
+ * Oct 17, 2026            agent       Answer repeated requests from the
+ *                                     ResponseCache
  * 
  * </pre>
  * 
@@ -95,7 +109,10 @@ public class SerializingStreamExecutor
         long startTime = System.currentTimeMillis();
         boolean success = false;
         IServerRequest request = null;
-        Object response;
+        RequestMetrics metrics = null;
+        CacheableRequest cacheable = null;
+        byte[] cachedResponse = null;
+        Object response = null;
         try {
             StreamSerializer inputSerializer = getRegisteredObject(inputFormat);
             if (inputSerializer == null) {
@@ -103,10 +120,33 @@ public class SerializingStreamExecutor
                         "No serializer registered for format: " + inputFormat);
             }
 
+            long deserializeStart = System.nanoTime();
             request = (IServerRequest) inputSerializer.deserialize(in);
-            response = executor.execute(request);
+            metrics = RequestMetricsRegistry.getInstance().getMetrics(request);
+            metrics.deserialized(System.nanoTime() - deserializeStart);
+            ResponseCache cache = ResponseCache.getInstance();
+            cacheable = cache.getCacheableRequest(request, outputFormat);
+            if (cacheable != null) {
+                cachedResponse = cache.get(cacheable);
+            }
+            if (cachedResponse == null) {
+                RequestLane lane = RequestScheduler.getInstance()
+                        .admit(request);
+                try {
+                    response = executor.execute(request);
+                } finally {
+                    if (lane != null) {
+                        lane.release();
+                    }
+                }
+            }
             success = true;
+        } catch (RequestRejectedException e) {
+            // nothing was executed, let the transport tell the client
+            requestLog.warn("Rejected " + request + ": " + e.getMessage());
+            throw e;
         } catch (AuthException e) {
+            cacheable = null;
             AuthServerErrorResponse resp = new AuthServerErrorResponse();
             resp.setUpdatedData(e.getUpdatedData());
             resp.setException(ExceptionWrapper.wrapThrowable(e));
@@ -119,6 +159,7 @@ public class SerializingStreamExecutor
             }
             requestLog.error(errorMsg.toString(), e);
         } catch (Throwable t) {
+            cacheable = null;
             ServerErrorResponse resp = new ServerErrorResponse();
             resp.setException(ExceptionWrapper.wrapThrowable(t));
             response = resp;
@@ -148,15 +189,40 @@ public class SerializingStreamExecutor
                 cout = new CountingOutputStream(out);
             }
 
-            // Perform serialization to stream
-            outputSerializer.serialize(response, cout);
+            if (cachedResponse != null) {
+                cout.write(cachedResponse);
+                metrics.cacheHit(cachedResponse.length);
+            } else {
+                // Perform serialization to stream
+                long serializeStart = System.nanoTime();
+                long startBytes = cout.getBytesWritten();
+                if (cacheable != null) {
+                    ResponseCache cache = ResponseCache.getInstance();
+                    CapturingOutputStream capture = new CapturingOutputStream(
+                            cout, cache.getMaxEntryBytes());
+                    outputSerializer.serialize(response, capture);
+                    byte[] serialized = capture.getCaptured();
+                    if (serialized != null) {
+                        cache.put(cacheable, serialized);
+                    }
+                } else {
+                    outputSerializer.serialize(response, cout);
+                }
+                if (metrics != null) {
+                    metrics.serialized(System.nanoTime() - serializeStart,
+                            cout.getBytesWritten() - startBytes);
+                }
+            }
 
             if (success) {
                 // Log response size if request was successful
                 long endTime = System.currentTimeMillis();
                 StringBuilder sb = new StringBuilder(300);
-                sb.append("Handled ").append(request.toString()).append(" in ")
-                        .append((endTime - startTime)).append("ms");
+                sb.append("Handled ").append(request.toString());
+                if (cachedResponse != null) {
+                    sb.append(" from cache");
+                }
+                sb.append(" in ").append((endTime - startTime)).append("ms");
                 sb.append(", response was size ").append(
                         SizeUtil.prettyByteSize(cout.getBytesWritten()));
                 requestLog.info(sb.toString());
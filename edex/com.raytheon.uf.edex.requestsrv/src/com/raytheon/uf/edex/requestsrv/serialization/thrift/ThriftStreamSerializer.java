@@ -25,6 +25,7 @@ import java.io.OutputStream;
 import com.raytheon.uf.common.serialization.DynamicSerializationManager;
 import com.raytheon.uf.common.serialization.DynamicSerializationManager.SerializationType;
 import com.raytheon.uf.common.serialization.SerializationException;
+import com.raytheon.uf.common.serialization.thrift.SelfDescribingBinaryProtocol;
 import com.raytheon.uf.edex.requestsrv.serialization.StreamSerializer;
 
 /**
@@ -39,6 +40,7 @@ import com.raytheon.uf.edex.requestsrv.serialization.StreamSerializer;
  * ------------ ---------- ----------- --------------------------
  * Aug 21, 2014 3541       mschenke    Initial creation
  * Jan 06, 2015 3789       bclement    added getContentType()
+ * Oct 16, 2026            agent       Added struct name dictionary variant
  * 
  * </pre>
  * 
@@ -50,6 +52,27 @@ public class ThriftStreamSerializer implements StreamSerializer {
 
     public static final String CONTENT_TYPE = "application/dynamic-serialize";
 
+    /**
+     * Content type of responses that encode struct names in a dictionary.
+     * Clients request it through the Accept header.
+     */
+    public static final String DICTIONARY_CONTENT_TYPE = "application/dynamic-serialize-v2";
+
+    private final boolean structDictionary;
+
+    public ThriftStreamSerializer() {
+        this(false);
+    }
+
+    /**
+     * @param structDictionary
+     *            true to write struct names to a dictionary, this only affects
+     *            serialization since both versions are always readable
+     */
+    public ThriftStreamSerializer(boolean structDictionary) {
+        this.structDictionary = structDictionary;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -60,8 +83,11 @@ public class ThriftStreamSerializer implements StreamSerializer {
     @Override
     public void serialize(Object object, OutputStream out)
             throws SerializationException {
+        int version = structDictionary
+                ? SelfDescribingBinaryProtocol.VERSION_STRUCT_DICTIONARY
+                : SelfDescribingBinaryProtocol.VERSION_STRUCT_NAMES;
         DynamicSerializationManager.getManager(SerializationType.Thrift)
-                .serialize(object, out);
+                .serialize(object, out, version);
     }
 
     /*
@@ -86,7 +112,7 @@ public class ThriftStreamSerializer implements StreamSerializer {
      */
     @Override
     public String getContentType() {
-        return CONTENT_TYPE;
+        return structDictionary ? DICTIONARY_CONTENT_TYPE : CONTENT_TYPE;
     }
 
 }
@@ -83,6 +83,8 @@ import com.raytheon.uf.edex.stats.util.ConfigLoader;
  * May 12, 2014 3154       rjpeter     Removed reclaimSpace call.
  * Jun 02, 2014 2715       rferrel     Change offline to prevent accumulation of hibernate records.
  * Jul 14, 2014 3373       bclement    jaxb manager api changes
+ * Oct 17, 2026            agent       Leave aggregation of new events to the
+ *                                     StatsAggregator when it is enabled.
  * </pre>
  * 
  * @author jsanchez
@@ -209,6 +211,19 @@ public class AggregateManager {
      * @return
      */
     private Calendar getBucketStartTime(Calendar date) {
+        return getBucketStartTime(date, bucketInterval);
+    }
+
+    /**
+     * Calculates the start time that will be the date rounded to the next
+     * bucket interval
+     * 
+     * @param date
+     * @param bucketInterval
+     *            in minutes
+     * @return
+     */
+    static Calendar getBucketStartTime(Calendar date, int bucketInterval) {
         int currentMinutes = date.get(Calendar.MINUTE);
 
         int incrementsWithinHour = bucketInterval;
@@ -270,10 +285,17 @@ public class AggregateManager {
                         Map<TimeRange, Multimap<StatsGroupingColumn, StatisticsEvent>> timeMap = sort(
                                 event, records);
 
-                        for (Map.Entry<TimeRange, Multimap<StatsGroupingColumn, StatisticsEvent>> timeMapEntry : timeMap
-                                .entrySet()) {
-                            aggregate(event, timeMapEntry.getKey(),
-                                    timeMapEntry.getValue());
+                        /*
+                         * The StatsAggregator has already aggregated these
+                         * events as they were sent, they are only stored to be
+                         * written offline.
+                         */
+                        if (!StatsAggregator.isEnabled()) {
+                            for (Map.Entry<TimeRange, Multimap<StatsGroupingColumn, StatisticsEvent>> timeMapEntry : timeMap
+                                    .entrySet()) {
+                                aggregate(event, timeMapEntry.getKey(),
+                                        timeMapEntry.getValue());
+                            }
                         }
 
                         try {
@@ -395,6 +417,18 @@ public class AggregateManager {
      * @return
      */
     private void validateIntervals(String bucketInt) {
+        bucketInterval = parseBucketInterval(bucketInt);
+    }
+
+    /**
+     * Parses a bucket interval. If value is invalid then the default value will
+     * be returned.
+     * 
+     * @param bucketInt
+     * @return the bucket interval in minutes
+     */
+    static int parseBucketInterval(String bucketInt) {
+        int bucketInterval;
         try {
             bucketInterval = Integer.parseInt(bucketInt);
         } catch (NumberFormatException e) {
@@ -415,6 +449,7 @@ public class AggregateManager {
                     .info("The bucket interval must go into an hour evenly. Setting bucket interval to '"
                             + bucketInterval + "'");
         }
+        return bucketInterval;
     }
 
     /**
@@ -0,0 +1,114 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.stats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact key for the group by values of a statistics event. The values are
+ * encoded into a single byte array so keys are cheap to create, hash and
+ * compare while events are aggregated. The values can be decoded again when the
+ * grouping needs to be stored.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+final class GroupingKey {
+
+    private final byte[] bytes;
+
+    private final int hashCode;
+
+    private GroupingKey(byte[] bytes) {
+        this.bytes = bytes;
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    /**
+     * Create a key from the group by values of an event.
+     *
+     * @param values
+     *            the group by values, in the order of the configured groups
+     * @return the key
+     */
+    static GroupingKey create(String[] values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+                values.length * 16);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (String value : values) {
+                out.writeUTF(value);
+            }
+        } catch (IOException e) {
+            // writeUTF only fails for values longer than 64K
+            throw new IllegalArgumentException(
+                    "Unable to encode grouping " + Arrays.toString(values), e);
+        }
+        return new GroupingKey(bytes.toByteArray());
+    }
+
+    /**
+     * @return the group by values, in the order they were created with
+     */
+    List<String> getValues() {
+        List<String> values = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes))) {
+            while (in.available() > 0) {
+                values.add(in.readUTF());
+            }
+        } catch (IOException e) {
+            // cannot happen reading from memory what was written by create()
+            throw new IllegalStateException(e);
+        }
+        return values;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        GroupingKey other = (GroupingKey) obj;
+        return hashCode == other.hashCode && Arrays.equals(bytes, other.bytes);
+    }
+
+}
@@ -0,0 +1,388 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.stats;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import com.raytheon.uf.common.event.Event;
+import com.raytheon.uf.common.serialization.JAXBManager;
+import com.raytheon.uf.common.serialization.MarshalOptions;
+import com.raytheon.uf.common.stats.AggregateRecord;
+import com.raytheon.uf.common.stats.StatsGrouping;
+import com.raytheon.uf.common.stats.StatsGroupingColumn;
+import com.raytheon.uf.common.stats.xml.StatisticsAggregate;
+import com.raytheon.uf.common.stats.xml.StatisticsEventConfig;
+import com.raytheon.uf.common.stats.xml.StatisticsGroup;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+import com.raytheon.uf.edex.core.EDEXUtil;
+import com.raytheon.uf.edex.stats.dao.AggregateRecordDao;
+import com.raytheon.uf.edex.stats.util.ConfigLoader;
+
+/**
+ * Aggregates statistics events as they are sent instead of storing every event
+ * and aggregating them later. Events are added to an in memory bucket for the
+ * time range and grouping of the event which keeps the count and the sum,
+ * minimum and maximum of each aggregate field. Once their time range has ended
+ * the buckets of every JVM are sent to a queue which is consumed by the
+ * clustered stats context, so only one JVM merges them with the aggregate
+ * table.
+ *
+ * Aggregation is enabled unless the stats.aggregate.streaming system property
+ * is false. When it is disabled events are stored and aggregated by
+ * {@link AggregateManager#scan()}.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * Oct 17, 2026            agent       Merge buckets in the clustered context
+ * </pre>
+ *
+ * @author agent
+ */
+@Service
+public class StatsAggregator {
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(StatsAggregator.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("stats.aggregate.streaming", "true"));
+
+    private static final Object[] EMPTY_OBJ_ARR = new Object[0];
+
+    /** Queue of finished buckets, consumed by the clustered stats context */
+    private static final String AGGREGATE_URI = "jms-durable:queue:stats.aggregate";
+
+    private final Map<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /** In minutes */
+    private final int bucketInterval;
+
+    private AggregateRecordDao aggregateDao;
+
+    private JAXBManager jaxbManager;
+
+    public StatsAggregator(String bucketInterval) {
+        this.bucketInterval = AggregateManager
+                .parseBucketInterval(bucketInterval);
+    }
+
+    /**
+     * @return true if events are aggregated as they are sent
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Adds an event to the bucket for its time and grouping.
+     * 
+     * @param config
+     *            the configuration for the type of the event
+     * @param event
+     */
+    public void add(StatisticsEventConfig config, Event event) {
+        String[] groupValues;
+        double[] values;
+        try {
+            groupValues = getGroupValues(config, event);
+            values = getAggregateValues(config, event);
+        } catch (Exception e) {
+            statusHandler.error("Unable to aggregate event of type "
+                    + config.getType() + ". Aggregation may be inaccurate.",
+                    e);
+            return;
+        }
+
+        long start = AggregateManager
+                .getBucketStartTime(event.getDate(), bucketInterval)
+                .getTimeInMillis();
+        BucketKey key = new BucketKey(config.getType(), start,
+                GroupingKey.create(groupValues));
+        /*
+         * a bucket may be flushed between getting it and adding to it, in which
+         * case a new bucket is created for the event
+         */
+        Bucket bucket;
+        do {
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(config));
+        } while (!bucket.add(values));
+    }
+
+    /**
+     * Sends the buckets which have ended to be merged with the aggregate table.
+     */
+    public void flush() {
+        flush(System.currentTimeMillis());
+    }
+
+    /**
+     * Sends the buckets which ended at or before a time to be merged with the
+     * aggregate table.
+     * 
+     * @param time
+     *            the time in millis
+     */
+    protected void flush(long time) {
+        long bucketMillis = bucketInterval * TimeUtil.MILLIS_PER_MINUTE;
+        ArrayList<AggregateRecord> records = new ArrayList<>();
+        Iterator<Map.Entry<BucketKey, Bucket>> it = buckets.entrySet()
+                .iterator();
+        while (it.hasNext()) {
+            Map.Entry<BucketKey, Bucket> entry = it.next();
+            BucketKey key = entry.getKey();
+            if (key.start + bucketMillis > time) {
+                continue;
+            }
+            Bucket bucket = entry.getValue();
+            it.remove();
+            bucket.close();
+            try {
+                records.addAll(createRecords(key, bucket, bucketMillis));
+            } catch (Exception e) {
+                statusHandler.error("Unable to create aggregate for "
+                        + key.type + ". Aggregation may be inaccurate.", e);
+            }
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            EDEXUtil.getMessageProducer().sendAsyncThriftUri(AGGREGATE_URI,
+                    records);
+        } catch (Exception e) {
+            statusHandler.error("Unable to send " + records.size()
+                    + " aggregates. Aggregation may be inaccurate.", e);
+        }
+    }
+
+    /**
+     * Merges aggregates sent by {@link #flush()} with the aggregate table. Each
+     * aggregate is merged in its own transaction so a failure only loses that
+     * aggregate. This must only be called from the clustered context so merges
+     * of the same aggregate do not run concurrently.
+     * 
+     * @param records
+     *            the aggregates to merge
+     */
+    public void merge(List<AggregateRecord> records) {
+        long t0 = System.currentTimeMillis();
+        int count = 0;
+        for (AggregateRecord record : records) {
+            try {
+                aggregateDao.mergeRecord(record);
+                count += 1;
+            } catch (Exception e) {
+                statusHandler.error("Unable to store aggregate for "
+                        + record.getEventType()
+                        + ". Aggregation may be inaccurate.", e);
+            }
+        }
+        if (count > 0) {
+            long t1 = System.currentTimeMillis();
+            statusHandler.info("Merged " + count + " stat aggregates in "
+                    + (t1 - t0) + " ms");
+        }
+    }
+
+    private List<AggregateRecord> createRecords(BucketKey key, Bucket bucket,
+            long bucketMillis) throws Exception {
+        List<StatsGrouping> groupings = new ArrayList<>(bucket.groups.length);
+        Iterator<String> values = key.grouping.getValues().iterator();
+        for (String group : bucket.groups) {
+            groupings.add(new StatsGrouping(group, values.next()));
+        }
+        StatsGroupingColumn column = new StatsGroupingColumn();
+        column.setGroup(groupings);
+        String groupKey = jaxbManager.marshalToXml(column,
+                MarshalOptions.UNFORMATTED);
+
+        Calendar start = TimeUtil.newGmtCalendar();
+        start.setTimeInMillis(key.start);
+        Calendar end = TimeUtil.newGmtCalendar();
+        end.setTimeInMillis(key.start + bucketMillis);
+
+        List<AggregateRecord> records = new ArrayList<>(bucket.fields.length);
+        for (int i = 0; i < bucket.fields.length; i++) {
+            AggregateRecord record = new AggregateRecord(key.type, start, end,
+                    groupKey, bucket.fields[i]);
+            record.setSum(bucket.sum[i]);
+            record.setMin(bucket.min[i]);
+            record.setMax(bucket.max[i]);
+            record.setCount(bucket.count);
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static String[] getGroupValues(StatisticsEventConfig config,
+            Event event) throws Exception {
+        List<Method> methods = config.getGroupByMethods();
+        String[] values = new String[Math.min(methods.size(),
+                config.getGroupList().size())];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = String
+                    .valueOf(methods.get(i).invoke(event, EMPTY_OBJ_ARR));
+        }
+        return values;
+    }
+
+    private static double[] getAggregateValues(StatisticsEventConfig config,
+            Event event) throws Exception {
+        List<Method> methods = config.getAggregateMethods();
+        double[] values = new double[Math.min(methods.size(),
+                config.getAggregateList().size())];
+        for (int i = 0; i < values.length; i++) {
+            Number number = (Number) methods.get(i).invoke(event,
+                    EMPTY_OBJ_ARR);
+            values[i] = number.doubleValue();
+        }
+        return values;
+    }
+
+    public void setAggregateDao(AggregateRecordDao aggregateDao) {
+        this.aggregateDao = aggregateDao;
+    }
+
+    public void setJaxbManager(JAXBManager jaxbManager) {
+        this.jaxbManager = jaxbManager;
+    }
+
+    private static final class BucketKey {
+
+        private final String type;
+
+        private final long start;
+
+        private final GroupingKey grouping;
+
+        private final int hashCode;
+
+        public BucketKey(String type, long start, GroupingKey grouping) {
+            this.type = type;
+            this.start = start;
+            this.grouping = grouping;
+            this.hashCode = (31 * (31 * type.hashCode() + Long.hashCode(start)))
+                    + grouping.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            BucketKey other = (BucketKey) obj;
+            return start == other.start && type.equals(other.type)
+                    && grouping.equals(other.grouping);
+        }
+    }
+
+    /**
+     * The aggregates of the events in one time range and grouping.
+     */
+    private static final class Bucket {
+
+        private final String[] groups;
+
+        private final String[] fields;
+
+        private final double[] sum;
+
+        private final double[] min;
+
+        private final double[] max;
+
+        private long count;
+
+        private boolean closed;
+
+        public Bucket(StatisticsEventConfig config) {
+            List<StatisticsGroup> groupList = config.getGroupList();
+            groups = new String[Math.min(groupList.size(),
+                    config.getGroupByMethods().size())];
+            for (int i = 0; i < groups.length; i++) {
+                groups[i] = groupList.get(i).getName();
+            }
+            List<StatisticsAggregate> aggregateList = config
+                    .getAggregateList();
+            fields = new String[Math.min(aggregateList.size(),
+                    config.getAggregateMethods().size())];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = aggregateList.get(i).getField();
+            }
+            sum = new double[fields.length];
+            min = new double[fields.length];
+            max = new double[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                min[i] = Double.MAX_VALUE;
+                max[i] = -Double.MAX_VALUE;
+            }
+        }
+
+        /**
+         * @return false if the bucket was closed and the values were not added
+         */
+        public synchronized boolean add(double[] values) {
+            if (closed) {
+                return false;
+            }
+            int length = Math.min(values.length, fields.length);
+            for (int i = 0; i < length; i++) {
+                double value = values[i];
+                sum[i] += value;
+                if (value < min[i]) {
+                    min[i] = value;
+                }
+                if (value > max[i]) {
+                    max[i] = value;
+                }
+            }
+            count += 1;
+            return true;
+        }
+
+        /**
+         * Stops any more values being added so the aggregates can be stored.
+         */
+        public synchronized void close() {
+            closed = true;
+        }
+    }
+}
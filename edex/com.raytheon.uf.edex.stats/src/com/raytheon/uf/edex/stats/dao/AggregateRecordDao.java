@@ -24,6 +24,9 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
 import com.raytheon.uf.common.stats.AggregateRecord;
 import com.raytheon.uf.common.util.CollectionUtil;
 import com.raytheon.uf.edex.database.DataAccessLayerException;
@@ -42,6 +45,8 @@ import com.raytheon.uf.edex.database.dao.SessionManagedDao;
  * Mar 18, 2013 1082       bphillip    Modified to extend sessionmanagedDao and use spring injection
  * May 22, 2013 1917       rjpeter     Added query methods for retrieving data about aggregates.
  * 8/1/2013     1693       bphillip    Fixed named parameters in queries
+ * Oct 17, 2026            agent       mergeRecord starts a transaction if
+ *                                     there is none
  * </pre>
  * 
  * @author jsanchez
@@ -65,6 +70,7 @@ public class AggregateRecordDao extends
      * @return an array of stat records. If an error occurs, then an array of
      *         size 0 will be returned.
      */
+    @Transactional(propagation = Propagation.REQUIRED)
     public void mergeRecord(AggregateRecord newRecord) {
         String hql = "from AggregateRecord rec where rec.eventType = :eventType and rec.field = :field"
                 + " and rec.grouping = :grouping and rec.startDate = :startDate and rec.endDate = :endDate";
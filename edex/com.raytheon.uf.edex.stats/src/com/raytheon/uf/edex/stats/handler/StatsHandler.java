@@ -37,6 +37,7 @@ import com.raytheon.uf.common.stats.xml.StatisticsConfig;
 import com.raytheon.uf.common.stats.xml.StatisticsEventConfig;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.edex.stats.StatsAggregator;
 import com.raytheon.uf.edex.stats.dao.StatsDao;
 import com.raytheon.uf.edex.stats.util.ConfigLoader;
 
@@ -54,6 +55,8 @@ import com.raytheon.uf.edex.stats.util.ConfigLoader;
  * Feb 05, 2013   1580     mpduff      EventBus refactor.
  * 3/18/2013    1802       bphillip    Modified to make transactional and use spring injection
  * 3/27/2013     1802      bphillip    Moved event bus registration from PostConstruct method to Spring static method call
+ * Oct 17, 2026            agent       Pass events to the StatsAggregator and only
+ *                                     store events which are written offline.
  * 
  * </pre>
  * 
@@ -68,6 +71,8 @@ public class StatsHandler {
 
     private StatsDao statsDao;
 
+    private StatsAggregator aggregator;
+
     private static Set<String> validEventTypes = new HashSet<String>();
 
     /**
@@ -120,6 +125,18 @@ public class StatsHandler {
         String clazz = String.valueOf(event.getClass().getName());
 
         if (validEventTypes.contains(clazz)) {
+            if (aggregator != null && StatsAggregator.isEnabled()) {
+                StatisticsEventConfig config = ConfigLoader.getInstance()
+                        .getTypeView().get(clazz);
+                if (config == null) {
+                    return;
+                }
+                aggregator.add(config, event);
+                // raw events are only needed to write them offline
+                if (config.getRawOfflineRetentionDays() < 0) {
+                    return;
+                }
+            }
             try {
                 byte[] bytes = SerializationUtil.transformToThrift(event);
 
@@ -139,4 +156,8 @@ public class StatsHandler {
         this.statsDao = statsDao;
     }
 
+    public void setAggregator(StatsAggregator aggregator) {
+        this.aggregator = aggregator;
+    }
+
 }
@@ -36,7 +36,6 @@ import org.opengis.referencing.operation.TransformException;
 import com.raytheon.uf.common.geospatial.MapUtil;
 import com.raytheon.uf.common.geospatial.data.GeographicDataSource;
 import com.raytheon.uf.common.geospatial.data.UnitConvertingDataFilter;
-import com.raytheon.uf.common.geospatial.interpolation.GridReprojection;
 import com.raytheon.uf.common.geospatial.interpolation.GridSampler;
 import com.raytheon.uf.common.geospatial.interpolation.Interpolation;
 import com.raytheon.uf.common.geospatial.interpolation.PrecomputedGridReprojection;
@@ -55,6 +54,7 @@ import com.raytheon.uf.common.units.UnitConv;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Aug 16, 2019 67949      tjensen     Initial creation
+ * Oct 17, 2026            agent       Reproject components in parallel.
  *
  * </pre>
  *
@@ -189,17 +189,17 @@ public class VectorGridData extends GeneralGridData {
             Interpolation interpolation)
             throws FactoryException, TransformException {
         GridGeometry2D newGeom = GridGeometry2D.wrap(newGridGeometry);
-        GridReprojection reproj = PrecomputedGridReprojection
+        PrecomputedGridReprojection reproj = PrecomputedGridReprojection
                 .getReprojection(gridGeometry, newGeom);
         GridSampler sampler = new GridSampler(interpolation);
         sampler.setSource(getUComponent());
         float[] udata = reproj
-                .reprojectedGrid(sampler,
+                .reprojectedGridParallel(sampler,
                         new FloatBufferWrapper(newGeom.getGridRange2D()))
                 .getArray();
         sampler.setSource(getVComponent());
         float[] vdata = reproj
-                .reprojectedGrid(sampler,
+                .reprojectedGridParallel(sampler,
                         new FloatBufferWrapper(newGeom.getGridRange2D()))
                 .getArray();
         // When reprojecting it is necessary to recalculate the
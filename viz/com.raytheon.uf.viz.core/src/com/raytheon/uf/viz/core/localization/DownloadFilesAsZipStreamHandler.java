@@ -0,0 +1,137 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.core.localization;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import com.raytheon.uf.common.comm.CommunicationException;
+import com.raytheon.uf.common.comm.HttpClient.IStreamHandler;
+import com.raytheon.uf.common.localization.FileLocker;
+import com.raytheon.uf.common.localization.FileLocker.Type;
+import com.raytheon.uf.common.localization.ILocalizationAdapter;
+import com.raytheon.uf.common.localization.LocalizationContext;
+import com.raytheon.uf.common.localization.msgs.ListResponseEntry;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * IStreamHandler that expects a zip file of localization files from the
+ * localization sync service in the InputStream and extracts each file to its
+ * location in the local localization directories.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class DownloadFilesAsZipStreamHandler implements IStreamHandler {
+
+    protected static final IUFStatusHandler logger = UFStatus
+            .getHandler(DownloadFilesAsZipStreamHandler.class);
+
+    protected final ILocalizationAdapter adapter;
+
+    protected final Map<String, ListResponseEntry> entries;
+
+    protected final List<ListResponseEntry> downloaded = new ArrayList<>();
+
+    /**
+     * @param adapter
+     *            the adapter used to find the local file for each entry
+     * @param entries
+     *            the requested files, keyed by the name of their entry in the
+     *            zip file
+     */
+    public DownloadFilesAsZipStreamHandler(ILocalizationAdapter adapter,
+            Map<String, ListResponseEntry> entries) {
+        this.adapter = adapter;
+        this.entries = entries;
+    }
+
+    @Override
+    public void handleStream(InputStream is) throws CommunicationException {
+        try (ZipInputStream zis = new ZipInputStream(is)) {
+            ZipEntry ze = zis.getNextEntry();
+            while (ze != null) {
+                ListResponseEntry entry = entries.get(ze.getName());
+                if (entry == null) {
+                    logger.debug("Ignoring unrequested localization file: "
+                            + ze.getName());
+                } else {
+                    extract(zis, entry);
+                }
+                zis.closeEntry();
+                ze = zis.getNextEntry();
+            }
+        } catch (IOException e) {
+            throw new CommunicationException(
+                    "Error handling stream of localization files to local filesystem",
+                    e);
+        }
+    }
+
+    protected void extract(InputStream in, ListResponseEntry entry)
+            throws IOException {
+        LocalizationContext context = entry.getContext();
+        File file = adapter.getPath(context, entry.getFileName());
+        if (file == null) {
+            return;
+        }
+        try {
+            /* Locking the file will create the parent directories */
+            FileLocker.lock(this, file, Type.WRITE);
+            file.delete();
+            Files.copy(in, file.toPath());
+            if (entry.getDate() != null) {
+                file.setLastModified(entry.getDate().getTime());
+            }
+            // Mark as read only if the file is a system level
+            if (context.getLocalizationLevel().isSystemLevel()) {
+                file.setReadOnly();
+            }
+            downloaded.add(entry);
+        } finally {
+            FileLocker.unlock(this, file);
+        }
+    }
+
+    /**
+     * @return the entries of the files that were extracted
+     */
+    public List<ListResponseEntry> getDownloaded() {
+        return downloaded;
+    }
+
+}
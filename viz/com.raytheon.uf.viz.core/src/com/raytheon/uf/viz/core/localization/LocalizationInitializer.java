@@ -31,7 +31,10 @@ import com.raytheon.uf.common.localization.LocalizationContext.LocalizationType;
 import com.raytheon.uf.common.localization.PathManagerFactory;
 import com.raytheon.uf.common.localization.msgs.GetServersResponse;
 import com.raytheon.uf.common.status.IPerformanceStatusHandler;
+import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.PerformanceStatus;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.status.UFStatus.Priority;
 import com.raytheon.uf.common.util.FileUtil;
 import com.raytheon.uf.viz.core.VizApp;
 import com.raytheon.uf.viz.core.VizServers;
@@ -59,6 +62,8 @@ import com.raytheon.uf.viz.core.exception.VizException;
  * Oct 16, 2019 7724       tgurney     Replace connection string with a
  *                                     {@link JMSConnectionInfo} object
  * Dec 11, 2017            mjames      Less logging (re-implemented 3/15/23)                                    
+ * Oct 17, 2026            agent       Optionally synchronize localization files
+ *                                     at startup
  *
  * </pre>
  *
@@ -67,6 +72,16 @@ import com.raytheon.uf.viz.core.exception.VizException;
 
 public class LocalizationInitializer {
 
+    /**
+     * When true the local copies of localization files are synchronized with
+     * the server in bulk at startup.
+     */
+    private static final boolean SYNC_FILES = Boolean
+            .getBoolean("localization.sync");
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(LocalizationInitializer.class);
+
     private final IPerformanceStatusHandler perfLog = PerformanceStatus
             .getHandler(getClass().getSimpleName() + ": ");
 
@@ -110,6 +125,19 @@ public class LocalizationInitializer {
                 }
             }
         }
+
+        if (SYNC_FILES) {
+            long t1 = System.currentTimeMillis();
+            try {
+                LocalizationManager.getInstance().syncFiles();
+            } catch (Exception e) {
+                statusHandler.handle(Priority.WARN,
+                        "Unable to synchronize localization files, files will be retrieved as they are used",
+                        e);
+            }
+            perfLog.logDuration("Synchronizing localization files",
+                    System.currentTimeMillis() - t1);
+        }
     }
 
     protected void setupServers() throws VizException {
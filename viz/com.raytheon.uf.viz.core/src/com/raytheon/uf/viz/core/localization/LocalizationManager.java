@@ -55,6 +55,7 @@ import com.raytheon.uf.common.localization.IPathManager;
 import com.raytheon.uf.common.localization.LocalizationContext;
 import com.raytheon.uf.common.localization.LocalizationContext.LocalizationLevel;
 import com.raytheon.uf.common.localization.LocalizationContext.LocalizationType;
+import com.raytheon.uf.common.localization.LocalizationFileKey;
 import com.raytheon.uf.common.localization.PathManager;
 import com.raytheon.uf.common.localization.PathManagerFactory;
 import com.raytheon.uf.common.localization.exception.LocalizationException;
@@ -121,6 +122,8 @@ import com.raytheon.uf.viz.core.requests.ThriftClient;
  *                                     {@link JMSConnectionInfo} object
  * Oct 24, 2022          srcarter@ucar Delete REGION and WORKSTATION levels
  * Apr 11, 2023          tiffanym@ucar Change how to retrieve hostname, fix for IPv6 
+ * Oct 17, 2026            agent       Added syncFiles() to refresh files from a
+ *                                     single manifest of the server
  *
  * </pre>
  *
@@ -141,6 +144,9 @@ public class LocalizationManager implements IPropertyChangeListener {
             + IPathManager.SEPARATOR
             + LocalizationLevel.BASE.toString().toLowerCase();
 
+    /** The file the metadata of synchronized files is kept in */
+    private static final String SYNC_CACHE_FILE = "localization.cache";
+
     /** The singleton instance */
     private static LocalizationManager instance;
 
@@ -634,6 +640,119 @@ public class LocalizationManager implements IPropertyChangeListener {
         }
     }
 
+    /**
+     * Synchronizes the local copies of the static localization files with the
+     * server, see {@link #syncFiles(LocalizationContext[])}. The base contexts
+     * which are only available locally are not synchronized.
+     *
+     * @throws LocalizationException
+     */
+    public void syncFiles() throws LocalizationException {
+        List<LocalizationContext> contexts = new ArrayList<>();
+        for (LocalizationType type : adapter.getStaticContexts()) {
+            for (LocalizationContext context : adapter
+                    .getLocalSearchHierarchy(type)) {
+                if (!CAVELocalizationAdapter.isCaveStaticBase(context)
+                        && !CAVELocalizationAdapter.isCaveConfigBase(context)) {
+                    contexts.add(context);
+                }
+            }
+        }
+        syncFiles(contexts.toArray(new LocalizationContext[0]));
+    }
+
+    /**
+     * Synchronizes the local copies of the files in the contexts with the
+     * server using a single manifest of every file on the server and a single
+     * download of the files which have changed, instead of listing and
+     * downloading files individually as they are used. Only files which have
+     * already been downloaded are refreshed, other files are still retrieved
+     * when they are first used. The metadata of every file in the manifest is
+     * added to the path manager cache so it does not need to be requested
+     * again.
+     *
+     * Files which have not been modified locally since the previous
+     * synchronization are compared using the checksum from the previous
+     * manifest rather than computing the checksum of the local file.
+     *
+     * @param contexts
+     * @throws LocalizationException
+     */
+    public void syncFiles(LocalizationContext[] contexts)
+            throws LocalizationException {
+        Map<LocalizationContext, List<ListResponseEntry>> manifest;
+        try {
+            manifest = restConnect.restGetManifest(contexts);
+        } catch (CommunicationException e) {
+            throw new LocalizationException(
+                    "Error retrieving localization manifest", e);
+        }
+
+        File cacheFile = new File(getUserDir(), SYNC_CACHE_FILE);
+        Map<LocalizationFileKey, ListResponseEntry> previous = new HashMap<>();
+        if (cacheFile.isFile()) {
+            try {
+                previous = PathManager.readCache(cacheFile);
+            } catch (Exception e) {
+                statusHandler.handle(Priority.DEBUG,
+                        "Error reading localization cache: " + cacheFile, e);
+            }
+        }
+
+        List<ListResponseEntry> allEntries = new ArrayList<>();
+        List<ListResponseEntry> changed = new ArrayList<>();
+        for (List<ListResponseEntry> entries : manifest.values()) {
+            allEntries.addAll(entries);
+            for (ListResponseEntry entry : entries) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                File file = buildFileLocation(entry.getContext(),
+                        entry.getFileName(), false);
+                if (file == null || !file.isFile()) {
+                    continue;
+                }
+                long remoteTime = entry.getDate().getTime();
+                ListResponseEntry old = previous.get(new LocalizationFileKey(
+                        entry.getFileName(), entry.getContext()));
+                if (old != null && old.getDate() != null
+                        && entry.getChecksum().equals(old.getChecksum())
+                        && file.lastModified() == old.getDate().getTime()
+                        && old.getDate().getTime() == remoteTime) {
+                    continue;
+                }
+                if (needDownload(file, entry.getChecksum())) {
+                    changed.add(entry);
+                } else {
+                    file.setLastModified(remoteTime);
+                }
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            try {
+                List<ListResponseEntry> downloaded = restConnect
+                        .restGetFiles(changed);
+                statusHandler.debug("Synchronized " + downloaded.size()
+                        + " of " + changed.size()
+                        + " changed localization files");
+            } catch (CommunicationException e) {
+                throw new LocalizationException(
+                        "Error retrieving localization files", e);
+            }
+        }
+
+        PathManager pathManager = (PathManager) PathManagerFactory
+                .getPathManager();
+        pathManager.cacheEntries(allEntries);
+        try {
+            pathManager.storeCache(cacheFile);
+        } catch (Exception e) {
+            statusHandler.handle(Priority.DEBUG,
+                    "Error writing localization cache: " + cacheFile, e);
+        }
+    }
+
     /**
      * Retrieval which recursively downloads files for the path given the name.
      * Should be used for directories
@@ -22,13 +22,21 @@ package com.raytheon.uf.viz.core.localization;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
+import org.apache.http.entity.ContentType;
 import org.apache.http.entity.FileEntity;
+import org.apache.http.entity.StringEntity;
 
 import com.raytheon.uf.common.comm.CommunicationException;
 import com.raytheon.uf.common.comm.HttpClient;
@@ -43,6 +51,7 @@ import com.raytheon.uf.common.localization.checksum.ChecksumIO;
 import com.raytheon.uf.common.localization.exception.LocalizationException;
 import com.raytheon.uf.common.localization.exception.LocalizationFileVersionConflictException;
 import com.raytheon.uf.common.localization.exception.LocalizationPermissionDeniedException;
+import com.raytheon.uf.common.localization.msgs.ListResponseEntry;
 import com.raytheon.uf.common.time.util.TimeUtil;
 import com.raytheon.uf.viz.core.VizApp;
 
@@ -63,6 +72,8 @@ import com.raytheon.uf.viz.core.VizApp;
  *                                  LocalizationFile methods
  * Jun 13, 2016  4907     mapeters  Added GET support for downloading a file to
  *                                  a given file location
+ * Oct 17, 2026           agent     Added manifest and batch file retrieval
+ *                                  from the localization sync service
  * 
  * </pre>
  * 
@@ -79,6 +90,16 @@ public class LocalizationRestConnector {
 
     private static final String DIR_FORMAT = "application/zip";
 
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private static final String GZIP = "gzip";
+
+    private static final String SYNC = "sync";
+
+    private static final String CONTEXT_PARAM = "context=";
+
+    private static final String QUERY_SEPARATOR = "&";
+
     private static final String IF_MATCH = "If-Match";
 
     private static final String CONTENT_MD5 = "Content-MD5";
@@ -142,6 +163,21 @@ public class LocalizationRestConnector {
             path.append(DIRECTORY_SUFFIX);
         }
 
+        return buildServiceAddress(path.toString(), null);
+    }
+
+    /**
+     * Builds an address on the http server from a path and query
+     * 
+     * @param path
+     *            the path on the server, starting with /
+     * @param query
+     *            the query, may be null
+     * @return a String URL for the path
+     * @throws CommunicationException
+     */
+    private String buildServiceAddress(String path, String query)
+            throws CommunicationException {
         try {
             String serverAddress = VizApp.getHttpServer();
             if (serverAddress.endsWith(DIRECTORY_SUFFIX)) {
@@ -161,7 +197,7 @@ public class LocalizationRestConnector {
              */
             URI fullURI = new URI(serverURI.getScheme(), null,
                     serverURI.getHost(), serverURI.getPort(),
-                    serverURI.getPath() + path.toString(), null, null);
+                    serverURI.getPath() + path, query, null);
             return fullURI.toASCIIString();
         } catch (URISyntaxException e) {
             throw new CommunicationException(
@@ -304,4 +340,82 @@ public class LocalizationRestConnector {
 
         return fum;
     }
+
+    /**
+     * Sends a GET request to the localization sync service for a manifest of
+     * every file in the contexts, including the checksum and last modified
+     * time of each file.
+     * 
+     * @param contexts
+     * @return the files and directories in each context
+     * @throws CommunicationException
+     *             if the http connection failed or the server returned a status
+     *             code other than 200
+     */
+    public Map<LocalizationContext, List<ListResponseEntry>> restGetManifest(
+            LocalizationContext[] contexts) throws CommunicationException {
+        StringBuilder query = new StringBuilder();
+        for (LocalizationContext context : contexts) {
+            if (query.length() > 0) {
+                query.append(QUERY_SEPARATOR);
+            }
+            query.append(CONTEXT_PARAM).append(context.toPath());
+        }
+        String url = buildServiceAddress(DIRECTORY_SUFFIX + SERVICE
+                + DIRECTORY_SUFFIX + SYNC, query.toString());
+        HttpGet request = new HttpGet(url);
+        request.addHeader(ACCEPT_ENCODING, GZIP);
+        ManifestStreamHandler streamHandler = new ManifestStreamHandler(
+                contexts);
+        HttpClientResponse resp = HttpClient.getInstance().executeRequest(
+                request, streamHandler);
+        if (resp.code != 200) {
+            throw new CommunicationException("Error code " + resp.code
+                    + " retrieving localization manifest: "
+                    + new String(resp.data, StandardCharsets.UTF_8));
+        }
+        return streamHandler.getEntries();
+    }
+
+    /**
+     * Sends a POST request to the localization sync service to download many
+     * files in a single zip file. Each file is written to its default location
+     * within localization with the last modified time from the server.
+     * 
+     * @param files
+     *            the files to download
+     * @return the files that were downloaded, files which no longer exist on
+     *         the server are left out
+     * @throws CommunicationException
+     *             if the http connection failed or the server returned a status
+     *             code other than 200
+     */
+    public List<ListResponseEntry> restGetFiles(
+            Collection<ListResponseEntry> files) throws CommunicationException {
+        Map<String, ListResponseEntry> entries = new LinkedHashMap<>(
+                files.size() * 2);
+        StringBuilder body = new StringBuilder();
+        for (ListResponseEntry file : files) {
+            String name = file.getContext().toPath() + DIRECTORY_SUFFIX
+                    + file.getFileName();
+            entries.put(name, file);
+            body.append(name).append('\n');
+        }
+        String url = buildServiceAddress(DIRECTORY_SUFFIX + SERVICE
+                + DIRECTORY_SUFFIX + SYNC, null);
+        HttpPost request = new HttpPost(url);
+        request.setEntity(new StringEntity(body.toString(),
+                ContentType.create("text/plain", StandardCharsets.UTF_8)));
+        request.addHeader(ACCEPT, DIR_FORMAT);
+        DownloadFilesAsZipStreamHandler streamHandler = new DownloadFilesAsZipStreamHandler(
+                adapter, entries);
+        HttpClientResponse resp = HttpClient.getInstance().executeRequest(
+                request, streamHandler);
+        if (resp.code != 200) {
+            throw new CommunicationException("Error code " + resp.code
+                    + " retrieving localization files: "
+                    + new String(resp.data, StandardCharsets.UTF_8));
+        }
+        return streamHandler.getDownloaded();
+    }
 }
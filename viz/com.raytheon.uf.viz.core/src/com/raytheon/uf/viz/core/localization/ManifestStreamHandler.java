@@ -0,0 +1,137 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ *
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ *
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ *
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.core.localization;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import com.raytheon.uf.common.comm.CommunicationException;
+import com.raytheon.uf.common.comm.HttpClient.IStreamHandler;
+import com.raytheon.uf.common.localization.ILocalizationFile;
+import com.raytheon.uf.common.localization.LocalizationContext;
+import com.raytheon.uf.common.localization.msgs.ListResponseEntry;
+
+/**
+ * IStreamHandler that parses a manifest of localization files from the
+ * localization sync service. The manifest may be gzip compressed.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class ManifestStreamHandler implements IStreamHandler {
+
+    private static final String CONTEXT_LINE_PREFIX = "context";
+
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private final Map<String, LocalizationContext> contexts;
+
+    private final Map<LocalizationContext, List<ListResponseEntry>> entries = new LinkedHashMap<>();
+
+    /**
+     * @param contexts
+     *            the contexts that were requested
+     */
+    public ManifestStreamHandler(LocalizationContext[] contexts) {
+        this.contexts = new HashMap<>(contexts.length * 2);
+        for (LocalizationContext context : contexts) {
+            this.contexts.put(context.toPath(), context);
+        }
+    }
+
+    @Override
+    public void handleStream(InputStream is) throws CommunicationException {
+        try {
+            InputStream in = new BufferedInputStream(is);
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            if (magic == GZIPInputStream.GZIP_MAGIC) {
+                in = new GZIPInputStream(in);
+            }
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<ListResponseEntry> current = null;
+            LocalizationContext context = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split(FIELD_SEPARATOR, 3);
+                if (fields.length == 2
+                        && CONTEXT_LINE_PREFIX.equals(fields[0])) {
+                    context = contexts.get(fields[1]);
+                    if (context == null) {
+                        throw new CommunicationException(
+                                "Unexpected context in localization manifest: "
+                                        + fields[1]);
+                    }
+                    current = new ArrayList<>();
+                    entries.put(context, current);
+                } else if (fields.length == 3 && current != null) {
+                    ListResponseEntry entry = new ListResponseEntry();
+                    entry.setContext(context);
+                    entry.setChecksum(fields[0]);
+                    entry.setDate(new Date(Long.parseLong(fields[1])));
+                    entry.setFileName(fields[2]);
+                    entry.setDirectory(ILocalizationFile.DIRECTORY_CHECKSUM
+                            .equals(fields[0]));
+                    entry.setExistsOnServer(true);
+                    current.add(entry);
+                } else {
+                    throw new CommunicationException(
+                            "Malformed localization manifest line: " + line);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new CommunicationException(
+                    "Error reading localization manifest", e);
+        }
+    }
+
+    /**
+     * @return the files and directories in each context
+     */
+    public Map<LocalizationContext, List<ListResponseEntry>> getEntries() {
+        return entries;
+    }
+
+}
@@ -6,6 +6,7 @@ import java.io.StringWriter;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
 
 import javax.jws.WebService;
 
@@ -68,6 +69,7 @@ import com.raytheon.uf.viz.core.localization.LocalizationManager;
  * Jan 27, 2016  5170      tjensen     Added logging of stats to sendRequest
  * Oct 19, 2017  6316      njensen     Get uniqueId from RequestWrapper
  * May 09, 2019  7766      kbisanz     Log long request messages instead of printing to STDOUT
+ * Oct 17, 2026            agent       Log request latency with the stats
  * 
  * </pre>
  * 
@@ -313,8 +315,9 @@ public class ThriftClient {
              * Log that we have a message. Size information in NOT logged here.
              * Sending a '1' for sent to trigger request increment.
              */
-            HttpClient.getInstance().getStats()
-                    .log(request.getClass().getSimpleName(), 1, 0);
+            HttpClient.getInstance().getStats().log(
+                    request.getClass().getSimpleName(), 1, 0,
+                    TimeUnit.MILLISECONDS.toNanos(time));
 
             if (time >= BAD_LOG_TIME) {
                 try (StringWriter sw = new StringWriter();